@@ -3,12 +3,14 @@ package com.engstrategy.alugai_api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication (exclude = {UserDetailsServiceAutoConfiguration.class})
 @EnableAsync
 @EnableScheduling
+@EnableCaching
 public class AlugaiApiApplication {
 
 	public static void main(String[] args) {
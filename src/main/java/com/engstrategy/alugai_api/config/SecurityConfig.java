@@ -50,6 +50,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/quadras/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/esportes").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/jogos-abertos").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/mapa").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/arenas/cidades").permitAll()
                         .requestMatchers("/api/v1/verify").permitAll()
                         .requestMatchers("/api/v1/resend-verification").permitAll()
@@ -57,6 +58,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/verify-reset-code").permitAll()
                         .requestMatchers("/api/v1/reset-password").permitAll()
                         .requestMatchers("/api/v1/feedback").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/stripe/webhook").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/asaas/webhook/**").permitAll()
 
@@ -72,6 +74,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/arena/agendamentos/**").hasRole("ARENA")
                         .requestMatchers(HttpMethod.PATCH, "/api/v1/atletas/me/alterar-senha").hasRole("ATLETA")
                         .requestMatchers(HttpMethod.PATCH, "/api/v1/arenas/me/alterar-senha").hasRole("ARENA")
+                        .requestMatchers("/actuator/**").denyAll()
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider)
@@ -104,7 +107,8 @@ public class SecurityConfig {
                 "Accept",
                 "Origin",
                 "Access-Control-Request-Method",
-                "Access-Control-Request-Headers"
+                "Access-Control-Request-Headers",
+                "Idempotency-Key"
         ));
 
         // Permite credenciais
@@ -2,6 +2,7 @@ package com.engstrategy.alugai_api.controller;
 
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoCreateDTO;
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoResponseDTO;
+import com.engstrategy.alugai_api.dto.agendamento.PaginaCursorDTO;
 import com.engstrategy.alugai_api.dto.agendamento.PixPagamentoResponseDTO;
 import com.engstrategy.alugai_api.dto.avaliacao.AvaliacaoDTO;
 import com.engstrategy.alugai_api.dto.avaliacao.AvaliacaoResponseDTO;
@@ -15,6 +16,7 @@ import com.engstrategy.alugai_api.model.enums.TipoAgendamento;
 import com.engstrategy.alugai_api.service.AgendamentoFixoService;
 import com.engstrategy.alugai_api.service.AgendamentoService;
 import com.engstrategy.alugai_api.service.AvaliacaoService;
+import com.engstrategy.alugai_api.service.impl.IdempotenciaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -54,19 +56,24 @@ public class AgendamentoController {
     private final AgendamentoMapper agendamentoMapper;
     private final AgendamentoFixoService agendamentoFixoService;
     private final AvaliacaoService avaliacaoService;
+    private final IdempotenciaService idempotenciaService;
 
     @PostMapping
     @Operation(summary = "Criar novo agendamento", security = @SecurityRequirement(name = "bearerAuth"))
     public ResponseEntity<AgendamentoResponseDTO> criarAgendamento(
             @RequestBody @Valid AgendamentoCreateDTO dto,
+            @Parameter(description = "Chave única da tentativa; repetições com a mesma chave devolvem o agendamento já criado")
+            @RequestHeader(value = IdempotenciaService.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal CustomUserDetails customUserDetails) {
 
         UUID atletaId = customUserDetails.getUserId();
 
-        Agendamento agendamento = agendamentoService.criarAgendamento(dto, atletaId);
+        return idempotenciaService.executar(idempotencyKey, atletaId, dto, () -> {
+            Agendamento agendamento = agendamentoService.criarAgendamento(dto, atletaId);
 
-        AgendamentoResponseDTO response = agendamentoMapper.fromAgendamentoToResponseDTO(agendamento);
-        return ResponseEntity.ok(response);
+            AgendamentoResponseDTO response = agendamentoMapper.fromAgendamentoToResponseDTO(agendamento);
+            return ResponseEntity.ok(response);
+        });
     }
 
     @DeleteMapping("/{id}")
@@ -102,7 +109,7 @@ public class AgendamentoController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Parameter(description = "Número da página (iniciando em 0)")
             @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Tamanho da página")
+            @Parameter(description = "Tamanho da página (máximo 100)")
             @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Campo para ordenação (ex: dataAgendamento)")
             @RequestParam(defaultValue = "data_agendamento") String sort,
@@ -121,7 +128,7 @@ public class AgendamentoController {
 
         Pageable pageableSemSort = PageRequest.of(page, size);
 
-        Page<Agendamento> agendamentosPage = agendamentoService.buscarCardsMestrePorAtletaId(
+        Page<AgendamentoResponseDTO> response = agendamentoService.buscarCardsMestrePorAtletaId(
                 atletaId,
                 dataInicio,
                 dataFim,
@@ -129,12 +136,39 @@ public class AgendamentoController {
                 status,
                 pageableSemSort);
 
-        Page<AgendamentoResponseDTO> response = agendamentosPage.map(
-                agendamentoMapper::fromAgendamentoToResponseDTO);
-
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/meus-agendamentos", params = "cursor")
+    @Operation(summary = "Listar meus agendamentos por cursor",
+            description = "Paginação por cursor: envie cursor vazio na primeira página e o proximoCursor recebido nas seguintes.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @Transactional(readOnly = true)
+    public ResponseEntity<PaginaCursorDTO<AgendamentoResponseDTO>> getMeusAgendamentosPorCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "Cursor da página (vazio para a primeira)")
+            @RequestParam String cursor,
+            @Parameter(description = "Tamanho da página (máximo 100)")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Data de início do filtro (opcional, formato: yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @Parameter(description = "Data de fim do filtro (opcional, formato: yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(description = "Tipo de agendamento (NORMAL, FIXO, AMBOS)")
+            @RequestParam(defaultValue = "AMBOS") TipoAgendamento tipoAgendamento,
+            @Parameter(description = "Status do agendamento (opcional)")
+            @RequestParam(required = false) StatusAgendamento status) {
+
+        return ResponseEntity.ok(agendamentoService.buscarCardsMestrePorAtletaIdAposCursor(
+                userDetails.getUserId(),
+                dataInicio,
+                dataFim,
+                tipoAgendamento,
+                status,
+                cursor,
+                size));
+    }
+
     @GetMapping("/fixo/{agendamentoFixoId}/filhos")
     @Operation(summary = "Listar todos os agendamentos individuais de uma recorrência fixa para o Atleta", security = @SecurityRequirement(name = "bearerAuth"))
     @Transactional(readOnly = true)
@@ -3,6 +3,7 @@ package com.engstrategy.alugai_api.controller;
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoExternoCreateDTO;
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoResponseDTO;
 import com.engstrategy.alugai_api.dto.agendamento.AtualizarStatusAgendamentoDTO;
+import com.engstrategy.alugai_api.dto.agendamento.PaginaCursorDTO;
 import com.engstrategy.alugai_api.dto.agendamento.arena.AgendamentoArenaResponseDTO;
 import com.engstrategy.alugai_api.exceptions.AccessDeniedException;
 import com.engstrategy.alugai_api.jwt.CustomUserDetails;
@@ -11,6 +12,7 @@ import com.engstrategy.alugai_api.model.Agendamento;
 import com.engstrategy.alugai_api.model.enums.StatusAgendamento;
 import com.engstrategy.alugai_api.service.AgendamentoFixoService;
 import com.engstrategy.alugai_api.service.AgendamentoService;
+import com.engstrategy.alugai_api.service.impl.IdempotenciaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -45,6 +47,7 @@ public class ArenaAgendamentoController {
     private final AgendamentoService agendamentoService;
     private final AgendamentoFixoService agendamentoFixoService;
     private final AgendamentoMapper agendamentoMapper;
+    private final IdempotenciaService idempotenciaService;
 
     @GetMapping
     @Operation(summary = "Listar cards mestre de agendamentos da arena (Agendamentos normais + Próxima Recorrência)", security = @SecurityRequirement(name = "bearerAuth"))
@@ -53,7 +56,7 @@ public class ArenaAgendamentoController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Parameter(description = "Número da página (iniciando em 0)")
             @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Tamanho da página")
+            @Parameter(description = "Tamanho da página (máximo 100)")
             @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Campo para ordenação (ex: dataAgendamento)")
             @RequestParam(defaultValue = "data_agendamento") String sort,
@@ -72,7 +75,7 @@ public class ArenaAgendamentoController {
 
         Pageable pageableSemSort = PageRequest.of(page, size);
 
-        Page<Agendamento> agendamentosPage = agendamentoService.buscarCardsMestrePorArenaId(
+        Page<AgendamentoArenaResponseDTO> response = agendamentoService.buscarCardsMestrePorArenaId(
                 arenaId,
                 dataInicio,
                 dataFim,
@@ -80,12 +83,39 @@ public class ArenaAgendamentoController {
                 status,
                 pageableSemSort);
 
-        Page<AgendamentoArenaResponseDTO> response = agendamentosPage.map(
-                agendamentoMapper::fromAgendamentoToArenaResponseDTO);
-
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Listar cards mestre de agendamentos da arena por cursor",
+            description = "Paginação por cursor: envie cursor vazio na primeira página e o proximoCursor recebido nas seguintes.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @Transactional(readOnly = true)
+    public ResponseEntity<PaginaCursorDTO<AgendamentoArenaResponseDTO>> listarAgendamentosArenaPorCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "Cursor da página (vazio para a primeira)")
+            @RequestParam String cursor,
+            @Parameter(description = "Tamanho da página (máximo 100)")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Data de início do filtro (opcional, formato: yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @Parameter(description = "Data de fim do filtro (opcional, formato: yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(description = "Status do agendamento (PENDENTE, FINALIZADO, etc.)")
+            @RequestParam(required = false) StatusAgendamento status,
+            @Parameter(description = "ID da quadra (opcional)")
+            @RequestParam(required = false) Long quadraId) {
+
+        return ResponseEntity.ok(agendamentoService.buscarCardsMestrePorArenaIdAposCursor(
+                userDetails.getUserId(),
+                dataInicio,
+                dataFim,
+                quadraId,
+                status,
+                cursor,
+                size));
+    }
+
     @GetMapping("/fixo/{agendamentoFixoId}/filhos")
     @Operation(summary = "Listar todos os agendamentos individuais de uma recorrência fixa (para o Drawer)", security = @SecurityRequirement(name = "bearerAuth"))
     @Transactional(readOnly = true)
@@ -146,6 +176,8 @@ public class ArenaAgendamentoController {
     @Operation(summary = "Criar novo agendamento externo (pela Arena)", security = @SecurityRequirement(name = "bearerAuth"))
     public ResponseEntity<AgendamentoResponseDTO> criarAgendamentoExterno(
             @RequestBody @Valid AgendamentoExternoCreateDTO dto,
+            @Parameter(description = "Chave única da tentativa; repetições com a mesma chave devolvem o agendamento já criado")
+            @RequestHeader(value = IdempotenciaService.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         // Garante que quem está logado é uma Arena
@@ -153,9 +185,11 @@ public class ArenaAgendamentoController {
             throw new AccessDeniedException("Apenas arenas podem criar agendamentos externos.");
         }
 
-        Agendamento agendamento = agendamentoService.criarAgendamentoExterno(dto, userDetails.getUserId());
-        AgendamentoResponseDTO response = agendamentoMapper.fromAgendamentoToResponseDTO(agendamento);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return idempotenciaService.executar(idempotencyKey, userDetails.getUserId(), dto, () -> {
+            Agendamento agendamento = agendamentoService.criarAgendamentoExterno(dto, userDetails.getUserId());
+            AgendamentoResponseDTO response = agendamentoMapper.fromAgendamentoToResponseDTO(agendamento);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
     }
 
     @DeleteMapping("/fixo/{agendamentoFixoId}")
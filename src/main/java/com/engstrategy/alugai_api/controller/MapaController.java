@@ -0,0 +1,52 @@
+package com.engstrategy.alugai_api.controller;
+
+import com.engstrategy.alugai_api.dto.mapa.MapaResponseDTO;
+import com.engstrategy.alugai_api.service.MapaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/mapa")
+@Tag(name = "Mapa", description = "Endpoints para exibição de arenas e jogos abertos no mapa")
+@RequiredArgsConstructor
+public class MapaController {
+
+    private final MapaService mapaService;
+
+    @GetMapping
+    @Operation(summary = "Buscar área do mapa",
+            description = "Retorna as arenas e jogos abertos da área visível agrupados em clusters (quantidade, centroide e esportes). " +
+                    "A partir do zoom 14 as arenas são retornadas individualmente.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Área do mapa retornada com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = MapaResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Área ou zoom inválidos")
+    })
+    public ResponseEntity<MapaResponseDTO> buscarArea(
+            @Parameter(description = "Latitude do canto sudoeste da área visível", required = true)
+            @RequestParam double latitudeMinima,
+            @Parameter(description = "Longitude do canto sudoeste da área visível", required = true)
+            @RequestParam double longitudeMinima,
+            @Parameter(description = "Latitude do canto nordeste da área visível", required = true)
+            @RequestParam double latitudeMaxima,
+            @Parameter(description = "Longitude do canto nordeste da área visível", required = true)
+            @RequestParam double longitudeMaxima,
+            @Parameter(description = "Nível de zoom do mapa (0 a 22)", required = true)
+            @RequestParam int zoom) {
+
+        MapaResponseDTO response = mapaService.buscarArea(latitudeMinima, longitudeMinima, latitudeMaxima, longitudeMaxima, zoom);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,6 +1,8 @@
 package com.engstrategy.alugai_api.controller;
 
 import com.engstrategy.alugai_api.dto.avaliacao.AvaliacaoResponseDTO;
+import com.engstrategy.alugai_api.dto.quadra.GradeDisponibilidadeResponseDTO;
+import com.engstrategy.alugai_api.dto.quadra.HorarioDisponivelProximoDTO;
 import com.engstrategy.alugai_api.dto.quadra.QuadraCreateDTO;
 import com.engstrategy.alugai_api.dto.quadra.QuadraResponseDTO;
 import com.engstrategy.alugai_api.dto.quadra.QuadraUpdateDTO;
@@ -8,8 +10,10 @@ import com.engstrategy.alugai_api.dto.quadra.SlotHorarioResponseDTO;
 import com.engstrategy.alugai_api.jwt.CustomUserDetails;
 import com.engstrategy.alugai_api.mapper.QuadraMapper;
 import com.engstrategy.alugai_api.model.Quadra;
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
 import com.engstrategy.alugai_api.service.AvaliacaoService;
 import com.engstrategy.alugai_api.service.QuadraService;
+import com.engstrategy.alugai_api.service.impl.DisponibilidadeStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +21,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -25,12 +30,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -44,6 +52,7 @@ public class QuadraController {
     private final QuadraService quadraService;
     private final QuadraMapper quadraMapper;
     private final AvaliacaoService avaliacaoService;
+    private final DisponibilidadeStreamService disponibilidadeStreamService;
 
     @PostMapping
     @Operation(summary = "Criar quadra", description = "Cria uma nova quadra no sistema")
@@ -168,6 +177,85 @@ public class QuadraController {
         return ResponseEntity.ok(horarios);
     }
 
+    @GetMapping(value = "/{id}/horarios-disponiveis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar a disponibilidade de uma quadra em tempo real",
+            description = "Abre um stream SSE que envia a lista de horários disponíveis (evento 'disponibilidade') e, depois, " +
+                    "cada período ocupado ou liberado (evento 'alteracao'). O evento 'recarregar' indica que a lista deve ser buscada novamente.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream aberto com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Quadra não encontrada"),
+            @ApiResponse(responseCode = "429", description = "Limite de streams abertos atingido")
+    })
+    public SseEmitter acompanharHorariosDisponiveis(
+            @Parameter(description = "ID da quadra", required = true)
+            @PathVariable("id") Long quadraId,
+
+            @Parameter(description = "Data para consulta no formato YYYY-MM-DD", required = true, example = "2025-07-20")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data,
+
+            HttpServletRequest request) {
+
+        return disponibilidadeStreamService.inscrever(quadraId, data, request.getRemoteAddr());
+    }
+
+    @GetMapping("/horarios-disponiveis/proximos")
+    @Operation(summary = "Buscar horários livres próximos",
+            description = "Retorna, para cada quadra do esporte dentro do raio, o primeiro horário livre na janela informada, " +
+                    "ordenado por distância e horário de início.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Horários retornados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de busca inválidos")
+    })
+    public ResponseEntity<List<HorarioDisponivelProximoDTO>> buscarHorariosDisponiveisProximos(
+            @Parameter(description = "Esporte desejado", required = true, example = "FUTSAL")
+            @RequestParam TipoEsporte esporte,
+
+            @Parameter(description = "Latitude do usuário", required = true, example = "-5.0892")
+            @RequestParam Double latitude,
+
+            @Parameter(description = "Longitude do usuário", required = true, example = "-42.8019")
+            @RequestParam Double longitude,
+
+            @Parameter(description = "Raio de busca em km (máximo de 50)", example = "5")
+            @RequestParam(defaultValue = "5") Double raioKm,
+
+            @Parameter(description = "Data no formato YYYY-MM-DD", required = true, example = "2025-07-20")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data,
+
+            @Parameter(description = "Início da janela de horário (HH:mm)", example = "18:00")
+            @RequestParam(defaultValue = "00:00") @DateTimeFormat(pattern = "HH:mm") LocalTime horarioInicio,
+
+            @Parameter(description = "Fim da janela de horário (HH:mm); 00:00 indica o fim do dia", example = "23:00")
+            @RequestParam(defaultValue = "00:00") @DateTimeFormat(pattern = "HH:mm") LocalTime horarioFim,
+
+            @Parameter(description = "Quantidade máxima de resultados (máximo de 50)", example = "20")
+            @RequestParam(defaultValue = "20") int limite) {
+
+        return ResponseEntity.ok(quadraService.buscarHorariosDisponiveisProximos(
+                esporte, latitude, longitude, raioKm, data, horarioInicio, horarioFim, limite));
+    }
+
+    @GetMapping("/arena/{arenaId}/grade-disponibilidade")
+    @Operation(summary = "Grade de disponibilidade das quadras de uma arena",
+            description = "Retorna, para todas as quadras da arena e cada dia do período, máscaras de bits com os slots livres, " +
+                    "ocupados e em manutenção. O bit i de cada máscara corresponde ao i-ésimo slot do dia da semana.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Grade retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Período inválido")
+    })
+    public ResponseEntity<GradeDisponibilidadeResponseDTO> getGradeDisponibilidade(
+            @Parameter(description = "ID da arena", required = true)
+            @PathVariable UUID arenaId,
+
+            @Parameter(description = "Data inicial no formato YYYY-MM-DD", required = true, example = "2025-07-20")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+
+            @Parameter(description = "Data final no formato YYYY-MM-DD (máximo de 31 dias)", required = true, example = "2025-07-26")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
+
+        return ResponseEntity.ok(quadraService.consultarGradeDisponibilidade(arenaId, dataInicio, dataFim));
+    }
+
     @GetMapping("/{quadraId}/avaliacoes")
     @Operation(summary = "Buscar todas as avaliações de uma quadra (com paginação)")
     public ResponseEntity<Page<AvaliacaoResponseDTO>> buscarAvaliacoesPorQuadra(
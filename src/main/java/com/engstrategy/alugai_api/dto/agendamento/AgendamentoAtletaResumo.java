@@ -0,0 +1,36 @@
+package com.engstrategy.alugai_api.dto.agendamento;
+
+import com.engstrategy.alugai_api.model.enums.StatusAgendamento;
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Colunas de um card da listagem de agendamentos do atleta, lidas sem carregar a entidade.
+ * Horários e valor são os do snapshot; os slots vêm em uma consulta à parte.
+ */
+public record AgendamentoAtletaResumo(
+        Long id,
+        LocalDate dataAgendamento,
+        LocalTime horarioInicio,
+        LocalTime horarioFim,
+        BigDecimal valorTotal,
+        TipoEsporte esporte,
+        StatusAgendamento status,
+        Integer vagasDisponiveis,
+        Long quadraId,
+        String nomeQuadra,
+        String urlFotoQuadra,
+        String nomeArena,
+        String urlFotoArena,
+        Boolean fixo,
+        Long agendamentoFixoId,
+        Boolean publico,
+        Boolean possuiSolicitacoes,
+        Long avaliacaoId,
+        Integer notaAvaliacao,
+        String comentarioAvaliacao,
+        Boolean avaliacaoDispensada) {
+}
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 @Data
@@ -18,8 +19,10 @@ public class AgendamentoCreateDTO {
     private Long quadraId;
     @NotNull
     private LocalDate dataAgendamento;
-    @NotNull
+    // Obrigatório quando os slots são persistidos; no modo de slots virtuais usa-se horarioInicio/horarioFim
     private List<Long> slotHorarioIds;
+    private LocalTime horarioInicio;
+    private LocalTime horarioFim;
     @NotNull
     private TipoEsporte esporte;
     @JsonProperty("isFixo")
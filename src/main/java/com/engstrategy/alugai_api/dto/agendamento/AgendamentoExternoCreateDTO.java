@@ -4,12 +4,12 @@ import com.engstrategy.alugai_api.model.enums.TipoEsporte;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.FutureOrPresent;
-import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,9 +24,13 @@ public class AgendamentoExternoCreateDTO {
     @FutureOrPresent
     private LocalDate dataAgendamento;
 
-    @NotEmpty
+    // Obrigatório quando os slots são persistidos; no modo de slots virtuais usa-se horarioInicio/horarioFim
     private List<Long> slotHorarioIds;
 
+    private LocalTime horarioInicio;
+
+    private LocalTime horarioFim;
+
     private TipoEsporte esporte;
 
     private UUID atletaExistenteId;
@@ -0,0 +1,16 @@
+package com.engstrategy.alugai_api.dto.agendamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@AllArgsConstructor
+public class OcupacaoHorarioDTO {
+    private Long quadraId;
+    private LocalDate data;
+    private LocalTime horarioInicio;
+    private LocalTime horarioFim;
+}
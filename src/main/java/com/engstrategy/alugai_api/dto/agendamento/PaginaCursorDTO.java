@@ -0,0 +1,22 @@
+package com.engstrategy.alugai_api.dto.agendamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de uma listagem por cursor. Para a próxima página, envie proximoCursor no parâmetro cursor;
+ * ele é nulo na última página.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaCursorDTO<T> {
+    private List<T> conteudo;
+    private String proximoCursor;
+    private boolean temMais;
+}
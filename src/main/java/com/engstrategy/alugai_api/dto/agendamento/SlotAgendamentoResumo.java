@@ -0,0 +1,16 @@
+package com.engstrategy.alugai_api.dto.agendamento;
+
+import com.engstrategy.alugai_api.model.enums.StatusDisponibilidade;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+
+// Slot de um agendamento, com o id do agendamento para agrupar o resultado de uma página
+public record SlotAgendamentoResumo(
+        Long agendamentoId,
+        Long id,
+        LocalTime horarioInicio,
+        LocalTime horarioFim,
+        BigDecimal valor,
+        StatusDisponibilidade statusDisponibilidade) {
+}
@@ -0,0 +1,34 @@
+package com.engstrategy.alugai_api.dto.agendamento.arena;
+
+import com.engstrategy.alugai_api.model.enums.StatusAgendamento;
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Colunas de um card da listagem de agendamentos da arena, lidas sem carregar a entidade.
+ * Slots e participantes vêm em consultas à parte, uma para a página inteira.
+ */
+public record AgendamentoArenaResumo(
+        Long id,
+        LocalDate dataAgendamento,
+        LocalTime horarioInicio,
+        LocalTime horarioFim,
+        BigDecimal valorTotal,
+        StatusAgendamento status,
+        Boolean fixo,
+        Boolean publico,
+        Integer vagasDisponiveis,
+        TipoEsporte esporte,
+        Long quadraId,
+        String nomeQuadra,
+        UUID atletaId,
+        String nomeAtleta,
+        String emailAtleta,
+        String telefoneAtleta,
+        String urlFotoAtleta,
+        Long agendamentoFixoId) {
+}
@@ -0,0 +1,14 @@
+package com.engstrategy.alugai_api.dto.agendamento.arena;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Participante de um agendamento, com o id do agendamento para agrupar o resultado de uma página
+public record ParticipanteAgendamentoResumo(
+        Long agendamentoId,
+        UUID id,
+        String nome,
+        String email,
+        String telefone,
+        LocalDateTime dataCriacao) {
+}
@@ -0,0 +1,26 @@
+package com.engstrategy.alugai_api.dto.jogosabertos;
+
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Colunas de um jogo aberto da listagem, lidas sem carregar o agendamento.
+ * Se o atleta logado já pediu para entrar é verificado depois, para a página inteira.
+ */
+public record JogoAbertoResumo(
+        Long agendamentoId,
+        LocalDate data,
+        LocalTime horarioInicio,
+        LocalTime horarioFim,
+        Integer vagasDisponiveis,
+        TipoEsporte esporte,
+        String nomeArena,
+        String nomeQuadra,
+        String cidade,
+        String urlFotoArena,
+        String urlFotoAtleta,
+        String nomeAtleta,
+        String telefoneAtleta) {
+}
@@ -4,14 +4,18 @@ import com.engstrategy.alugai_api.model.enums.StatusSolicitacao;
 import com.engstrategy.alugai_api.model.enums.TipoEsporte;
 import com.engstrategy.alugai_api.util.LocalTimeSerializer;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class MinhaParticipacaoResponseDTO {
     private Long solicitacaoId;
     private Long agendamentoId;
@@ -0,0 +1,26 @@
+package com.engstrategy.alugai_api.dto.mapa;
+
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArenaMapaDTO {
+    private UUID id;
+    private String nome;
+    private String urlFoto;
+    private Double latitude;
+    private Double longitude;
+    private Set<TipoEsporte> esportes;
+    private Long quantidadeJogosAbertos;
+    private Map<TipoEsporte, Long> jogosAbertosPorEsporte;
+}
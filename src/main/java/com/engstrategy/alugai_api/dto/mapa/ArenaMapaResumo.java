@@ -0,0 +1,7 @@
+package com.engstrategy.alugai_api.dto.mapa;
+
+import java.util.UUID;
+
+// Dados do pino de uma arena; a localização vem do índice em memória
+public record ArenaMapaResumo(UUID id, String nome, String urlFoto) {
+}
@@ -0,0 +1,24 @@
+package com.engstrategy.alugai_api.dto.mapa;
+
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterMapaDTO {
+    // Centroide das arenas agrupadas
+    private Double latitude;
+    private Double longitude;
+    private Integer quantidadeArenas;
+    private Long quantidadeJogosAbertos;
+    // Quantidade de arenas que oferecem cada esporte
+    private Map<TipoEsporte, Long> esportes;
+    private Map<TipoEsporte, Long> jogosAbertosPorEsporte;
+}
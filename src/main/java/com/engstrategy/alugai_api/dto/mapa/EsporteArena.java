@@ -0,0 +1,9 @@
+package com.engstrategy.alugai_api.dto.mapa;
+
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+
+import java.util.UUID;
+
+// Um esporte oferecido por alguma quadra da arena
+public record EsporteArena(UUID arenaId, TipoEsporte esporte) {
+}
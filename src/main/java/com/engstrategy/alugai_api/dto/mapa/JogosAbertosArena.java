@@ -0,0 +1,9 @@
+package com.engstrategy.alugai_api.dto.mapa;
+
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+
+import java.util.UUID;
+
+// Quantidade de jogos abertos da arena em um esporte
+public record JogosAbertosArena(UUID arenaId, TipoEsporte esporte, Long quantidade) {
+}
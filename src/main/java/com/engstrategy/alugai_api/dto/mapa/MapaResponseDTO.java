@@ -0,0 +1,20 @@
+package com.engstrategy.alugai_api.dto.mapa;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MapaResponseDTO {
+    private Integer zoom;
+    // true: a área veio agrupada em clusters; false: as arenas vêm individualmente
+    private boolean agrupado;
+    private List<ClusterMapaDTO> clusters;
+    private List<ArenaMapaDTO> arenas;
+}
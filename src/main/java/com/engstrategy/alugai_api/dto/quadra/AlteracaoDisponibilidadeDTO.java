@@ -0,0 +1,30 @@
+package com.engstrategy.alugai_api.dto.quadra;
+
+import com.engstrategy.alugai_api.util.LocalTimeSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Alteração enviada pelo stream de disponibilidade: o período [horarioInicio, horarioFim)
+ * da quadra passou a estar ocupado (ocupado = true) ou foi liberado.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlteracaoDisponibilidadeDTO {
+
+    private Long quadraId;
+    private LocalDate data;
+    @JsonSerialize(using = LocalTimeSerializer.class)
+    private LocalTime horarioInicio;
+    @JsonSerialize(using = LocalTimeSerializer.class)
+    private LocalTime horarioFim;
+    private boolean ocupado;
+}
@@ -0,0 +1,31 @@
+package com.engstrategy.alugai_api.dto.quadra;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * O bit i de cada máscara corresponde ao i-ésimo slot do dia da semana da data.
+ * As máscaras são serializadas como texto para não perder precisão em clientes JavaScript.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeDiaDTO {
+
+    private LocalDate data;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private long livres;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private long ocupados;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private long manutencao;
+}
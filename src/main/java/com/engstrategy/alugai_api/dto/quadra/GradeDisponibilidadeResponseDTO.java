@@ -0,0 +1,22 @@
+package com.engstrategy.alugai_api.dto.quadra;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeDisponibilidadeResponseDTO {
+
+    private UUID arenaId;
+    private LocalDate dataInicio;
+    private LocalDate dataFim;
+    private List<GradeQuadraDTO> quadras;
+}
@@ -0,0 +1,27 @@
+package com.engstrategy.alugai_api.dto.quadra;
+
+import com.engstrategy.alugai_api.model.enums.DiaDaSemana;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grade de uma quadra: os slots de cada dia da semana são enviados uma única vez
+ * e cada dia do período referencia esses slots pela posição nas máscaras de bits.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeQuadraDTO {
+
+    private Long quadraId;
+    private String nomeQuadra;
+    private Integer duracaoMinutos;
+    private Map<DiaDaSemana, List<GradeSlotDTO>> slotsPorDiaDaSemana;
+    private List<GradeDiaDTO> dias;
+}
@@ -0,0 +1,25 @@
+package com.engstrategy.alugai_api.dto.quadra;
+
+import com.engstrategy.alugai_api.util.LocalTimeSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeSlotDTO {
+
+    @JsonSerialize(using = LocalTimeSerializer.class)
+    private LocalTime horarioInicio;
+    @JsonSerialize(using = LocalTimeSerializer.class)
+    private LocalTime horarioFim;
+
+    private BigDecimal valor;
+}
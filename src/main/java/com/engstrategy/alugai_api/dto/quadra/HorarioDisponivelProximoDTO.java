@@ -0,0 +1,34 @@
+package com.engstrategy.alugai_api.dto.quadra;
+
+import com.engstrategy.alugai_api.util.LocalTimeSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HorarioDisponivelProximoDTO {
+
+    private UUID arenaId;
+    private String nomeArena;
+    private Long quadraId;
+    private String nomeQuadra;
+    private Double distanciaKm;
+
+    private LocalDate data;
+    @JsonSerialize(using = LocalTimeSerializer.class)
+    private LocalTime horarioInicio;
+    @JsonSerialize(using = LocalTimeSerializer.class)
+    private LocalTime horarioFim;
+
+    private BigDecimal valor;
+}
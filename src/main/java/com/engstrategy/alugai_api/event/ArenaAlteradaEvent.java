@@ -0,0 +1,18 @@
+package com.engstrategy.alugai_api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Publicado quando uma arena é criada, excluída ou tem alterados o endereço, a ativação, o status da
+ * assinatura ou os esportes das suas quadras, o que pode mudar a sua presença nas buscas por proximidade
+ * e no mapa.
+ */
+@Getter
+@AllArgsConstructor
+public class ArenaAlteradaEvent {
+
+    private final UUID arenaId;
+}
@@ -0,0 +1,16 @@
+package com.engstrategy.alugai_api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Publicado quando os horários de funcionamento de uma quadra mudam (ou a quadra é excluída)
+ * e quando um agendamento fixo é criado ou cancelado,
+ * o que pode alterar a disponibilidade de qualquer data dessa quadra.
+ */
+@Getter
+@AllArgsConstructor
+public class HorariosQuadraAlteradosEvent {
+
+    private final Long quadraId;
+}
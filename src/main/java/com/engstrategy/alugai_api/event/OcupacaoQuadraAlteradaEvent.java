@@ -0,0 +1,52 @@
+package com.engstrategy.alugai_api.event;
+
+import com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO;
+import com.engstrategy.alugai_api.model.Agendamento;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Publicado sempre que um agendamento passa a ocupar ou deixa de ocupar
+ * um horário de uma quadra em uma data.
+ */
+@Getter
+@AllArgsConstructor
+public class OcupacaoQuadraAlteradaEvent {
+
+    private final Long quadraId;
+    private final LocalDate data;
+    private final LocalTime horarioInicio;
+    private final LocalTime horarioFim;
+    private final boolean ocupado;
+
+    public static OcupacaoQuadraAlteradaEvent ocupou(Agendamento agendamento) {
+        return of(agendamento, true);
+    }
+
+    public static OcupacaoQuadraAlteradaEvent liberou(Agendamento agendamento) {
+        return of(agendamento, false);
+    }
+
+    public static OcupacaoQuadraAlteradaEvent liberou(OcupacaoHorarioDTO ocupacao) {
+        return new OcupacaoQuadraAlteradaEvent(
+                ocupacao.getQuadraId(),
+                ocupacao.getData(),
+                ocupacao.getHorarioInicio(),
+                ocupacao.getHorarioFim(),
+                false
+        );
+    }
+
+    private static OcupacaoQuadraAlteradaEvent of(Agendamento agendamento, boolean ocupado) {
+        return new OcupacaoQuadraAlteradaEvent(
+                agendamento.getQuadra().getId(),
+                agendamento.getDataAgendamento(),
+                agendamento.getHorarioInicio(),
+                agendamento.getHorarioFim(),
+                ocupado
+        );
+    }
+}
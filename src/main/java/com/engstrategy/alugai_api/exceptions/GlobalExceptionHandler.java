@@ -1,10 +1,13 @@
 package com.engstrategy.alugai_api.exceptions;
 
 import com.engstrategy.alugai_api.exceptions.response.ErrorResponse;
+import com.engstrategy.alugai_api.repository.AgendamentoRepository;
 import jakarta.mail.MessagingException;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -112,6 +115,37 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        ErrorResponse error = new ErrorResponse("CONCURRENT_MODIFICATION",
+                "O registro foi alterado por outra operação. Atualize os dados e tente novamente.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyInProgress(IdempotencyKeyInProgressException ex) {
+        ErrorResponse error = new ErrorResponse("IDEMPOTENCY_KEY_IN_PROGRESS", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException ex) {
+        ErrorResponse error = new ErrorResponse("IDEMPOTENCY_KEY_MISMATCH", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+    }
+
+    // Sobreposição detectada pela constraint do banco (ex.: agendamentos fixos gravados em lote)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        if (AgendamentoRepository.isViolacaoSobreposicao(ex)) {
+            ErrorResponse error = new ErrorResponse("UNAVAILABLE_DATE_TIME", "O horário selecionado já está ocupado nesta quadra.");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        }
+        ErrorResponse error = new ErrorResponse("DATA_INTEGRITY_VIOLATION",
+                "A operação viola uma restrição de integridade dos dados.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(MessagingException.class)
     public ResponseEntity<ErrorResponse> handleMessagingException(MessagingException ex) {
         ErrorResponse error = new ErrorResponse("Messaging Exception", ex.getMessage());
@@ -174,6 +208,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
 
+    @ExceptionHandler(LimiteDeStreamsExcedidoException.class)
+    public ResponseEntity<ErrorResponse> handleLimiteDeStreamsExcedido(LimiteDeStreamsExcedidoException ex) {
+        ErrorResponse error = new ErrorResponse("TOO_MANY_STREAMS", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
+
     @ExceptionHandler(AgendamentoCreationException.class)
     public ResponseEntity<ErrorResponse> handleAgendamentoCreation(AgendamentoCreationException ex) {
         ErrorResponse error = new ErrorResponse("AGENDAMENTO_CREATION_FAILED", ex.getMessage());
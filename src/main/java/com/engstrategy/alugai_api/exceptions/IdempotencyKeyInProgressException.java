@@ -0,0 +1,7 @@
+package com.engstrategy.alugai_api.exceptions;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.engstrategy.alugai_api.exceptions;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
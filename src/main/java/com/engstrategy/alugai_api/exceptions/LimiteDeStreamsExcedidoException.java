@@ -0,0 +1,7 @@
+package com.engstrategy.alugai_api.exceptions;
+
+public class LimiteDeStreamsExcedidoException extends RuntimeException {
+    public LimiteDeStreamsExcedidoException(String message) {
+        super(message);
+    }
+}
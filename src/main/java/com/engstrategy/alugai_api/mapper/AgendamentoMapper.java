@@ -1,10 +1,15 @@
 package com.engstrategy.alugai_api.mapper;
 
+import com.engstrategy.alugai_api.dto.agendamento.AgendamentoAtletaResumo;
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoCreateDTO;
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoExternoCreateDTO;
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoFixoResponseDTO;
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoResponseDTO;
+import com.engstrategy.alugai_api.dto.agendamento.PaginaCursorDTO;
+import com.engstrategy.alugai_api.dto.agendamento.SlotAgendamentoResumo;
 import com.engstrategy.alugai_api.dto.agendamento.arena.AgendamentoArenaResponseDTO;
+import com.engstrategy.alugai_api.dto.agendamento.arena.AgendamentoArenaResumo;
+import com.engstrategy.alugai_api.dto.agendamento.arena.ParticipanteAgendamentoResumo;
 import com.engstrategy.alugai_api.dto.agendamento.arena.ParticipanteDTO;
 import com.engstrategy.alugai_api.dto.avaliacao.AvaliacaoDetalhesDTO;
 import com.engstrategy.alugai_api.dto.quadra.SlotHorarioResponseDTO;
@@ -12,12 +17,17 @@ import com.engstrategy.alugai_api.exceptions.UserNotFoundException;
 import com.engstrategy.alugai_api.model.*;
 import com.engstrategy.alugai_api.model.enums.StatusAgendamento;
 import com.engstrategy.alugai_api.repository.QuadraRepository;
+import com.engstrategy.alugai_api.util.CursorAgendamento;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -30,6 +40,10 @@ public class AgendamentoMapper {
         Quadra quadra = quadraRepository.findById(dto.getQuadraId())
                 .orElseThrow(() -> new UserNotFoundException("Quadra não encontrada com ID: " + dto.getQuadraId()));
 
+        return fromCreateToAgendamento(dto, slots, atleta, quadra);
+    }
+
+    public Agendamento fromCreateToAgendamento(AgendamentoCreateDTO dto, Set<SlotHorario> slots, Atleta atleta, Quadra quadra) {
         return Agendamento.builder()
                 .dataAgendamento(dto.getDataAgendamento())
                 .esporte(dto.getEsporte())
@@ -182,6 +196,8 @@ public class AgendamentoMapper {
         createDTO.setQuadraId(externoDTO.getQuadraId());
         createDTO.setDataAgendamento(externoDTO.getDataAgendamento());
         createDTO.setSlotHorarioIds(externoDTO.getSlotHorarioIds());
+        createDTO.setHorarioInicio(externoDTO.getHorarioInicio());
+        createDTO.setHorarioFim(externoDTO.getHorarioFim());
         createDTO.setEsporte(externoDTO.getEsporte());
 
         // Ele nunca será 'fixo' ou 'público' neste contexto
@@ -192,4 +208,128 @@ public class AgendamentoMapper {
 
         return createDTO;
     }
-}
\ No newline at end of file
+
+    // Cards montados a partir das projeções, com os slots (e participantes) já agrupados por agendamento
+
+    public AgendamentoResponseDTO fromResumoToResponseDTO(AgendamentoAtletaResumo resumo,
+                                                          List<SlotAgendamentoResumo> slots) {
+        AvaliacaoDetalhesDTO avaliacaoDTO = null;
+        if (resumo.avaliacaoId() != null) {
+            avaliacaoDTO = AvaliacaoDetalhesDTO.builder()
+                    .idAvaliacao(resumo.avaliacaoId())
+                    .nota(resumo.notaAvaliacao())
+                    .comentario(resumo.comentarioAvaliacao())
+                    .build();
+        }
+
+        return AgendamentoResponseDTO.builder()
+                .id(resumo.id())
+                .dataAgendamento(resumo.dataAgendamento().format(DateTimeFormatter.ISO_LOCAL_DATE))
+                .horarioInicio(horarioInicio(resumo.horarioInicio(), slots))
+                .horarioFim(horarioFim(resumo.horarioFim(), slots))
+                .valorTotal(valorTotal(resumo.valorTotal(), slots))
+                .esporte(resumo.esporte())
+                .status(resumo.status())
+                .numeroJogadoresNecessarios(resumo.vagasDisponiveis())
+                .slotsHorario(slots.stream()
+                        .map(this::mapearSlotResumo)
+                        .collect(Collectors.toSet()))
+                .quadraId(resumo.quadraId())
+                .nomeQuadra(resumo.nomeQuadra())
+                .nomeArena(resumo.nomeArena())
+                .urlFotoQuadra(resumo.urlFotoQuadra())
+                .urlFotoArena(resumo.urlFotoArena())
+                .fixo(Boolean.TRUE.equals(resumo.fixo()))
+                .agendamentoFixoId(resumo.agendamentoFixoId())
+                .publico(Boolean.TRUE.equals(resumo.publico()))
+                .possuiSolicitacoes(Boolean.TRUE.equals(resumo.possuiSolicitacoes()))
+                .avaliacao(avaliacaoDTO)
+                .avaliacaoDispensada(resumo.avaliacaoDispensada())
+                .build();
+    }
+
+    public AgendamentoArenaResponseDTO fromResumoToArenaResponseDTO(AgendamentoArenaResumo resumo,
+                                                                    List<SlotAgendamentoResumo> slots,
+                                                                    List<ParticipanteAgendamentoResumo> participantes) {
+        return AgendamentoArenaResponseDTO.builder()
+                .id(resumo.id())
+                .dataAgendamento(resumo.dataAgendamento())
+                .horarioInicio(horarioInicio(resumo.horarioInicio(), slots))
+                .horarioFim(horarioFim(resumo.horarioFim(), slots))
+                .valorTotal(valorTotal(resumo.valorTotal(), slots))
+                .status(resumo.status())
+                .isFixo(Boolean.TRUE.equals(resumo.fixo()))
+                .isPublico(Boolean.TRUE.equals(resumo.publico()))
+                .vagasDisponiveis(resumo.vagasDisponiveis())
+                .esporte(resumo.esporte())
+                .quadraId(resumo.quadraId())
+                .nomeQuadra(resumo.nomeQuadra())
+                .atletaId(resumo.atletaId())
+                .nomeAtleta(resumo.nomeAtleta())
+                .emailAtleta(resumo.emailAtleta())
+                .telefoneAtleta(resumo.telefoneAtleta())
+                .urlFotoAtleta(resumo.urlFotoAtleta())
+                .totalParticipantes(participantes.size())
+                .participantes(participantes.stream()
+                        .map(participante -> ParticipanteDTO.builder()
+                                .id(participante.id())
+                                .nome(participante.nome())
+                                .email(participante.email())
+                                .telefone(participante.telefone())
+                                .dataEntrada(participante.dataCriacao())
+                                .build())
+                        .collect(Collectors.toList()))
+                .slotsHorario(slots.stream()
+                        .map(this::mapearSlotResumo)
+                        .collect(Collectors.toSet()))
+                .agendamentoFixoId(resumo.agendamentoFixoId())
+                .build();
+    }
+
+    private SlotHorarioResponseDTO mapearSlotResumo(SlotAgendamentoResumo slot) {
+        return SlotHorarioResponseDTO.builder()
+                .id(slot.id())
+                .horarioInicio(slot.horarioInicio())
+                .horarioFim(slot.horarioFim())
+                .valor(slot.valor())
+                .statusDisponibilidade(slot.statusDisponibilidade())
+                .build();
+    }
+
+    // Sem snapshot, os horários e o valor saem dos slots, como em Agendamento
+    private LocalTime horarioInicio(LocalTime snapshot, List<SlotAgendamentoResumo> slots) {
+        return snapshot != null ? snapshot : slots.stream()
+                .map(SlotAgendamentoResumo::horarioInicio)
+                .min(LocalTime::compareTo)
+                .orElse(null);
+    }
+
+    private LocalTime horarioFim(LocalTime snapshot, List<SlotAgendamentoResumo> slots) {
+        return snapshot != null ? snapshot : slots.stream()
+                .map(SlotAgendamentoResumo::horarioFim)
+                .max(LocalTime::compareTo)
+                .orElse(null);
+    }
+
+    private BigDecimal valorTotal(BigDecimal snapshot, List<SlotAgendamentoResumo> slots) {
+        return snapshot != null ? snapshot : slots.stream()
+                .map(SlotAgendamentoResumo::valor)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    // O próximo cursor aponta para o último item entregue
+    public <T, R> PaginaCursorDTO<R> toPaginaCursor(Slice<T> pagina,
+                                                    Function<T, CursorAgendamento> posicao,
+                                                    Function<T, R> conversor) {
+        List<T> itens = pagina.getContent();
+        String proximoCursor = pagina.hasNext() && !itens.isEmpty()
+                ? posicao.apply(itens.get(itens.size() - 1)).codificar()
+                : null;
+
+        return PaginaCursorDTO.<R>builder()
+                .conteudo(itens.stream().map(conversor).collect(Collectors.toList()))
+                .proximoCursor(proximoCursor)
+                .temMais(proximoCursor != null)
+                .build();
+    }
+}
@@ -1,10 +1,8 @@
 package com.engstrategy.alugai_api.mapper;
 
 import com.engstrategy.alugai_api.dto.jogosabertos.JogoAbertoResponseDTO;
-import com.engstrategy.alugai_api.dto.jogosabertos.MinhaParticipacaoResponseDTO;
+import com.engstrategy.alugai_api.dto.jogosabertos.JogoAbertoResumo;
 import com.engstrategy.alugai_api.dto.jogosabertos.SolicitacaoEntradaDTO;
-import com.engstrategy.alugai_api.model.Agendamento;
-import com.engstrategy.alugai_api.model.Atleta;
 import com.engstrategy.alugai_api.model.SolicitacaoEntrada;
 import org.springframework.stereotype.Component;
 
@@ -14,25 +12,26 @@ import java.math.RoundingMode;
 @Component
 public class JogoAbertoMapper {
 
-    public JogoAbertoResponseDTO toJogoAbertoResponseDTO(Agendamento agendamento) {
-        if (agendamento == null) {
+    public JogoAbertoResponseDTO toJogoAbertoResponseDTO(JogoAbertoResumo jogo, boolean jaSolicitado) {
+        if (jogo == null) {
             return null;
         }
 
         return JogoAbertoResponseDTO.builder()
-                .agendamentoId(agendamento.getId())
-                .data(agendamento.getDataAgendamento())
-                .horarioInicio(agendamento.getHorarioInicio())
-                .horarioFim(agendamento.getHorarioFim())
-                .vagasDisponiveis(agendamento.getVagasDisponiveis())
-                .esporte(agendamento.getEsporte())
-                .nomeArena(agendamento.getQuadra().getArena().getNome())
-                .nomeQuadra(agendamento.getQuadra().getNomeQuadra())
-                .cidade(agendamento.getQuadra().getArena().getEndereco().getCidade())
-                .urlFotoArena(agendamento.getQuadra().getArena().getUrlFoto())
-                .urlFotoAtleta(agendamento.getAtleta().getUrlFoto())
-                .nomeAtleta(agendamento.getAtleta().getNome())
-                .telefoneAtleta(agendamento.getAtleta().getTelefone())
+                .agendamentoId(jogo.agendamentoId())
+                .data(jogo.data())
+                .horarioInicio(jogo.horarioInicio())
+                .horarioFim(jogo.horarioFim())
+                .vagasDisponiveis(jogo.vagasDisponiveis())
+                .esporte(jogo.esporte())
+                .nomeArena(jogo.nomeArena())
+                .nomeQuadra(jogo.nomeQuadra())
+                .cidade(jogo.cidade())
+                .urlFotoArena(jogo.urlFotoArena())
+                .urlFotoAtleta(jogo.urlFotoAtleta())
+                .nomeAtleta(jogo.nomeAtleta())
+                .telefoneAtleta(jogo.telefoneAtleta())
+                .jaSolicitado(jaSolicitado)
                 .build();
     }
 
@@ -51,29 +50,4 @@ public class JogoAbertoMapper {
                 .status(solicitacao.getStatus())
                 .build();
     }
-
-    public MinhaParticipacaoResponseDTO toMinhaParticipacaoResponseDTO(SolicitacaoEntrada solicitacao) {
-        if (solicitacao == null || solicitacao.getAgendamento() == null) {
-            return null;
-        }
-
-        Agendamento agendamento = solicitacao.getAgendamento();
-        Atleta dono = agendamento.getAtleta();
-
-        return MinhaParticipacaoResponseDTO.builder()
-                .solicitacaoId(solicitacao.getId())
-                .agendamentoId(agendamento.getId())
-                .nomeArena(agendamento.getQuadra().getArena().getNome())
-                .nomeQuadra(agendamento.getQuadra().getNomeQuadra())
-                .urlFotoArena(agendamento.getQuadra().getArena().getUrlFoto())
-                .data(agendamento.getDataAgendamento())
-                .horarioInicio(agendamento.getHorarioInicio())
-                .horarioFim(agendamento.getHorarioFim())
-                .esporte(agendamento.getEsporte())
-                .status(solicitacao.getStatus())
-                .nomeDono(dono.getNome())
-                .telefoneDono(dono.getTelefone())
-                .urlFotoDono(dono.getUrlFoto())
-                .build();
-    }
-}
\ No newline at end of file
+}
@@ -11,12 +11,22 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 @Entity
+@Table(name = "agendamento", indexes = {
+        // Filtros das listagens, dono (atleta ou quadra) + período, na ordem do cursor (data, horário, id)
+        @Index(name = "idx_agendamento_atleta_cursor",
+                columnList = "atleta_id, data_agendamento, horario_inicio_snapshot, id"),
+        @Index(name = "idx_agendamento_quadra_cursor",
+                columnList = "quadra_id, data_agendamento, horario_inicio_snapshot, id"),
+        // Próxima ocorrência de cada recorrência (cards)
+        @Index(name = "idx_agendamento_fixo_status_data", columnList = "agendamento_fixo_id, status, data_agendamento")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,7 +35,9 @@ import java.util.Set;
 public class Agendamento {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Sequência com alocação em blocos para permitir inserts em lote (JDBC batch)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "agendamento_seq")
+    @SequenceGenerator(name = "agendamento_seq", sequenceName = "agendamento_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "data_agendamento")
@@ -105,6 +117,10 @@ public class Agendamento {
     @Column(name = "asaas_payment_id")
     private String asaasPaymentId;
 
+    // Controle de concorrência otimista; as atualizações em lote das vagas também incrementam a versão
+    @Version
+    private Long versao;
+
     // Métodos utilitários
     public LocalTime getHorarioInicio() {
         // Prioriza snapshot se disponível, senão calcula dos slots
@@ -141,7 +157,7 @@ public class Agendamento {
         this.horarioInicioSnapshot = getHorarioInicio();
         this.horarioFimSnapshot = getHorarioFim();
         this.valorTotalSnapshot = getValorTotal();
-        this.dataSnapshot = LocalDateTime.now();
+        this.dataSnapshot = LocalDateTime.now(ZoneId.of("America/Sao_Paulo"));
     }
 
     public boolean possuiSolicitacoes() {
@@ -1,5 +1,6 @@
 package com.engstrategy.alugai_api.model;
 
+import com.engstrategy.alugai_api.model.enums.DiaDaSemana;
 import com.engstrategy.alugai_api.model.enums.PeriodoAgendamento;
 import com.engstrategy.alugai_api.model.enums.StatusAgendamentoFixo;
 import jakarta.persistence.*;
@@ -7,9 +8,18 @@ import lombok.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * Regra de um agendamento recorrente: mesma quadra, mesmo dia da semana e mesmo horário, semanalmente
+ * de dataInicio até dataFim. Apenas as ocorrências até materializadoAte existem como Agendamento;
+ * as seguintes são criadas aos poucos pelo AgendamentoFixoMaterializacaoJob.
+ */
 @Entity
 @Getter
 @Setter
@@ -31,12 +41,50 @@ public class AgendamentoFixo {
     @Column(name = "data_fim")
     private LocalDate dataFim;
 
+    // Última data coberta por agendamentos materializados (data_fim nas recorrências criadas por completo)
+    @Column(name = "materializado_ate", nullable = false)
+    private LocalDate materializadoAte;
+
     @Enumerated(EnumType.STRING)
     private PeriodoAgendamento periodo;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "quadra_id")
+    private Quadra quadra;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dia_da_semana")
+    private DiaDaSemana diaDaSemana;
+
+    @Column(name = "horario_inicio")
+    private LocalTime horarioInicio;
+
+    @Column(name = "horario_fim")
+    private LocalTime horarioFim;
+
+    // Datas da recorrência que não geram agendamento (conflito conhecido na criação)
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "agendamento_fixo_data_ignorada", joinColumns = @JoinColumn(name = "agendamento_fixo_id"))
+    @Column(name = "data")
+    private Set<LocalDate> datasIgnoradas = new HashSet<>();
+
     @Enumerated(EnumType.STRING)
     private StatusAgendamentoFixo status;
 
+    // Resumo mantido por AgendamentoFixoRepository.atualizarResumo (somente leitura para o JPA):
+    // a próxima ocorrência ativa a partir de hoje, que vira o card da recorrência nas listagens
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "proxima_ocorrencia_id", insertable = false, updatable = false)
+    private Agendamento proximaOcorrencia;
+
+    // Ocorrências ativas a partir de hoje, incluindo as ainda não materializadas
+    @Column(name = "ocorrencias_restantes", insertable = false, updatable = false)
+    private Integer ocorrenciasRestantes;
+
+    @Column(name = "ocorrencias_canceladas", insertable = false, updatable = false)
+    private Integer ocorrenciasCanceladas;
+
     @ManyToOne
     @JoinColumn(name = "atleta_id", nullable = false)
     private Atleta atleta;
@@ -45,6 +93,31 @@ public class AgendamentoFixo {
     @OneToMany(mappedBy = "agendamentoFixo", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Agendamento> agendamentos = new ArrayList<>();
 
+    /**
+     * Datas da recorrência ainda não materializadas dentro do período [de, ate].
+     */
+    public List<LocalDate> datasNaoMaterializadas(LocalDate de, LocalDate ate) {
+        List<LocalDate> datas = new ArrayList<>();
+        if (materializadoAte == null || status != StatusAgendamentoFixo.ATIVO) {
+            return datas;
+        }
+
+        LocalDate inicio = de.isAfter(materializadoAte) ? de : materializadoAte.plusDays(1);
+        LocalDate fim = ate.isBefore(dataFim) ? ate : dataFim;
+        if (inicio.isAfter(fim)) {
+            return datas;
+        }
+
+        // Primeira ocorrência semanal a partir de "inicio"
+        long semanas = (ChronoUnit.DAYS.between(dataInicio, inicio) + 6) / 7;
+        for (LocalDate data = dataInicio.plusWeeks(Math.max(0, semanas)); !data.isAfter(fim); data = data.plusWeeks(1)) {
+            if (!datasIgnoradas.contains(data)) {
+                datas.add(data);
+            }
+        }
+        return datas;
+    }
+
     @PrePersist
     protected void onCreate() {
         dataCriacao = LocalDateTime.now();
@@ -0,0 +1,67 @@
+package com.engstrategy.alugai_api.model;
+
+import com.engstrategy.alugai_api.model.enums.StatusEmail;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * E-mail gravado na mesma transação da operação que o originou (outbox).
+ * O EmailOutboxJob envia os pendentes em lotes; se a transação for revertida, o e-mail nunca existe.
+ */
+@Entity
+@Table(name = "email_pendente", indexes = {
+        @Index(name = "idx_email_pendente_status_proxima", columnList = "status, proxima_tentativa")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailPendente {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "email_pendente_seq")
+    @SequenceGenerator(name = "email_pendente_seq", sequenceName = "email_pendente_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String destinatario;
+
+    @Column(nullable = false)
+    private String assunto;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String conteudoHtml;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusEmail status;
+
+    @Builder.Default
+    private int tentativas = 0;
+
+    @Column(name = "proxima_tentativa", nullable = false)
+    private LocalDateTime proximaTentativa;
+
+    @Column(name = "ultimo_erro", length = 1000)
+    private String ultimoErro;
+
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_envio")
+    private LocalDateTime dataEnvio;
+
+    @PrePersist
+    protected void onCreate() {
+        dataCriacao = LocalDateTime.now();
+        if (status == null) {
+            status = StatusEmail.PENDENTE;
+        }
+        if (proximaTentativa == null) {
+            proximaTentativa = dataCriacao;
+        }
+    }
+}
@@ -19,7 +19,8 @@ import java.util.Set;
 public class HorarioFuncionamento {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "horario_funcionamento_seq")
+    @SequenceGenerator(name = "horario_funcionamento_seq", sequenceName = "horario_funcionamento_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
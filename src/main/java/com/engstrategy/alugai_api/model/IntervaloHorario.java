@@ -18,7 +18,8 @@ import java.util.List;
 public class IntervaloHorario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "intervalo_horario_seq")
+    @SequenceGenerator(name = "intervalo_horario_seq", sequenceName = "intervalo_horario_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "inicio")
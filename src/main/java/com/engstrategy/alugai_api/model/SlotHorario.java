@@ -19,7 +19,8 @@ import java.util.List;
 public class SlotHorario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "slot_horario_seq")
+    @SequenceGenerator(name = "slot_horario_seq", sequenceName = "slot_horario_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "horario_inicio", nullable = false)
@@ -12,7 +12,8 @@ import lombok.*;
 public class SolicitacaoEntrada {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "solicitacao_entrada_seq")
+    @SequenceGenerator(name = "solicitacao_entrada_seq", sequenceName = "solicitacao_entrada_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
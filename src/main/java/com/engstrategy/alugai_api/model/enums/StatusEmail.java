@@ -0,0 +1,7 @@
+package com.engstrategy.alugai_api.model.enums;
+
+public enum StatusEmail {
+    PENDENTE,
+    ENVIADO,
+    FALHOU
+}
@@ -1,7 +1,92 @@
 package com.engstrategy.alugai_api.repository;
 
 import com.engstrategy.alugai_api.model.AgendamentoFixo;
+import com.engstrategy.alugai_api.model.enums.DiaDaSemana;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface AgendamentoFixoRepository extends JpaRepository<AgendamentoFixo, Long> {
+
+    // Próxima ocorrência ativa e contadores da recorrência (PostgreSQL); completar com o WHERE.
+    // :hoje é a data atual em America/Sao_Paulo, e não o CURRENT_DATE do fuso do banco
+    // A carga inicial das recorrências existentes (V8) usa a mesma conta
+    String ATUALIZAR_RESUMO_SQL = "UPDATE agendamento_fixo af SET " +
+            "proxima_ocorrencia_id = (SELECT a.id FROM agendamento a " +
+            "    WHERE a.agendamento_fixo_id = af.id AND a.status IN ('PENDENTE', 'AGUARDANDO_PAGAMENTO', 'PAGO') " +
+            "    AND a.data_agendamento >= :hoje " +
+            "    ORDER BY a.data_agendamento, a.horario_inicio_snapshot, a.id LIMIT 1), " +
+            "ocorrencias_restantes = (SELECT COUNT(*) FROM agendamento a " +
+            "    WHERE a.agendamento_fixo_id = af.id AND a.status IN ('PENDENTE', 'AGUARDANDO_PAGAMENTO', 'PAGO') " +
+            "    AND a.data_agendamento >= :hoje) " +
+            // Datas semanais da regra ainda não materializadas, exceto as ignoradas por conflito
+            "  + CASE WHEN af.status = 'ATIVO' AND af.materializado_ate < af.data_fim THEN (" +
+            "    SELECT COUNT(*) FROM generate_series(af.data_inicio, af.data_fim, INTERVAL '7 days') AS s(dia) " +
+            "    WHERE CAST(s.dia AS date) > af.materializado_ate AND CAST(s.dia AS date) >= :hoje " +
+            "    AND CAST(s.dia AS date) NOT IN (SELECT i.data FROM agendamento_fixo_data_ignorada i " +
+            "        WHERE i.agendamento_fixo_id = af.id)" +
+            "  ) ELSE 0 END, " +
+            "ocorrencias_canceladas = (SELECT COUNT(*) FROM agendamento a " +
+            "    WHERE a.agendamento_fixo_id = af.id AND a.status = 'CANCELADO') ";
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = ATUALIZAR_RESUMO_SQL + "WHERE af.id IN (:ids)", nativeQuery = true)
+    int atualizarResumo(@Param("ids") Collection<Long> ids, @Param("hoje") LocalDate hoje);
+
+    // Com a virada do dia a próxima ocorrência avança
+    @Modifying(flushAutomatically = true)
+    @Query(value = ATUALIZAR_RESUMO_SQL + "WHERE af.status = 'ATIVO' OR af.proxima_ocorrencia_id IS NOT NULL",
+            nativeQuery = true)
+    int atualizarResumoDasAtivas(@Param("hoje") LocalDate hoje);
+
+    // Sobreposição de [horarioInicio, horarioFim) com [inicio, fim); um fim menor ou igual ao início (ex.: 00:00)
+    // termina no dia seguinte, como na constraint agendamento_sem_sobreposicao
+    String SOBREPOE_HORARIO = "(af.horarioInicio < :fim OR :fim <= :inicio) " +
+            "AND (af.horarioFim > :inicio OR af.horarioFim <= af.horarioInicio)";
+
+    // Verifica se alguma recorrência ativa tem ocorrência ainda não materializada que se sobrepõe a [inicio, fim) na data
+    @Query("SELECT COUNT(af) > 0 FROM AgendamentoFixo af " +
+            "WHERE af.quadra.id = :quadraId AND af.status = 'ATIVO' " +
+            "AND af.diaDaSemana = :diaDaSemana " +
+            "AND af.materializadoAte < :data AND af.dataFim >= :data " +
+            "AND :data NOT MEMBER OF af.datasIgnoradas " +
+            "AND " + SOBREPOE_HORARIO)
+    boolean existeRecorrenciaNoHorario(@Param("quadraId") Long quadraId,
+                                       @Param("data") LocalDate data,
+                                       @Param("diaDaSemana") DiaDaSemana diaDaSemana,
+                                       @Param("inicio") LocalTime inicio,
+                                       @Param("fim") LocalTime fim);
+
+    // Recorrências ativas de várias quadras com ocorrências não materializadas no período
+    @Query("SELECT DISTINCT af FROM AgendamentoFixo af LEFT JOIN FETCH af.datasIgnoradas " +
+            "WHERE af.quadra.id IN :quadraIds AND af.status = 'ATIVO' " +
+            "AND af.materializadoAte < af.dataFim " +
+            "AND af.materializadoAte < :dataFim AND af.dataFim >= :dataInicio")
+    List<AgendamentoFixo> findRecorrenciasNaoMaterializadas(@Param("quadraIds") Collection<Long> quadraIds,
+                                                            @Param("dataInicio") LocalDate dataInicio,
+                                                            @Param("dataFim") LocalDate dataFim);
+
+    // Recorrências ativas de uma quadra, no dia da semana, com ocorrências não materializadas sobrepostas a [inicio, fim)
+    @Query("SELECT DISTINCT af FROM AgendamentoFixo af LEFT JOIN FETCH af.datasIgnoradas " +
+            "WHERE af.quadra.id = :quadraId AND af.status = 'ATIVO' " +
+            "AND af.diaDaSemana = :diaDaSemana " +
+            "AND af.materializadoAte < af.dataFim " +
+            "AND " + SOBREPOE_HORARIO)
+    List<AgendamentoFixo> findRecorrenciasNoHorario(@Param("quadraId") Long quadraId,
+                                                    @Param("diaDaSemana") DiaDaSemana diaDaSemana,
+                                                    @Param("inicio") LocalTime inicio,
+                                                    @Param("fim") LocalTime fim);
+
+    // Recorrências ativas cuja janela materializada termina antes do limite
+    @Query("SELECT af.id FROM AgendamentoFixo af " +
+            "WHERE af.status = 'ATIVO' " +
+            "AND af.materializadoAte < af.dataFim AND af.materializadoAte < :limite " +
+            "ORDER BY af.id")
+    List<Long> findIdsParaMaterializar(@Param("limite") LocalDate limite);
 }
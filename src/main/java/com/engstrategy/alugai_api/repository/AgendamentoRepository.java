@@ -1,14 +1,19 @@
 package com.engstrategy.alugai_api.repository;
 
+import com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO;
+import com.engstrategy.alugai_api.dto.agendamento.SlotAgendamentoResumo;
+import com.engstrategy.alugai_api.dto.agendamento.arena.ParticipanteAgendamentoResumo;
 import com.engstrategy.alugai_api.dto.arena.QuadraEstatisticaDTO;
 import com.engstrategy.alugai_api.model.Agendamento;
 import com.engstrategy.alugai_api.model.Quadra;
 import com.engstrategy.alugai_api.model.SlotHorario;
 import com.engstrategy.alugai_api.model.enums.StatusAgendamento;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,12 +22,22 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AgendamentoRepository extends JpaRepository<Agendamento, Long>, JpaSpecificationExecutor<Agendamento> {
+public interface AgendamentoRepository extends JpaRepository<Agendamento, Long>, JpaSpecificationExecutor<Agendamento>,
+        AgendamentoRepositoryCustom {
+
+    // Constraint de exclusão criada na V9: dois agendamentos não cancelados da mesma quadra não se sobrepõem
+    String CONSTRAINT_SOBREPOSICAO = "agendamento_sem_sobreposicao";
+
+    static boolean isViolacaoSobreposicao(DataAccessException e) {
+        String mensagem = e.getMostSpecificCause().getMessage();
+        return mensagem != null && mensagem.contains(CONSTRAINT_SOBREPOSICAO);
+    }
 
     List<Agendamento> findByDataAgendamentoAndQuadra(LocalDate data, Quadra quadra);
 
@@ -32,16 +47,87 @@ public interface AgendamentoRepository extends JpaRepository<Agendamento, Long>,
 
     List<Agendamento> findByAgendamentoFixoId(Long agendamentoFixoId);
 
-    // Verifica conflitos de agendamento em uma data específica
-    @Query("SELECT COUNT(a) > 0 FROM Agendamento a JOIN a.slotsHorario s " +
+    // Ocupa uma vaga do jogo aberto em um único UPDATE condicional; retorna 0 se não houver mais vagas
+    @Modifying
+    @Query("UPDATE Agendamento a SET a.vagasDisponiveis = a.vagasDisponiveis - 1, a.versao = a.versao + 1 " +
+            "WHERE a.id = :id AND a.isPublico = true AND a.status != 'CANCELADO' AND a.vagasDisponiveis > 0")
+    int ocuparVaga(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Agendamento a SET a.vagasDisponiveis = a.vagasDisponiveis + 1, a.versao = a.versao + 1 " +
+            "WHERE a.id = :id")
+    int liberarVaga(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "INSERT INTO agendamento_participantes (agendamento_id, atleta_id) VALUES (:agendamentoId, :atletaId)",
+            nativeQuery = true)
+    void adicionarParticipante(@Param("agendamentoId") Long agendamentoId, @Param("atletaId") UUID atletaId);
+
+    @Modifying
+    @Query(value = "DELETE FROM agendamento_participantes WHERE agendamento_id = :agendamentoId AND atleta_id = :atletaId",
+            nativeQuery = true)
+    int removerParticipante(@Param("agendamentoId") Long agendamentoId, @Param("atletaId") UUID atletaId);
+
+    // Verifica se algum agendamento não cancelado se sobrepõe ao período [inicio, fim), pelo snapshot de horários.
+    // Um fim menor ou igual ao início (ex.: 00:00) termina no dia seguinte.
+    // A constraint agendamento_sem_sobreposicao garante a mesma regra no banco.
+    @Query("SELECT COUNT(a) > 0 FROM Agendamento a " +
             "WHERE a.dataAgendamento = :data AND a.quadra.id = :quadraId " +
-            "AND s.horarioInicio = :inicio AND s.horarioFim = :fim " +
+            "AND a.status != 'CANCELADO' " +
+            "AND (a.horarioInicioSnapshot < :fim OR :fim <= :inicio) " +
+            "AND (a.horarioFimSnapshot > :inicio OR a.horarioFimSnapshot <= a.horarioInicioSnapshot)")
+    boolean existeConflitoNoHorario(@Param("data") LocalDate data,
+                                    @Param("quadraId") Long quadraId,
+                                    @Param("inicio") LocalTime inicio,
+                                    @Param("fim") LocalTime fim);
+
+    // Horários ocupados de uma quadra em uma data (usa os slots apenas quando não há snapshot)
+    @Query("SELECT DISTINCT new com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO(" +
+            "a.quadra.id, a.dataAgendamento, " +
+            "COALESCE(a.horarioInicioSnapshot, s.horarioInicio), COALESCE(a.horarioFimSnapshot, s.horarioFim)) " +
+            "FROM Agendamento a LEFT JOIN a.slotsHorario s " +
+            "WHERE a.quadra.id = :quadraId AND a.dataAgendamento = :data " +
+            "AND a.status != 'CANCELADO'")
+    List<OcupacaoHorarioDTO> findHorariosOcupados(@Param("quadraId") Long quadraId,
+                                                  @Param("data") LocalDate data);
+
+    // Horários dos agendamentos pendentes de uma quadra a partir de uma data
+    @Query("SELECT DISTINCT new com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO(" +
+            "a.quadra.id, a.dataAgendamento, " +
+            "COALESCE(a.horarioInicioSnapshot, s.horarioInicio), COALESCE(a.horarioFimSnapshot, s.horarioFim)) " +
+            "FROM Agendamento a LEFT JOIN a.slotsHorario s " +
+            "WHERE a.quadra.id = :quadraId AND a.dataAgendamento >= :dataInicio " +
+            "AND a.status = 'PENDENTE'")
+    List<OcupacaoHorarioDTO> findHorariosPendentesAPartirDe(@Param("quadraId") Long quadraId,
+                                                            @Param("dataInicio") LocalDate dataInicio);
+
+    // Horários ocupados de várias quadras em um período, usado para montar grades de disponibilidade
+    @Query("SELECT DISTINCT new com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO(" +
+            "a.quadra.id, a.dataAgendamento, " +
+            "COALESCE(a.horarioInicioSnapshot, s.horarioInicio), COALESCE(a.horarioFimSnapshot, s.horarioFim)) " +
+            "FROM Agendamento a LEFT JOIN a.slotsHorario s " +
+            "WHERE a.quadra.id IN :quadraIds " +
+            "AND a.dataAgendamento BETWEEN :dataInicio AND :dataFim " +
             "AND a.status != 'CANCELADO'")
-    boolean existeConflito(@Param("data") LocalDate data,
-                           @Param("quadraId") Long quadraId,
-                           @Param("inicio") LocalTime inicio,
-                           @Param("fim") LocalTime fim);
+    List<OcupacaoHorarioDTO> findHorariosOcupadosNoPeriodo(@Param("quadraIds") Collection<Long> quadraIds,
+                                                           @Param("dataInicio") LocalDate dataInicio,
+                                                           @Param("dataFim") LocalDate dataFim);
 
+    // Horários ocupados de uma quadra em várias datas que se sobrepõem ao intervalo [inicio, fim).
+    // Um fim menor ou igual ao início (ex.: 00:00) termina no dia seguinte, como em existeConflitoNoHorario.
+    @Query("SELECT DISTINCT new com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO(" +
+            "a.quadra.id, a.dataAgendamento, " +
+            "COALESCE(a.horarioInicioSnapshot, s.horarioInicio), COALESCE(a.horarioFimSnapshot, s.horarioFim)) " +
+            "FROM Agendamento a LEFT JOIN a.slotsHorario s " +
+            "WHERE a.quadra.id = :quadraId AND a.dataAgendamento IN :datas " +
+            "AND a.status != 'CANCELADO' " +
+            "AND (COALESCE(a.horarioInicioSnapshot, s.horarioInicio) < :fim OR :fim <= :inicio) " +
+            "AND (COALESCE(a.horarioFimSnapshot, s.horarioFim) > :inicio " +
+            "OR COALESCE(a.horarioFimSnapshot, s.horarioFim) <= COALESCE(a.horarioInicioSnapshot, s.horarioInicio))")
+    List<OcupacaoHorarioDTO> findHorariosOcupadosNasDatas(@Param("quadraId") Long quadraId,
+                                                          @Param("datas") Collection<LocalDate> datas,
+                                                          @Param("inicio") LocalTime inicio,
+                                                          @Param("fim") LocalTime fim);
 
     // Para a Receita do Mês
     @Query("SELECT SUM(a.valorTotalSnapshot) FROM Agendamento a " +
@@ -82,7 +168,7 @@ public interface AgendamentoRepository extends JpaRepository<Agendamento, Long>,
      * não foram cancelados e ainda não possuem uma avaliação.
      */
     @Query("SELECT DISTINCT a FROM Agendamento a " +
-            "JOIN FETCH a.slotsHorario sh " +
+            "LEFT JOIN FETCH a.slotsHorario sh " +
             "LEFT JOIN FETCH a.solicitacoes sol " +
             "LEFT JOIN FETCH a.avaliacao avaliacao " +
             "WHERE a.atleta.id = :atletaId " +
@@ -116,56 +202,34 @@ public interface AgendamentoRepository extends JpaRepository<Agendamento, Long>,
     );
 
     // --- MÉTODO PARA BUSCA DE JOGOS ABERTOS POR PROXIMIDADE ---
+    // Apenas os ids, do mais próximo para o mais distante; as colunas da listagem vêm da projeção.
+    // As arenas do raio são filtradas primeiro, pelo índice de localização (ver ArenaRepository).
     @Query(
-            value = "SELECT ag.*, (6371 * acos(cos(radians(:latitude)) * cos(radians(a.latitude)) * cos(radians(a.longitude) - radians(:longitude)) + sin(radians(:latitude)) * sin(radians(a.latitude)))) AS distance " +
-                    "FROM agendamento ag " +
-                    "JOIN quadra q ON ag.quadra_id = q.id " +
-                    "JOIN arena a ON q.arena_id = a.id " +
-                    "WHERE ag.is_publico = true " +
+            value = "WITH arenas_proximas AS MATERIALIZED (" +
+                    "SELECT a.id, " + ArenaRepository.DISTANCIA_ARENA_KM + " AS distance FROM arena a " +
+                    "WHERE " + ArenaRepository.NO_QUADRADO_DO_RAIO + ") " +
+                    "SELECT ag.id FROM arenas_proximas p " +
+                    "JOIN quadra q ON q.arena_id = p.id " +
+                    "JOIN agendamento ag ON ag.quadra_id = q.id " +
+                    "WHERE p.distance < :raioKm " +
+                    "AND ag.is_publico = true " +
                     "AND ag.status IN ('PENDENTE', 'AGUARDANDO_PAGAMENTO', 'PAGO') " +
                     "AND ag.vagas_disponiveis > 0 " +
                     "AND ag.data_agendamento >= CURRENT_DATE " +
-                    "AND (6371 * acos(cos(radians(:latitude)) * cos(radians(a.latitude)) * cos(radians(a.longitude) - radians(:longitude)) + sin(radians(:latitude)) * sin(radians(a.latitude)))) < :raioKm " +
-                    "ORDER BY distance ASC",
+                    "ORDER BY p.distance ASC, ag.id ASC",
             countQuery = "SELECT count(ag.id) " +
-                    "FROM agendamento ag " +
-                    "JOIN quadra q ON ag.quadra_id = q.id " +
-                    "JOIN arena a ON q.arena_id = a.id " +
-                    "WHERE ag.is_publico = true " +
+                    "FROM arena a " +
+                    "JOIN quadra q ON q.arena_id = a.id " +
+                    "JOIN agendamento ag ON ag.quadra_id = q.id " +
+                    "WHERE " + ArenaRepository.NO_QUADRADO_DO_RAIO + " " +
+                    "AND " + ArenaRepository.DISTANCIA_ARENA_KM + " < :raioKm " +
+                    "AND ag.is_publico = true " +
                     "AND ag.status IN ('PENDENTE', 'AGUARDANDO_PAGAMENTO', 'PAGO') " +
                     "AND ag.vagas_disponiveis > 0 " +
-                    "AND ag.data_agendamento >= CURRENT_DATE " +
-                    "AND (6371 * acos(cos(radians(:latitude)) * cos(radians(a.latitude)) * cos(radians(a.longitude) - radians(:longitude)) + sin(radians(:latitude)) * sin(radians(a.latitude)))) < :raioKm",
+                    "AND ag.data_agendamento >= CURRENT_DATE",
             nativeQuery = true
     )
-    Page<Agendamento> findJogosAbertosByProximity(@Param("latitude") Double latitude, @Param("longitude") Double longitude, @Param("raioKm") Double raioKm, Pageable pageable);
-
-    @Query(value = "SELECT DISTINCT a FROM Agendamento a " +
-            "LEFT JOIN FETCH a.atleta " +
-            "LEFT JOIN FETCH a.quadra " +
-            "LEFT JOIN FETCH a.slotsHorario " +
-            "LEFT JOIN FETCH a.participantes " +
-            "LEFT JOIN FETCH a.avaliacao avaliacao " +
-            "WHERE a.quadra.arena.id = :arenaId " +
-            "AND a.dataAgendamento >= COALESCE(:dataInicio, a.dataAgendamento) " +
-            "AND a.dataAgendamento <= COALESCE(:dataFim, a.dataAgendamento) " +
-            "AND (:quadraId IS NULL OR a.quadra.id = :quadraId) " +
-            "AND (:statuses IS NULL OR a.status IN :statuses)",
-
-            countQuery = "SELECT COUNT(DISTINCT a) FROM Agendamento a " +
-                    "WHERE a.quadra.arena.id = :arenaId " +
-                    "AND a.dataAgendamento >= COALESCE(:dataInicio, a.dataAgendamento) " +
-                    "AND a.dataAgendamento <= COALESCE(:dataFim, a.dataAgendamento) " +
-                    "AND (:quadraId IS NULL OR a.quadra.id = :quadraId) " +
-                    "AND (:statuses IS NULL OR a.status IN :statuses)")
-    Page<Agendamento> findByArenaIdWithFilters(
-            @Param("arenaId") UUID arenaId,
-            @Param("dataInicio") LocalDate dataInicio,
-            @Param("dataFim") LocalDate dataFim,
-            @Param("quadraId") Long quadraId,
-            @Param("statuses") List<StatusAgendamento> statuses,
-            Pageable pageable
-    );
+    Page<Long> findIdsJogosAbertosByProximity(@Param("latitude") Double latitude, @Param("longitude") Double longitude, @Param("raioKm") Double raioKm, Pageable pageable);
 
     @Query("SELECT COUNT(a) FROM Agendamento a " +
             "WHERE a.quadra.id = :quadraId " +
@@ -176,8 +240,13 @@ public interface AgendamentoRepository extends JpaRepository<Agendamento, Long>,
             @Param("dataAtual") LocalDate dataAtual
     );
 
-    @Query("SELECT a FROM Agendamento a WHERE a.status = :status AND a.dataSnapshot < :limite")
-    List<Agendamento> findExpirados(@Param("status") StatusAgendamento status, @Param("limite") LocalDateTime limite);
+    // (id, dataSnapshot) dos agendamentos aguardando pagamento, para montar o timer wheel de expiração
+    @Query("SELECT a.id, a.dataSnapshot FROM Agendamento a WHERE a.status = 'AGUARDANDO_PAGAMENTO'")
+    List<Object[]> findPrazosAguardandoPagamento();
+
+    // Recorrências às quais pertencem os agendamentos informados
+    @Query("SELECT DISTINCT a.agendamentoFixo.id FROM Agendamento a WHERE a.id IN :ids AND a.agendamentoFixo IS NOT NULL")
+    List<Long> findAgendamentoFixoIds(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT a FROM Agendamento a " +
             "JOIN FETCH a.atleta atleta " +
@@ -186,135 +255,22 @@ public interface AgendamentoRepository extends JpaRepository<Agendamento, Long>,
             "WHERE a.asaasPaymentId = :asaasPaymentId")
     Optional<Agendamento> findByAsaasPaymentIdFetchRelations(@Param("asaasPaymentId") String asaasPaymentId);
 
-    /**
-     * Busca agendamentos de um atleta com os slotsHorario carregados (Eagerly).
-     */
-    @Query(value = "SELECT a FROM Agendamento a " +
-            "JOIN FETCH a.slotsHorario sh " +
-            "LEFT JOIN FETCH a.solicitacoes sol " +
-            "LEFT JOIN FETCH a.participantes p " +
-            "WHERE a.atleta.id = :atletaId " +
-            "AND a.dataAgendamento >= COALESCE(:dataInicio, a.dataAgendamento) " +
-            "AND a.dataAgendamento <= COALESCE(:dataFim, a.dataAgendamento) " +
-            "AND (:isFixoFiltro IS NULL OR a.isFixo = :isFixoFiltro) " +
-            "AND a.status IN :statusFilter",
-            countQuery = "SELECT COUNT(a) FROM Agendamento a " +
-                    "WHERE a.atleta.id = :atletaId " +
-                    "AND a.dataAgendamento >= COALESCE(:dataInicio, a.dataAgendamento) " +
-                    "AND a.dataAgendamento <= COALESCE(:dataFim, a.dataAgendamento) " +
-                    "AND (:isFixoFiltro IS NULL OR a.isFixo = :isFixoFiltro) " +
-                    "AND a.status IN :statusFilter"
-    )
-    Page<Agendamento> findByAtletaIdWithDetails(
-            @Param("atletaId") UUID atletaId,
-            @Param("dataInicio") LocalDate dataInicio,
-            @Param("dataFim") LocalDate dataFim,
-            @Param("isFixoFiltro") Boolean isFixoFiltro,
-            @Param("statusFilter") List<StatusAgendamento> statusFilter,
-            Pageable pageable
-    );
-
     Optional<Agendamento> findFirstByAgendamentoFixoId(Long agendamentoFixoId);
 
-    @Query(value =
-            "SELECT a.* FROM agendamento a " +
-                    "JOIN quadra q ON a.quadra_id = q.id " +
-                    "WHERE q.arena_id = :arenaId " +
-                    "AND (" +
-                    // 1. Agendamentos Normais: APENAS aqueles que têm status na lista de ativos/históricos
-                    "   (a.agendamento_fixo_id IS NULL AND a.status IN :statuses) " +
-                    "   OR " +
-                    // 2. Agendamentos Fixos (Recorrência): Seleciona o Agendamento Mestre (MIN(data_agendamento) futuro)
-                    "   (a.agendamento_fixo_id IS NOT NULL AND a.id = (" +
-                    "       SELECT MIN(a_fixo.id) FROM agendamento a_fixo " +
-                    "       JOIN quadra q_fixo ON a_fixo.quadra_id = q_fixo.id " +
-                    "       WHERE a_fixo.agendamento_fixo_id = a.agendamento_fixo_id " +
-                    "       AND q_fixo.arena_id = :arenaId " +
-                    "       AND a_fixo.status IN :statuses " +
-                    // Filtrar aqui por datas futuras para garantir que o mestre seja o PRÓXIMO
-                    "       AND a_fixo.data_agendamento >= CURRENT_DATE" +
-                    "   ))" +
-                    ")" +
-                    // COALESCE (Garante que se data for nula, o filtro é ignorado)
-                    "AND a.data_agendamento >= COALESCE(:dataInicio, a.data_agendamento) " +
-                    "AND a.data_agendamento <= COALESCE(:dataFim, a.data_agendamento) " +
-                    "AND (:quadraId IS NULL OR a.quadra_id = :quadraId) " +
-                    "ORDER BY a.data_agendamento ASC, a.horario_inicio_snapshot ASC",
-
-            countQuery =
-                    "SELECT COUNT(a.id) FROM agendamento a " +
-                            "JOIN quadra q ON a.quadra_id = q.id " +
-                            "WHERE q.arena_id = :arenaId " +
-                            "AND (" +
-                            "   (a.agendamento_fixo_id IS NULL AND a.status IN :statuses) " +
-                            "   OR " +
-                            "   (a.agendamento_fixo_id IS NOT NULL AND a.id = (" +
-                            "       SELECT MIN(a_fixo.id) FROM agendamento a_fixo " +
-                            "       JOIN quadra q_fixo ON a_fixo.quadra_id = q_fixo.id " +
-                            "       WHERE a_fixo.agendamento_fixo_id = a.agendamento_fixo_id " +
-                            "       AND q_fixo.arena_id = :arenaId " +
-                            "       AND a_fixo.status IN :statuses " +
-                            "       AND a_fixo.data_agendamento >= CURRENT_DATE" +
-                            "   ))" +
-                            ")" +
-                            "AND a.data_agendamento >= COALESCE(:dataInicio, a.data_agendamento) " +
-                            "AND a.data_agendamento <= COALESCE(:dataFim, a.data_agendamento) " +
-                            "AND (:quadraId IS NULL OR a.quadra_id = :quadraId)",
-            nativeQuery = true
-    )
-    Page<Agendamento> findCardsMestreByArenaId(
-            @Param("arenaId") UUID arenaId,
-            @Param("dataInicio") LocalDate dataInicio,
-            @Param("dataFim") LocalDate dataFim,
-            @Param("quadraId") Long quadraId,
-            @Param("statuses") List<String> statuses,
-            Pageable pageable
-    );
+    Optional<Agendamento> findFirstByAgendamentoFixoIdOrderByDataAgendamentoDesc(Long agendamentoFixoId);
 
-    @Query(value =
-            "SELECT a.* FROM agendamento a " +
-                    "WHERE a.atleta_id = :atletaId " +
-                    "AND (" +
-                    "   (a.agendamento_fixo_id IS NULL AND (:isFixoFiltro IS NULL OR a.is_fixo = :isFixoFiltro) AND a.status IN :statuses) " + // 1. Agendamentos Normais
-                    "   OR " +
-                    "   (a.agendamento_fixo_id IS NOT NULL AND a.id = (" + // 2. Agendamentos Fixos: selecionar APENAS o mais próximo
-                    "       SELECT MIN(a_fixo.id) FROM agendamento a_fixo " +
-                    "       WHERE a_fixo.agendamento_fixo_id = a.agendamento_fixo_id " +
-                    "       AND a_fixo.atleta_id = :atletaId " +
-                    "       AND a_fixo.status IN :statuses " +
-                    "       AND a_fixo.data_agendamento >= CURRENT_DATE" +
-                    "   ))" +
-                    ")" +
-                    "AND a.data_agendamento >= COALESCE(:dataInicio, a.data_agendamento) " +
-                    "AND a.data_agendamento <= COALESCE(:dataFim, a.data_agendamento) " +
-                    "ORDER BY a.data_agendamento ASC, a.horario_inicio_snapshot ASC",
-
-            countQuery =
-                    "SELECT COUNT(a.id) FROM agendamento a " +
-                            "WHERE a.atleta_id = :atletaId " +
-                            "AND (" +
-                            "   (a.agendamento_fixo_id IS NULL AND (:isFixoFiltro IS NULL OR a.is_fixo = :isFixoFiltro) AND a.status IN :statuses) " +
-                            "   OR " +
-                            "   (a.agendamento_fixo_id IS NOT NULL AND a.id = (" +
-                            "       SELECT MIN(a_fixo.id) FROM agendamento a_fixo " +
-                            "       WHERE a_fixo.agendamento_fixo_id = a.agendamento_fixo_id " +
-                            "       AND a_fixo.atleta_id = :atletaId " +
-                            "       AND a_fixo.status IN :statuses " +
-                            "       AND a_fixo.data_agendamento >= CURRENT_DATE" +
-                            "   ))" +
-                            ")" +
-                            "AND a.data_agendamento >= COALESCE(:dataInicio, a.data_agendamento) " +
-                            "AND a.data_agendamento <= COALESCE(:dataFim, a.data_agendamento)",
-            nativeQuery = true
-    )
-    Page<Agendamento> findCardsMestreByAtletaId(
-            @Param("atletaId") UUID atletaId,
-            @Param("dataInicio") LocalDate dataInicio,
-            @Param("dataFim") LocalDate dataFim,
-            @Param("isFixoFiltro") Boolean isFixoFiltro,
-            @Param("statuses") List<String> statuses,
-            Pageable pageable
-    );
+    // Slots e participantes de uma página de cards, agrupados depois pelo id do agendamento
+    @Query("SELECT new com.engstrategy.alugai_api.dto.agendamento.SlotAgendamentoResumo(" +
+            "a.id, s.id, s.horarioInicio, s.horarioFim, s.valor, s.statusDisponibilidade) " +
+            "FROM Agendamento a JOIN a.slotsHorario s " +
+            "WHERE a.id IN :agendamentoIds")
+    List<SlotAgendamentoResumo> findSlotsByAgendamentoIds(@Param("agendamentoIds") Collection<Long> agendamentoIds);
+
+    @Query("SELECT new com.engstrategy.alugai_api.dto.agendamento.arena.ParticipanteAgendamentoResumo(" +
+            "a.id, p.id, p.nome, p.email, p.telefone, p.dataCriacao) " +
+            "FROM Agendamento a JOIN a.participantes p " +
+            "WHERE a.id IN :agendamentoIds")
+    List<ParticipanteAgendamentoResumo> findParticipantesByAgendamentoIds(@Param("agendamentoIds") Collection<Long> agendamentoIds);
 
     @Query("SELECT new com.engstrategy.alugai_api.dto.arena.QuadraEstatisticaDTO(q.nomeQuadra, COUNT(a)) " +
             "FROM Agendamento a " +
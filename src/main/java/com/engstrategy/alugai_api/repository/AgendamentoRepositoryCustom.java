@@ -0,0 +1,48 @@
+package com.engstrategy.alugai_api.repository;
+
+import com.engstrategy.alugai_api.dto.agendamento.AgendamentoAtletaResumo;
+import com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO;
+import com.engstrategy.alugai_api.dto.agendamento.arena.AgendamentoArenaResumo;
+import com.engstrategy.alugai_api.dto.jogosabertos.JogoAbertoResumo;
+import com.engstrategy.alugai_api.dto.mapa.JogosAbertosArena;
+import com.engstrategy.alugai_api.model.Agendamento;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface AgendamentoRepositoryCustom {
+
+    // Cancelamentos em lote com um único UPDATE ... RETURNING (PostgreSQL);
+    // devolvem o horário que cada agendamento cancelado deixou de ocupar
+
+    // Cancela os agendamentos informados que ainda aguardam pagamento
+    List<OcupacaoHorarioDTO> cancelarAguardandoPagamento(Collection<Long> ids);
+
+    // Cancela as ocorrências não canceladas da recorrência a partir da data (inclusive)
+    List<OcupacaoHorarioDTO> cancelarOcorrenciasAPartirDe(Long agendamentoFixoId, LocalDate dataInicial);
+
+    // Listagens paginadas com as coleções carregadas: a página de ids primeiro, depois o grafo apenas desses ids
+    Page<Agendamento> findAllWithDetalhesArena(Specification<Agendamento> spec, Pageable pageable);
+
+    Page<Agendamento> findAllWithDetalhesAtleta(Specification<Agendamento> spec, Pageable pageable);
+
+    // Listagens em projeção: apenas as colunas dos cards, sem carregar as entidades.
+    // As variantes com limite atendem a paginação por cursor.
+    Page<AgendamentoAtletaResumo> findResumosAtleta(Specification<Agendamento> spec, Pageable pageable);
+
+    List<AgendamentoAtletaResumo> findResumosAtleta(Specification<Agendamento> spec, Sort sort, int limite);
+
+    Page<AgendamentoArenaResumo> findResumosArena(Specification<Agendamento> spec, Pageable pageable);
+
+    List<AgendamentoArenaResumo> findResumosArena(Specification<Agendamento> spec, Sort sort, int limite);
+
+    Page<JogoAbertoResumo> findJogosAbertos(Specification<Agendamento> spec, Pageable pageable);
+
+    // Contagem agrupada por arena e esporte, sem ler os agendamentos
+    List<JogosAbertosArena> contarPorArenaEEsporte(Specification<Agendamento> spec);
+}
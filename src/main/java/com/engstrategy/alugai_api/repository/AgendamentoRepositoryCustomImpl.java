@@ -0,0 +1,214 @@
+package com.engstrategy.alugai_api.repository;
+
+import com.engstrategy.alugai_api.dto.agendamento.AgendamentoAtletaResumo;
+import com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO;
+import com.engstrategy.alugai_api.dto.agendamento.arena.AgendamentoArenaResumo;
+import com.engstrategy.alugai_api.dto.jogosabertos.JogoAbertoResumo;
+import com.engstrategy.alugai_api.dto.mapa.JogosAbertosArena;
+import com.engstrategy.alugai_api.model.Agendamento;
+import com.engstrategy.alugai_api.model.AgendamentoFixo;
+import com.engstrategy.alugai_api.model.Arena;
+import com.engstrategy.alugai_api.model.Atleta;
+import com.engstrategy.alugai_api.model.Avaliacao;
+import com.engstrategy.alugai_api.model.Quadra;
+import com.engstrategy.alugai_api.model.SolicitacaoEntrada;
+import com.engstrategy.alugai_api.model.enums.StatusSolicitacao;
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class AgendamentoRepositoryCustomImpl implements AgendamentoRepositoryCustom {
+
+    private static final String RETORNO_OCUPACAO =
+            " RETURNING quadra_id, data_agendamento, horario_inicio_snapshot, horario_fim_snapshot";
+
+    private static final RowMapper<OcupacaoHorarioDTO> OCUPACAO_MAPPER = (rs, linha) -> new OcupacaoHorarioDTO(
+            rs.getLong("quadra_id"),
+            rs.getDate("data_agendamento").toLocalDate(),
+            paraLocalTime(rs.getTime("horario_inicio_snapshot")),
+            paraLocalTime(rs.getTime("horario_fim_snapshot")));
+
+    private static final ConsultaProjetada.Colunas<Agendamento> COLUNAS_ATLETA = (root, query, builder) -> {
+        Join<Agendamento, Quadra> quadra = root.join("quadra");
+        Join<Quadra, Arena> arena = quadra.join("arena");
+        Join<Agendamento, AgendamentoFixo> fixo = root.join("agendamentoFixo", JoinType.LEFT);
+        Join<Agendamento, Avaliacao> avaliacao = root.join("avaliacao", JoinType.LEFT);
+
+        // Mesmo critério de Agendamento.possuiSolicitacoes()
+        Subquery<Long> pendentes = query.subquery(Long.class);
+        Root<SolicitacaoEntrada> solicitacao = pendentes.from(SolicitacaoEntrada.class);
+        pendentes.select(solicitacao.get("id")).where(
+                builder.equal(solicitacao.get("agendamento"), root),
+                builder.equal(solicitacao.get("status"), StatusSolicitacao.PENDENTE));
+
+        return List.of(
+                root.get("id"), root.get("dataAgendamento"),
+                root.get("horarioInicioSnapshot"), root.get("horarioFimSnapshot"), root.get("valorTotalSnapshot"),
+                root.get("esporte"), root.get("status"), root.get("vagasDisponiveis"),
+                quadra.get("id"), quadra.get("nomeQuadra"), quadra.get("urlFotoQuadra"),
+                arena.get("nome"), arena.get("urlFoto"),
+                root.get("isFixo"), fixo.get("id"), root.get("isPublico"),
+                builder.<Boolean>selectCase().when(builder.exists(pendentes), true).otherwise(false),
+                avaliacao.get("id"), avaliacao.get("nota"), avaliacao.get("comentario"),
+                root.get("avaliacaoDispensada"));
+    };
+
+    private static final ConsultaProjetada.Colunas<Agendamento> COLUNAS_ARENA = (root, query, builder) -> {
+        Join<Agendamento, Quadra> quadra = root.join("quadra");
+        Join<Agendamento, Atleta> atleta = root.join("atleta");
+        Join<Agendamento, AgendamentoFixo> fixo = root.join("agendamentoFixo", JoinType.LEFT);
+
+        return List.of(
+                root.get("id"), root.get("dataAgendamento"),
+                root.get("horarioInicioSnapshot"), root.get("horarioFimSnapshot"), root.get("valorTotalSnapshot"),
+                root.get("status"), root.get("isFixo"), root.get("isPublico"),
+                root.get("vagasDisponiveis"), root.get("esporte"),
+                quadra.get("id"), quadra.get("nomeQuadra"),
+                atleta.get("id"), atleta.get("nome"), atleta.get("email"), atleta.get("telefone"), atleta.get("urlFoto"),
+                fixo.get("id"));
+    };
+
+    private static final ConsultaProjetada.Colunas<Agendamento> COLUNAS_JOGO_ABERTO = (root, query, builder) -> {
+        Join<Agendamento, Quadra> quadra = root.join("quadra");
+        Join<Quadra, Arena> arena = quadra.join("arena");
+        Join<Agendamento, Atleta> atleta = root.join("atleta");
+
+        return List.of(
+                root.get("id"), root.get("dataAgendamento"),
+                root.get("horarioInicioSnapshot"), root.get("horarioFimSnapshot"),
+                root.get("vagasDisponiveis"), root.get("esporte"),
+                arena.get("nome"), quadra.get("nomeQuadra"), arena.get("endereco").get("cidade"), arena.get("urlFoto"),
+                atleta.get("urlFoto"), atleta.get("nome"), atleta.get("telefone"));
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<OcupacaoHorarioDTO> cancelarAguardandoPagamento(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+                "UPDATE agendamento SET status = 'CANCELADO', versao = versao + 1 " +
+                        "WHERE id IN (:ids) AND status = 'AGUARDANDO_PAGAMENTO'" + RETORNO_OCUPACAO,
+                new MapSqlParameterSource("ids", ids),
+                OCUPACAO_MAPPER);
+    }
+
+    @Override
+    public List<OcupacaoHorarioDTO> cancelarOcorrenciasAPartirDe(Long agendamentoFixoId, LocalDate dataInicial) {
+        return jdbcTemplate.query(
+                "UPDATE agendamento SET status = 'CANCELADO', versao = versao + 1 " +
+                        "WHERE agendamento_fixo_id = :agendamentoFixoId AND data_agendamento >= :dataInicial " +
+                        "AND status <> 'CANCELADO'" + RETORNO_OCUPACAO,
+                new MapSqlParameterSource()
+                        .addValue("agendamentoFixoId", agendamentoFixoId)
+                        .addValue("dataInicial", dataInicial),
+                OCUPACAO_MAPPER);
+    }
+
+    @Override
+    public Page<Agendamento> findAllWithDetalhesArena(Specification<Agendamento> spec, Pageable pageable) {
+        return PaginacaoPorIds.buscar(entityManager, Agendamento.class, spec, pageable,
+                ids -> entityManager.createQuery("SELECT DISTINCT a FROM Agendamento a " +
+                                "LEFT JOIN FETCH a.atleta " +
+                                "LEFT JOIN FETCH a.quadra " +
+                                "LEFT JOIN FETCH a.slotsHorario " +
+                                "LEFT JOIN FETCH a.participantes " +
+                                "LEFT JOIN FETCH a.avaliacao " +
+                                "WHERE a.id IN :ids", Agendamento.class)
+                        .setParameter("ids", ids)
+                        .getResultList(),
+                Agendamento::getId);
+    }
+
+    @Override
+    public Page<Agendamento> findAllWithDetalhesAtleta(Specification<Agendamento> spec, Pageable pageable) {
+        return PaginacaoPorIds.buscar(entityManager, Agendamento.class, spec, pageable,
+                ids -> entityManager.createQuery("SELECT DISTINCT a FROM Agendamento a " +
+                                "LEFT JOIN FETCH a.slotsHorario " +
+                                "LEFT JOIN FETCH a.solicitacoes " +
+                                "LEFT JOIN FETCH a.participantes " +
+                                "WHERE a.id IN :ids", Agendamento.class)
+                        .setParameter("ids", ids)
+                        .getResultList(),
+                Agendamento::getId);
+    }
+
+    @Override
+    public Page<AgendamentoAtletaResumo> findResumosAtleta(Specification<Agendamento> spec, Pageable pageable) {
+        return ConsultaProjetada.buscar(entityManager, Agendamento.class, AgendamentoAtletaResumo.class,
+                spec, pageable, COLUNAS_ATLETA);
+    }
+
+    @Override
+    public List<AgendamentoAtletaResumo> findResumosAtleta(Specification<Agendamento> spec, Sort sort, int limite) {
+        return ConsultaProjetada.listar(entityManager, Agendamento.class, AgendamentoAtletaResumo.class,
+                spec, sort, limite, COLUNAS_ATLETA);
+    }
+
+    @Override
+    public Page<AgendamentoArenaResumo> findResumosArena(Specification<Agendamento> spec, Pageable pageable) {
+        return ConsultaProjetada.buscar(entityManager, Agendamento.class, AgendamentoArenaResumo.class,
+                spec, pageable, COLUNAS_ARENA);
+    }
+
+    @Override
+    public List<AgendamentoArenaResumo> findResumosArena(Specification<Agendamento> spec, Sort sort, int limite) {
+        return ConsultaProjetada.listar(entityManager, Agendamento.class, AgendamentoArenaResumo.class,
+                spec, sort, limite, COLUNAS_ARENA);
+    }
+
+    @Override
+    public Page<JogoAbertoResumo> findJogosAbertos(Specification<Agendamento> spec, Pageable pageable) {
+        return ConsultaProjetada.buscar(entityManager, Agendamento.class, JogoAbertoResumo.class,
+                spec, pageable, COLUNAS_JOGO_ABERTO);
+    }
+
+    @Override
+    public List<JogosAbertosArena> contarPorArenaEEsporte(Specification<Agendamento> spec) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<JogosAbertosArena> query = builder.createQuery(JogosAbertosArena.class);
+        Root<Agendamento> root = query.from(Agendamento.class);
+        Predicate filtro = spec.toPredicate(root, query, builder);
+        // FK da quadra, sem join com a arena
+        Path<UUID> arenaId = root.get("quadra").get("arena").get("id");
+        Path<TipoEsporte> esporte = root.get("esporte");
+
+        query.select(builder.construct(JogosAbertosArena.class, arenaId, esporte, builder.count(root)))
+                .groupBy(arenaId, esporte);
+        if (filtro != null) {
+            query.where(filtro);
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private static LocalTime paraLocalTime(Time time) {
+        return time != null ? time.toLocalTime() : null;
+    }
+}
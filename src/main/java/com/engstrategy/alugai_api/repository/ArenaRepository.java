@@ -1,5 +1,6 @@
 package com.engstrategy.alugai_api.repository;
 
+import com.engstrategy.alugai_api.dto.mapa.ArenaMapaResumo;
 import com.engstrategy.alugai_api.model.Arena;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +18,14 @@ import java.util.UUID;
 @Repository
 public interface ArenaRepository extends JpaRepository<Arena, UUID>, JpaSpecificationExecutor<Arena> {
 
+    // Busca por proximidade com cube/earthdistance (PostgreSQL). O earth_box do raio usa o índice GiST
+    // idx_arena_localizacao para descartar as arenas de fora do quadrado; a distância exata (km) só é
+    // calculada para as candidatas que sobram.
+    String LOCALIZACAO_ARENA = "ll_to_earth(a.latitude, a.longitude)";
+    String NO_QUADRADO_DO_RAIO = "earth_box(ll_to_earth(:latitude, :longitude), :raioKm * 1000) @> " + LOCALIZACAO_ARENA;
+    String DISTANCIA_ARENA_KM = "earth_distance(ll_to_earth(:latitude, :longitude), " + LOCALIZACAO_ARENA + ") / 1000";
+    String ARENA_ATIVA = "a.ativo = true AND a.status_assinatura = 'ATIVA'";
+
     boolean existsByEmail(String email);
 
     boolean existsByTelefone(String telefone);
@@ -44,15 +54,52 @@ public interface ArenaRepository extends JpaRepository<Arena, UUID>, JpaSpecific
     Optional<Arena> findByIdWithQuadras(@Param("id") UUID id);
 
     @Query(
-            value = "SELECT *, (6371 * acos(cos(radians(:latitude)) * cos(radians(a.latitude)) * cos(radians(a.longitude) - radians(:longitude)) + sin(radians(:latitude)) * sin(radians(a.latitude)))) AS distance " +
-                    "FROM arena a " +
-                    "WHERE a.ativo = true AND a.status_assinatura = 'ATIVA' AND (6371 * acos(cos(radians(:latitude)) * cos(radians(a.latitude)) * cos(radians(a.longitude) - radians(:longitude)) + sin(radians(:latitude)) * sin(radians(a.latitude)))) < :raioKm " +
-                    "ORDER BY distance ASC",
+            value = "WITH candidatas AS MATERIALIZED (" +
+                    "SELECT a.id, " + DISTANCIA_ARENA_KM + " AS distance FROM arena a " +
+                    "WHERE " + ARENA_ATIVA + " AND " + NO_QUADRADO_DO_RAIO + ") " +
+                    "SELECT a.* FROM candidatas c JOIN arena a ON a.id = c.id " +
+                    "WHERE c.distance < :raioKm " +
+                    "ORDER BY c.distance ASC, a.id ASC",
             countQuery = "SELECT count(*) FROM arena a " +
-                    "WHERE a.ativo = true AND a.status_assinatura = 'ATIVA' AND (6371 * acos(cos(radians(:latitude)) * cos(radians(a.latitude)) * cos(radians(a.longitude) - radians(:longitude)) + sin(radians(:latitude)) * sin(radians(a.latitude)))) < :raioKm",
+                    "WHERE " + ARENA_ATIVA + " AND " + NO_QUADRADO_DO_RAIO + " AND " + DISTANCIA_ARENA_KM + " < :raioKm",
             nativeQuery = true
     )
     Page<Arena> findByProximity(@Param("latitude") Double latitude, @Param("longitude") Double longitude, @Param("raioKm") Double raioKm, Pageable pageable);
 
+    // Ids e distâncias (km) das arenas ativas dentro do raio, da mais próxima para a mais distante
+    @Query(
+            value = "WITH candidatas AS MATERIALIZED (" +
+                    "SELECT a.id, " + DISTANCIA_ARENA_KM + " AS distance FROM arena a " +
+                    "WHERE " + ARENA_ATIVA + " AND " + NO_QUADRADO_DO_RAIO + ") " +
+                    "SELECT c.id, c.distance FROM candidatas c " +
+                    "WHERE c.distance < :raioKm " +
+                    "ORDER BY c.distance ASC " +
+                    "LIMIT :limite",
+            nativeQuery = true
+    )
+    List<Object[]> findIdsAndDistanceByProximity(@Param("latitude") Double latitude,
+                                                 @Param("longitude") Double longitude,
+                                                 @Param("raioKm") Double raioKm,
+                                                 @Param("limite") int limite);
+
+    // Id, latitude e longitude das arenas que aparecem nas buscas por proximidade
+    @Query("SELECT a.id, a.endereco.latitude, a.endereco.longitude FROM Arena a " +
+            "WHERE a.ativo = true AND a.statusAssinatura = 'ATIVA'")
+    List<Object[]> findLocalizacoesAtivas();
+
+    // Mesmas localizações, restritas ao retângulo do mapa
+    @Query("SELECT a.id, a.endereco.latitude, a.endereco.longitude FROM Arena a " +
+            "WHERE a.ativo = true AND a.statusAssinatura = 'ATIVA' " +
+            "AND a.endereco.latitude BETWEEN :latitudeMinima AND :latitudeMaxima " +
+            "AND a.endereco.longitude BETWEEN :longitudeMinima AND :longitudeMaxima")
+    List<Object[]> findLocalizacoesAtivasNaArea(@Param("latitudeMinima") Double latitudeMinima,
+                                                @Param("longitudeMinima") Double longitudeMinima,
+                                                @Param("latitudeMaxima") Double latitudeMaxima,
+                                                @Param("longitudeMaxima") Double longitudeMaxima);
+
+    @Query("SELECT new com.engstrategy.alugai_api.dto.mapa.ArenaMapaResumo(a.id, a.nome, a.urlFoto) " +
+            "FROM Arena a WHERE a.id IN :ids")
+    List<ArenaMapaResumo> findResumosMapaByIds(@Param("ids") Collection<UUID> ids);
+
     Optional<Arena> findByStripeCustomerId(String stripeCustomerId);
 }
@@ -0,0 +1,86 @@
+package com.engstrategy.alugai_api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Consulta por Specification que devolve uma projeção (SELECT new) em vez da entidade:
+ * só as colunas informadas são lidas e nada entra no contexto de persistência.
+ */
+final class ConsultaProjetada {
+
+    private ConsultaProjetada() {
+    }
+
+    @FunctionalInterface
+    interface Colunas<T> {
+        // Na ordem dos parâmetros do construtor da projeção
+        List<Selection<?>> de(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder);
+    }
+
+    static <T, R> Page<R> buscar(EntityManager entityManager,
+                                 Class<T> tipo,
+                                 Class<R> projecao,
+                                 Specification<T> spec,
+                                 Pageable pageable,
+                                 Colunas<T> colunas) {
+        TypedQuery<R> consulta = criar(entityManager, tipo, projecao, spec, pageable.getSort(), colunas);
+        if (pageable.isPaged()) {
+            consulta.setFirstResult((int) pageable.getOffset());
+            consulta.setMaxResults(pageable.getPageSize());
+        }
+        List<R> itens = consulta.getResultList();
+
+        long total = itens.size();
+        if (pageable.isPaged() && (pageable.getOffset() > 0 || itens.size() == pageable.getPageSize())) {
+            total = PaginacaoPorIds.contar(entityManager, tipo, spec);
+        }
+        return new PageImpl<>(itens, pageable, total);
+    }
+
+    static <T, R> List<R> listar(EntityManager entityManager,
+                                 Class<T> tipo,
+                                 Class<R> projecao,
+                                 Specification<T> spec,
+                                 Sort sort,
+                                 int limite,
+                                 Colunas<T> colunas) {
+        return criar(entityManager, tipo, projecao, spec, sort, colunas)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    private static <T, R> TypedQuery<R> criar(EntityManager entityManager,
+                                              Class<T> tipo,
+                                              Class<R> projecao,
+                                              Specification<T> spec,
+                                              Sort sort,
+                                              Colunas<T> colunas) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<R> query = builder.createQuery(projecao);
+        Root<T> root = query.from(tipo);
+        Predicate filtro = spec.toPredicate(root, query, builder);
+        query.select(builder.construct(projecao, colunas.de(root, query, builder).toArray(Selection[]::new)));
+        if (filtro != null) {
+            query.where(filtro);
+        }
+        // O id desempata a ordenação para que as páginas não se sobreponham
+        query.orderBy(QueryUtils.toOrders(sort.and(Sort.by("id")), root, builder));
+
+        return entityManager.createQuery(query);
+    }
+}
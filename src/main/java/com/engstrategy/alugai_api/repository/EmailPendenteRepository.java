@@ -0,0 +1,34 @@
+package com.engstrategy.alugai_api.repository;
+
+import com.engstrategy.alugai_api.model.EmailPendente;
+import com.engstrategy.alugai_api.model.enums.StatusEmail;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailPendenteRepository extends JpaRepository<EmailPendente, Long> {
+
+    // Lote de e-mails prontos para envio. As linhas já travadas por outra instância são puladas (SKIP LOCKED).
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM EmailPendente e " +
+            "WHERE e.status = 'PENDENTE' AND e.proximaTentativa <= :agora " +
+            "ORDER BY e.id")
+    List<EmailPendente> findProntosParaEnvio(@Param("agora") LocalDateTime agora, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EmailPendente e WHERE e.status = :status AND e.dataCriacao < :limite")
+    int deleteByStatusAndDataCriacaoBefore(@Param("status") StatusEmail status,
+                                           @Param("limite") LocalDateTime limite);
+}
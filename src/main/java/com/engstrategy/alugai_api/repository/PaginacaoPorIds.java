@@ -0,0 +1,96 @@
+package com.engstrategy.alugai_api.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Paginação em duas fases para listagens que carregam coleções com JOIN FETCH:
+ * primeiro a página de ids (LIMIT/OFFSET no banco), depois o grafo apenas desses ids.
+ * Com o JOIN FETCH direto o Hibernate pagina em memória, depois de carregar todas as linhas.
+ */
+final class PaginacaoPorIds {
+
+    private PaginacaoPorIds() {
+    }
+
+    static <T> Page<T> buscar(EntityManager entityManager,
+                              Class<T> tipo,
+                              Specification<T> spec,
+                              Pageable pageable,
+                              Function<List<Long>, List<T>> carregarPorIds,
+                              Function<T, Long> id) {
+        Page<Long> ids = buscarIds(entityManager, tipo, spec, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        // A consulta por ids não preserva a ordem da página
+        Map<Long, Integer> posicoes = new HashMap<>();
+        for (int i = 0; i < ids.getContent().size(); i++) {
+            posicoes.put(ids.getContent().get(i), i);
+        }
+        List<T> itens = carregarPorIds.apply(ids.getContent()).stream()
+                .sorted(Comparator.comparing(item -> posicoes.get(id.apply(item))))
+                .toList();
+
+        return new PageImpl<>(itens, pageable, ids.getTotalElements());
+    }
+
+    private static <T> Page<Long> buscarIds(EntityManager entityManager,
+                                            Class<T> tipo,
+                                            Specification<T> spec,
+                                            Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(tipo);
+        Predicate filtro = spec.toPredicate(root, query, builder);
+        query.select(root.get("id"));
+        if (filtro != null) {
+            query.where(filtro);
+        }
+        // O id desempata a ordenação para que as páginas não se sobreponham
+        query.orderBy(QueryUtils.toOrders(pageable.getSort().and(Sort.by("id")), root, builder));
+
+        TypedQuery<Long> consulta = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            consulta.setFirstResult((int) pageable.getOffset());
+            consulta.setMaxResults(pageable.getPageSize());
+        }
+        List<Long> ids = consulta.getResultList();
+
+        long total = ids.size();
+        if (pageable.isPaged() && (pageable.getOffset() > 0 || ids.size() == pageable.getPageSize())) {
+            total = contar(entityManager, tipo, spec);
+        }
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    static <T> long contar(EntityManager entityManager, Class<T> tipo, Specification<T> spec) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(tipo);
+        Predicate filtro = spec.toPredicate(root, query, builder);
+        query.select(builder.count(root));
+        if (filtro != null) {
+            query.where(filtro);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
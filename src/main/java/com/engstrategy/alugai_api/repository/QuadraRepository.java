@@ -1,19 +1,20 @@
 package com.engstrategy.alugai_api.repository;
 
+import com.engstrategy.alugai_api.dto.mapa.EsporteArena;
 import com.engstrategy.alugai_api.model.Quadra;
 import com.engstrategy.alugai_api.model.enums.TipoEsporte;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface QuadraRepository extends JpaRepository<Quadra, Long>, JpaSpecificationExecutor<Quadra> {
+public interface QuadraRepository extends JpaRepository<Quadra, Long>, JpaSpecificationExecutor<Quadra>,
+        QuadraRepositoryCustom {
     boolean existsByNomeQuadraIgnoreCase(String nome);
 
     Long countByArenaId(UUID arenaId);
@@ -32,21 +33,39 @@ public interface QuadraRepository extends JpaRepository<Quadra, Long>, JpaSpecif
             "LEFT JOIN FETCH ih.slotsHorario " +
             "LEFT JOIN FETCH q.tipoQuadra " +
             "LEFT JOIN FETCH q.materiaisFornecidos " +
+            "JOIN FETCH q.arena " +
             "WHERE q.id = :quadraId")
     Optional<Quadra> findByIdWithDetails(@Param("quadraId") Long quadraId);
 
-    @Query(value = "SELECT DISTINCT q FROM Quadra q " +
+    // Quadras de várias arenas que atendem o esporte, com arena, horários, intervalos e slots carregados
+    @Query("SELECT DISTINCT q FROM Quadra q " +
+            "JOIN FETCH q.arena " +
             "LEFT JOIN FETCH q.horariosFuncionamento hf " +
-            "LEFT JOIN FETCH hf.intervalosDeHorario " +
-            "LEFT JOIN FETCH q.tipoQuadra " +
-            "LEFT JOIN FETCH q.materiaisFornecidos " +
-            "WHERE (:arenaId is null OR q.arena.id = :arenaId) " +
-            "AND (:esporte is null OR :esporte MEMBER OF q.tipoQuadra)",
-            countQuery = "SELECT COUNT(DISTINCT q) FROM Quadra q " +
-                    "WHERE (:arenaId is null OR q.arena.id = :arenaId) " +
-                    "AND (:esporte is null OR :esporte MEMBER OF q.tipoQuadra)")
-    Page<Quadra> findQuadrasByFiltersWithDetails(
-            @Param("arenaId") UUID arenaId,
-            @Param("esporte") TipoEsporte esporte,
-            Pageable pageable);
+            "LEFT JOIN FETCH hf.intervalosDeHorario ih " +
+            "LEFT JOIN FETCH ih.slotsHorario " +
+            "WHERE q.arena.id IN :arenaIds " +
+            "AND :esporte MEMBER OF q.tipoQuadra")
+    List<Quadra> findByArenaIdsAndEsporteWithSlots(@Param("arenaIds") Collection<UUID> arenaIds,
+                                                   @Param("esporte") TipoEsporte esporte);
+
+    // Esportes oferecidos pelas arenas visíveis, um por arena e esporte (carga do índice de arenas)
+    @Query("SELECT DISTINCT new com.engstrategy.alugai_api.dto.mapa.EsporteArena(a.id, e) " +
+            "FROM Quadra q JOIN q.arena a JOIN q.tipoQuadra e " +
+            "WHERE a.ativo = true AND a.statusAssinatura = 'ATIVA'")
+    List<EsporteArena> findEsportesDasArenasVisiveis();
+
+    @Query("SELECT DISTINCT e FROM Quadra q JOIN q.tipoQuadra e WHERE q.arena.id = :arenaId")
+    List<TipoEsporte> findEsportesByArenaId(@Param("arenaId") UUID arenaId);
+
+    // Esportes oferecidos pelas arenas visíveis no retângulo do mapa, um por arena e esporte
+    // (usada enquanto o índice de arenas não foi carregado)
+    @Query("SELECT DISTINCT new com.engstrategy.alugai_api.dto.mapa.EsporteArena(a.id, e) " +
+            "FROM Quadra q JOIN q.arena a JOIN q.tipoQuadra e " +
+            "WHERE a.ativo = true AND a.statusAssinatura = 'ATIVA' " +
+            "AND a.endereco.latitude BETWEEN :latitudeMinima AND :latitudeMaxima " +
+            "AND a.endereco.longitude BETWEEN :longitudeMinima AND :longitudeMaxima")
+    List<EsporteArena> findEsportesNaArea(@Param("latitudeMinima") Double latitudeMinima,
+                                          @Param("longitudeMinima") Double longitudeMinima,
+                                          @Param("latitudeMaxima") Double latitudeMaxima,
+                                          @Param("longitudeMaxima") Double longitudeMaxima);
 }
@@ -0,0 +1,12 @@
+package com.engstrategy.alugai_api.repository;
+
+import com.engstrategy.alugai_api.model.Quadra;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface QuadraRepositoryCustom {
+
+    // Página de quadras com horários, intervalos, esportes e materiais carregados (ids primeiro, depois o grafo)
+    Page<Quadra> findAllWithDetails(Specification<Quadra> spec, Pageable pageable);
+}
@@ -0,0 +1,28 @@
+package com.engstrategy.alugai_api.repository;
+
+import com.engstrategy.alugai_api.model.Quadra;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+@RequiredArgsConstructor
+class QuadraRepositoryCustomImpl implements QuadraRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Quadra> findAllWithDetails(Specification<Quadra> spec, Pageable pageable) {
+        return PaginacaoPorIds.buscar(entityManager, Quadra.class, spec, pageable,
+                ids -> entityManager.createQuery("SELECT DISTINCT q FROM Quadra q " +
+                                "LEFT JOIN FETCH q.horariosFuncionamento hf " +
+                                "LEFT JOIN FETCH hf.intervalosDeHorario " +
+                                "LEFT JOIN FETCH q.tipoQuadra " +
+                                "LEFT JOIN FETCH q.materiaisFornecidos " +
+                                "WHERE q.id IN :ids", Quadra.class)
+                        .setParameter("ids", ids)
+                        .getResultList(),
+                Quadra::getId);
+    }
+}
@@ -1,14 +1,21 @@
 package com.engstrategy.alugai_api.repository;
 
 import com.engstrategy.alugai_api.model.SlotHorario;
-import com.engstrategy.alugai_api.model.enums.DiaDaSemana;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface SlotHorarioRepository extends JpaRepository<SlotHorario, Long> {
-    List<SlotHorario> findByIntervaloHorario_HorarioFuncionamento_DiaDaSemanaAndHorarioInicioAndHorarioFim(
-            DiaDaSemana diaSemana, LocalTime inicio, LocalTime fim
-    );
-}
\ No newline at end of file
+
+    // Slots com intervalo, horário de funcionamento, quadra e arena em uma única consulta
+    @Query("SELECT s FROM SlotHorario s " +
+            "JOIN FETCH s.intervaloHorario ih " +
+            "JOIN FETCH ih.horarioFuncionamento hf " +
+            "JOIN FETCH hf.quadra q " +
+            "JOIN FETCH q.arena " +
+            "WHERE s.id IN :ids")
+    List<SlotHorario> findByIdsWithQuadraEArena(@Param("ids") Collection<Long> ids);
+}
@@ -1,16 +1,40 @@
 package com.engstrategy.alugai_api.repository;
 
+import com.engstrategy.alugai_api.dto.jogosabertos.MinhaParticipacaoResponseDTO;
 import com.engstrategy.alugai_api.model.SolicitacaoEntrada;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface SolicitacaoEntradaRepository extends JpaRepository<SolicitacaoEntrada, Long> {
     Optional<SolicitacaoEntrada> findByAgendamentoIdAndSolicitanteId(Long agendamentoId, UUID solicitanteId);
     List<SolicitacaoEntrada> findByAgendamentoId(Long agendamentoId);
-    List<SolicitacaoEntrada> findBySolicitanteIdOrderByAgendamentoDataAgendamentoDesc(UUID solicitanteId);
+
+    // Apenas as colunas exibidas em "minhas participações", sem carregar solicitação, agendamento e dono
+    @Query("SELECT new com.engstrategy.alugai_api.dto.jogosabertos.MinhaParticipacaoResponseDTO(" +
+            "s.id, a.id, ar.nome, q.nomeQuadra, ar.urlFoto, a.dataAgendamento, " +
+            "a.horarioInicioSnapshot, a.horarioFimSnapshot, a.esporte, s.status, " +
+            "dono.nome, dono.telefone, dono.urlFoto) " +
+            "FROM SolicitacaoEntrada s " +
+            "JOIN s.agendamento a " +
+            "JOIN a.quadra q " +
+            "JOIN q.arena ar " +
+            "JOIN a.atleta dono " +
+            "WHERE s.solicitante.id = :solicitanteId " +
+            "ORDER BY a.dataAgendamento DESC, s.id DESC")
+    List<MinhaParticipacaoResponseDTO> findMinhasParticipacoes(@Param("solicitanteId") UUID solicitanteId);
+
+    // Agendamentos, entre os informados, em que o atleta já pediu para entrar
+    @Query("SELECT s.agendamento.id FROM SolicitacaoEntrada s " +
+            "WHERE s.solicitante.id = :solicitanteId AND s.agendamento.id IN :agendamentoIds")
+    Set<Long> findAgendamentoIdsSolicitados(@Param("solicitanteId") UUID solicitanteId,
+                                            @Param("agendamentoIds") Collection<Long> agendamentoIds);
 }
@@ -1,19 +1,25 @@
 package com.engstrategy.alugai_api.repository.specs;
 
 import com.engstrategy.alugai_api.model.Agendamento;
+import com.engstrategy.alugai_api.model.AgendamentoFixo;
 import com.engstrategy.alugai_api.model.Arena;
 import com.engstrategy.alugai_api.model.Quadra;
 import com.engstrategy.alugai_api.model.enums.StatusAgendamento;
 import com.engstrategy.alugai_api.model.enums.TipoAgendamento;
 import com.engstrategy.alugai_api.model.enums.TipoEsporte;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -160,4 +166,94 @@ public class AgendamentoSpecs {
         );
         return (root, query, cb) -> root.get("status").in(statusAtivo);
     }
+
+    // Compara com a FK da quadra, sem join com a arena
+    public static Specification<Agendamento> hasQuadraDaArena(UUID arenaId) {
+        return (root, query, builder) -> builder.equal(root.get("quadra").get("arena").get("id"), arenaId);
+    }
+
+    public static Specification<Agendamento> hasQuadraDaArenaIn(Collection<UUID> arenaIds) {
+        return (root, query, builder) -> root.get("quadra").get("arena").get("id").in(arenaIds);
+    }
+
+    /**
+     * Cards da listagem: os agendamentos avulsos com status na lista e, de cada recorrência,
+     * apenas a próxima ocorrência (menor id a partir de hoje) com status na lista.
+     * O filtro de tipo, quando informado, vale só para os avulsos.
+     */
+    public static Specification<Agendamento> isCardMestre(List<StatusAgendamento> statuses, Boolean isFixoAvulso) {
+        return (root, query, builder) -> {
+            Predicate avulso = builder.and(
+                    builder.isNull(root.get("agendamentoFixo")),
+                    root.get("status").in(statuses));
+            if (isFixoAvulso != null) {
+                avulso = builder.and(avulso, builder.equal(root.get("isFixo"), isFixoAvulso));
+            }
+
+            // As ocorrências de uma recorrência compartilham atleta e quadra: basta correlacionar pela recorrência
+            Subquery<Long> proximaOcorrencia = query.subquery(Long.class);
+            Root<Agendamento> ocorrencia = proximaOcorrencia.from(Agendamento.class);
+            proximaOcorrencia.select(builder.min(ocorrencia.<Long>get("id")))
+                    .where(builder.equal(ocorrencia.get("agendamentoFixo"), root.get("agendamentoFixo")),
+                            ocorrencia.get("status").in(statuses),
+                            builder.greaterThanOrEqualTo(ocorrencia.get("dataAgendamento"),
+                                    LocalDate.now(ZoneId.of("America/Sao_Paulo"))));
+
+            Predicate mestre = builder.and(
+                    builder.isNotNull(root.get("agendamentoFixo")),
+                    builder.equal(root.get("id"), proximaOcorrencia));
+
+            return builder.or(avulso, mestre);
+        };
+    }
+
+    /**
+     * Cards com os status ativos: como {@link #isCardMestre}, mas a ocorrência de cada recorrência é a
+     * próxima ocorrência ativa mantida no próprio AgendamentoFixo, sem subconsulta por linha.
+     */
+    public static Specification<Agendamento> isCardMestreAtivo(List<StatusAgendamento> statusesAtivos, Boolean isFixoAvulso) {
+        return (root, query, builder) -> {
+            Join<Agendamento, AgendamentoFixo> recorrencia = root.join("agendamentoFixo", JoinType.LEFT);
+
+            Predicate avulso = builder.and(
+                    builder.isNull(root.get("agendamentoFixo")),
+                    root.get("status").in(statusesAtivos));
+            if (isFixoAvulso != null) {
+                avulso = builder.and(avulso, builder.equal(root.get("isFixo"), isFixoAvulso));
+            }
+
+            Predicate mestre = builder.equal(recorrencia.get("proximaOcorrencia").get("id"), root.get("id"));
+
+            return builder.or(avulso, mestre);
+        };
+    }
+
+    /**
+     * Paginação por keyset: agendamentos depois da posição (data, horário de início, id) na ordenação ascendente.
+     * Sem horário o agendamento fica no fim do dia, como no NULLS LAST padrão do PostgreSQL.
+     */
+    public static Specification<Agendamento> isAposCursor(LocalDate data, LocalTime horarioInicio, Long id) {
+        return (root, query, builder) -> {
+            Path<LocalDate> dataAgendamento = root.get("dataAgendamento");
+            Path<LocalTime> horario = root.get("horarioInicioSnapshot");
+            Path<Long> agendamentoId = root.get("id");
+            Predicate mesmaData = builder.equal(dataAgendamento, data);
+
+            Predicate depois;
+            if (horarioInicio == null) {
+                depois = builder.or(
+                        builder.greaterThan(dataAgendamento, data),
+                        builder.and(mesmaData, builder.isNull(horario), builder.greaterThan(agendamentoId, id)));
+            } else {
+                depois = builder.or(
+                        builder.greaterThan(dataAgendamento, data),
+                        builder.and(mesmaData, builder.greaterThan(horario, horarioInicio)),
+                        builder.and(mesmaData, builder.isNull(horario)),
+                        builder.and(mesmaData, builder.equal(horario, horarioInicio), builder.greaterThan(agendamentoId, id)));
+            }
+
+            // O limite na data deixa o índice começar a leitura na posição do cursor
+            return builder.and(builder.greaterThanOrEqualTo(dataAgendamento, data), depois);
+        };
+    }
 }
@@ -0,0 +1,18 @@
+package com.engstrategy.alugai_api.repository.specs;
+
+import com.engstrategy.alugai_api.model.Quadra;
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public class QuadraSpecs {
+
+    public static Specification<Quadra> hasArenaId(UUID arenaId) {
+        return (root, query, builder) -> builder.equal(root.get("arena").get("id"), arenaId);
+    }
+
+    public static Specification<Quadra> hasEsporte(TipoEsporte esporte) {
+        return (root, query, builder) -> builder.isMember(esporte, root.get("tipoQuadra"));
+    }
+}
@@ -1,40 +1,25 @@
 package com.engstrategy.alugai_api.scheduling;
 
-import com.engstrategy.alugai_api.model.Agendamento;
-import com.engstrategy.alugai_api.model.enums.StatusAgendamento;
-import com.engstrategy.alugai_api.repository.AgendamentoRepository;
-import jakarta.transaction.Transactional;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.engstrategy.alugai_api.service.impl.ExpiracaoAgendamentoService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.util.List;
-
 @Component
-@Slf4j
+@RequiredArgsConstructor
 public class AgendamentoCleanerJob {
 
-    @Autowired
-    private AgendamentoRepository agendamentoRepository;
+    private final ExpiracaoAgendamentoService expiracaoAgendamentoService;
 
-    // Roda a cada 5 minutos
-    @Scheduled(fixedRate = 300000)
-    @Transactional
+    // Avança o timer wheel: os agendamentos são cancelados no segundo em que o prazo de pagamento vence
+    @Scheduled(fixedRate = 1000)
     public void liberarHorariosExpirados() {
-        LocalDateTime limite = LocalDateTime.now().minusMinutes(10);
-
-        // Encontra agendamentos que estão AGUARDANDO_PAGAMENTO E criados antes do limite
-        List<Agendamento> agendamentosExpirados = agendamentoRepository.findExpirados(
-                StatusAgendamento.AGUARDANDO_PAGAMENTO,
-                limite
-        );
+        expiracaoAgendamentoService.expirarVencidos();
+    }
 
-        for (Agendamento agendamento : agendamentosExpirados) {
-            agendamento.setStatus(StatusAgendamento.CANCELADO);
-            log.info("Agendamento {} expirado e cancelado.", agendamento.getId());
-        }
-        agendamentoRepository.saveAll(agendamentosExpirados);
+    // Inclui no wheel os agendamentos aguardando pagamento que ainda não estão nele (ver ExpiracaoAgendamentoService)
+    @Scheduled(initialDelay = 900000, fixedDelay = 900000)
+    public void sincronizarExpiracoes() {
+        expiracaoAgendamentoService.reconstruir();
     }
-}
\ No newline at end of file
+}
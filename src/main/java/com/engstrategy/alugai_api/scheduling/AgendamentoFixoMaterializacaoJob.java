@@ -0,0 +1,40 @@
+package com.engstrategy.alugai_api.scheduling;
+
+import com.engstrategy.alugai_api.service.AgendamentoFixoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AgendamentoFixoMaterializacaoJob {
+
+    private final AgendamentoFixoService agendamentoFixoService;
+
+    // Roda todo dia de madrugada, avançando a janela de cada recorrência ativa
+    @Scheduled(cron = "${arenahub.agendamento.fixo.materializacao-cron:0 30 2 * * *}", zone = "America/Sao_Paulo")
+    public void materializarRecorrencias() {
+        int criados = 0;
+        int falhas = 0;
+        // Cada recorrência em sua própria transação: um conflito em uma não desfaz as demais
+        for (Long agendamentoFixoId : agendamentoFixoService.buscarRecorrenciasParaMaterializar()) {
+            try {
+                criados += agendamentoFixoService.materializarRecorrencia(agendamentoFixoId);
+            } catch (RuntimeException e) {
+                falhas++;
+                log.error("Falha ao materializar a recorrência ID {}; nova tentativa na próxima execução.", agendamentoFixoId, e);
+            }
+        }
+        log.info("Materialização de agendamentos fixos concluída: {} agendamento(s) criado(s), {} recorrência(s) com falha.",
+                criados, falhas);
+    }
+
+    // Na virada do dia a próxima ocorrência de cada recorrência passa para a semana seguinte
+    @Scheduled(cron = "${arenahub.agendamento.fixo.resumo-cron:0 0 0 * * *}", zone = "America/Sao_Paulo")
+    public void atualizarResumoRecorrencias() {
+        int atualizadas = agendamentoFixoService.atualizarResumoDasRecorrencias();
+        log.info("Resumo de agendamentos fixos atualizado: {} recorrência(s).", atualizadas);
+    }
+}
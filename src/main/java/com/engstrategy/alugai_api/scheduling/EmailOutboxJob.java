@@ -0,0 +1,108 @@
+package com.engstrategy.alugai_api.scheduling;
+
+import com.engstrategy.alugai_api.model.EmailPendente;
+import com.engstrategy.alugai_api.model.enums.StatusEmail;
+import com.engstrategy.alugai_api.repository.EmailPendenteRepository;
+import com.engstrategy.alugai_api.service.impl.EmailService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Envia os e-mails da outbox em lotes. Cada lote é reservado em uma transação curta: as linhas são travadas
+ * com SKIP LOCKED e a próxima tentativa é adiada pelo tempo da reserva, então várias instâncias podem rodar o job
+ * sem enviar o mesmo e-mail em paralelo. O envio acontece fora de transação e cada resultado é gravado na sua.
+ * A entrega é "ao menos uma vez": se o resultado não for gravado, o e-mail volta a ser enviado quando a reserva vencer.
+ */
+@Component
+@Slf4j
+public class EmailOutboxJob {
+
+    private final EmailPendenteRepository emailPendenteRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final int maxTentativas;
+    private final Duration reserva;
+
+    public EmailOutboxJob(EmailPendenteRepository emailPendenteRepository,
+                          EmailService emailService,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${arenahub.email.outbox.lote:50}") int tamanhoLote,
+                          @Value("${arenahub.email.outbox.max-tentativas:6}") int maxTentativas,
+                          @Value("${arenahub.email.outbox.reserva:10m}") Duration reserva) {
+        this.emailPendenteRepository = emailPendenteRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+        this.tamanhoLote = tamanhoLote;
+        this.maxTentativas = maxTentativas;
+        this.reserva = reserva;
+    }
+
+    @Scheduled(fixedDelayString = "${arenahub.email.outbox.intervalo-ms:5000}")
+    public void enviarPendentes() {
+        List<EmailPendente> lote = transactionTemplate.execute(status -> reservarLote(LocalDateTime.now()));
+        if (lote == null || lote.isEmpty()) {
+            return;
+        }
+
+        // Sem transação aberta: nenhuma conexão ou lock fica preso enquanto o SMTP responde
+        int enviados = 0;
+        for (EmailPendente email : lote) {
+            try {
+                emailService.enviar(email.getDestinatario(), email.getAssunto(), email.getConteudoHtml());
+                email.setStatus(StatusEmail.ENVIADO);
+                email.setDataEnvio(LocalDateTime.now());
+                enviados++;
+            } catch (Exception e) {
+                registrarFalha(email, e, LocalDateTime.now());
+            }
+            // save já abre a própria transação
+            emailPendenteRepository.save(email);
+        }
+
+        log.info("Outbox de e-mails: {} de {} enviado(s).", enviados, lote.size());
+    }
+
+    // Adia a próxima tentativa do lote pelo tempo da reserva; as outras instâncias deixam de enxergá-lo
+    private List<EmailPendente> reservarLote(LocalDateTime agora) {
+        List<EmailPendente> lote = emailPendenteRepository.findProntosParaEnvio(agora, PageRequest.of(0, tamanhoLote));
+        lote.forEach(email -> email.setProximaTentativa(agora.plus(reserva)));
+        return lote;
+    }
+
+    // Remove os e-mails enviados há mais de uma semana
+    @Scheduled(cron = "0 0 4 * * *", zone = "America/Sao_Paulo")
+    @Transactional
+    public void limparEnviados() {
+        int removidos = emailPendenteRepository.deleteByStatusAndDataCriacaoBefore(
+                StatusEmail.ENVIADO, LocalDateTime.now().minusDays(7));
+        log.info("Outbox de e-mails: {} e-mail(s) enviados removidos.", removidos);
+    }
+
+    // Espera exponencial entre as tentativas: 1, 2, 4, 8... minutos
+    private void registrarFalha(EmailPendente email, Exception e, LocalDateTime agora) {
+        email.setTentativas(email.getTentativas() + 1);
+        String erro = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        email.setUltimoErro(erro.length() > 1000 ? erro.substring(0, 1000) : erro);
+
+        if (email.getTentativas() >= maxTentativas) {
+            email.setStatus(StatusEmail.FALHOU);
+            log.error("Email {} para {} descartado após {} tentativas: {}",
+                    email.getId(), email.getDestinatario(), email.getTentativas(), erro);
+            return;
+        }
+
+        email.setProximaTentativa(agora.plusMinutes(1L << (email.getTentativas() - 1)));
+        log.warn("Falha ao enviar email {} para {} (tentativa {}): {}",
+                email.getId(), email.getDestinatario(), email.getTentativas(), erro);
+    }
+}
@@ -0,0 +1,19 @@
+package com.engstrategy.alugai_api.scheduling;
+
+import com.engstrategy.alugai_api.service.impl.IndiceArenasService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class IndiceArenasJob {
+
+    private final IndiceArenasService indiceArenasService;
+
+    // Inclui no índice as arenas criadas ou alteradas por outras instâncias
+    @Scheduled(initialDelay = 300000, fixedDelay = 300000)
+    public void sincronizarIndice() {
+        indiceArenasService.reconstruir();
+    }
+}
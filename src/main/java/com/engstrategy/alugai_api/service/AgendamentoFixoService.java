@@ -4,6 +4,7 @@ import com.engstrategy.alugai_api.model.Agendamento;
 import com.engstrategy.alugai_api.model.AgendamentoFixo;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,11 +12,27 @@ public interface AgendamentoFixoService {
 
     AgendamentoFixo criarAgendamentosFixos(Agendamento agendamentoBase);
 
-    void cancelarAgendamentoFixo(Long agendamentoFixoId, UUID usuarioId);
+    // Usa as datas de conflito já apuradas na pré-validação, sem consultar o banco de novo
+    AgendamentoFixo criarAgendamentosFixos(Agendamento agendamentoBase, Collection<LocalDate> datasConflito);
+
+    // Retorna as datas das ocorrências canceladas
+    List<LocalDate> cancelarAgendamentoFixo(Long agendamentoFixoId, UUID usuarioId);
 
     AgendamentoFixo buscarPorId(Long id);
 
     List<LocalDate> preValidarAgendamentoFixo(Agendamento agendamentoBase);
 
-    void cancelarAgendamentoFixoPorArena(Long agendamentoFixoId, UUID arenaId);
+    List<LocalDate> cancelarAgendamentoFixoPorArena(Long agendamentoFixoId, UUID arenaId);
+
+    // Recorrências ativas cuja janela materializada ainda não chegou ao horizonte
+    List<Long> buscarRecorrenciasParaMaterializar();
+
+    // Avança a janela materializada de uma recorrência, em transação própria; retorna quantos agendamentos foram criados
+    int materializarRecorrencia(Long agendamentoFixoId);
+
+    // Recalcula a próxima ocorrência e os contadores depois de uma mudança nas ocorrências
+    void atualizarResumo(Long agendamentoFixoId);
+
+    // Avança a próxima ocorrência de todas as recorrências ativas (virada do dia)
+    int atualizarResumoDasRecorrencias();
 }
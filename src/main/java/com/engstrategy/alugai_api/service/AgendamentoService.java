@@ -2,7 +2,10 @@ package com.engstrategy.alugai_api.service;
 
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoCreateDTO;
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoExternoCreateDTO;
+import com.engstrategy.alugai_api.dto.agendamento.AgendamentoResponseDTO;
+import com.engstrategy.alugai_api.dto.agendamento.PaginaCursorDTO;
 import com.engstrategy.alugai_api.dto.agendamento.PixPagamentoResponseDTO;
+import com.engstrategy.alugai_api.dto.agendamento.arena.AgendamentoArenaResponseDTO;
 import com.engstrategy.alugai_api.model.Agendamento;
 import com.engstrategy.alugai_api.model.enums.StatusAgendamento;
 import com.engstrategy.alugai_api.model.enums.TipoAgendamento;
@@ -47,7 +50,7 @@ public interface AgendamentoService {
 
     StatusAgendamento verificarStatus(Long agendamentoId);
 
-    Page<Agendamento> buscarCardsMestrePorArenaId(
+    Page<AgendamentoArenaResponseDTO> buscarCardsMestrePorArenaId(
             UUID arenaId,
             LocalDate dataInicio,
             LocalDate dataFim,
@@ -56,14 +59,33 @@ public interface AgendamentoService {
             Pageable pageable
     );
 
+    PaginaCursorDTO<AgendamentoArenaResponseDTO> buscarCardsMestrePorArenaIdAposCursor(
+            UUID arenaId,
+            LocalDate dataInicio,
+            LocalDate dataFim,
+            Long quadraId,
+            StatusAgendamento status,
+            String cursor,
+            int tamanho
+    );
+
     List<Agendamento> buscarAgendamentosFixosFilhos(Long agendamentoFixoId, UUID arenaId);
 
-    Page<Agendamento> buscarCardsMestrePorAtletaId(UUID atletaId,
-                                                   LocalDate dataInicio,
-                                                   LocalDate dataFim,
-                                                   TipoAgendamento tipoAgendamento,
-                                                   StatusAgendamento status,
-                                                   Pageable pageable);
+    Page<AgendamentoResponseDTO> buscarCardsMestrePorAtletaId(UUID atletaId,
+                                                              LocalDate dataInicio,
+                                                              LocalDate dataFim,
+                                                              TipoAgendamento tipoAgendamento,
+                                                              StatusAgendamento status,
+                                                              Pageable pageable);
+
+    // Paginação por cursor (keyset) dos mesmos cards; cursor vazio começa do início
+    PaginaCursorDTO<AgendamentoResponseDTO> buscarCardsMestrePorAtletaIdAposCursor(UUID atletaId,
+                                                                                   LocalDate dataInicio,
+                                                                                   LocalDate dataFim,
+                                                                                   TipoAgendamento tipoAgendamento,
+                                                                                   StatusAgendamento status,
+                                                                                   String cursor,
+                                                                                   int tamanho);
 
     List<Agendamento> buscarAgendamentosFixosFilhosAtleta(Long agendamentoFixoId, UUID atletaId);
 }
\ No newline at end of file
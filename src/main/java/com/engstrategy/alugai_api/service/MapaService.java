@@ -0,0 +1,12 @@
+package com.engstrategy.alugai_api.service;
+
+import com.engstrategy.alugai_api.dto.mapa.MapaResponseDTO;
+
+public interface MapaService {
+
+    MapaResponseDTO buscarArea(double latitudeMinima,
+                               double longitudeMinima,
+                               double latitudeMaxima,
+                               double longitudeMaxima,
+                               int zoom);
+}
@@ -1,13 +1,17 @@
 package com.engstrategy.alugai_api.service;
 
+import com.engstrategy.alugai_api.dto.quadra.GradeDisponibilidadeResponseDTO;
+import com.engstrategy.alugai_api.dto.quadra.HorarioDisponivelProximoDTO;
 import com.engstrategy.alugai_api.dto.quadra.QuadraResponseDTO;
 import com.engstrategy.alugai_api.dto.quadra.QuadraUpdateDTO;
 import com.engstrategy.alugai_api.dto.quadra.SlotHorarioResponseDTO;
 import com.engstrategy.alugai_api.model.Quadra;
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,4 +23,10 @@ public interface QuadraService {
     void excluir(Long id, UUID arenaId);
     List<QuadraResponseDTO> buscarPorArenaId(UUID arenaId);
     List<SlotHorarioResponseDTO> consultarDisponibilidade(Long quadraId, LocalDate data);
+    // Mesma consulta sem o cache de disponibilidade (estado inicial dos streams)
+    List<SlotHorarioResponseDTO> consultarDisponibilidadeAtual(Long quadraId, LocalDate data);
+    GradeDisponibilidadeResponseDTO consultarGradeDisponibilidade(UUID arenaId, LocalDate dataInicio, LocalDate dataFim);
+    List<HorarioDisponivelProximoDTO> buscarHorariosDisponiveisProximos(TipoEsporte esporte, Double latitude, Double longitude,
+                                                                      Double raioKm, LocalDate data, LocalTime horarioInicio,
+                                                                      LocalTime horarioFim, int limite);
 }
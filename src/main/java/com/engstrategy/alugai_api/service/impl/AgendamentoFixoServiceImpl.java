@@ -1,5 +1,8 @@
 package com.engstrategy.alugai_api.service.impl;
 
+import com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO;
+import com.engstrategy.alugai_api.event.HorariosQuadraAlteradosEvent;
+import com.engstrategy.alugai_api.event.OcupacaoQuadraAlteradaEvent;
 import com.engstrategy.alugai_api.exceptions.AccessDeniedException;
 import com.engstrategy.alugai_api.exceptions.UserNotFoundException;
 import com.engstrategy.alugai_api.model.Agendamento;
@@ -10,16 +13,19 @@ import com.engstrategy.alugai_api.model.enums.*;
 import com.engstrategy.alugai_api.repository.AgendamentoFixoRepository;
 import com.engstrategy.alugai_api.repository.AgendamentoRepository;
 import com.engstrategy.alugai_api.repository.AtletaRepository;
-import com.engstrategy.alugai_api.repository.SlotHorarioRepository;
 import com.engstrategy.alugai_api.service.AgendamentoFixoService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,38 +34,68 @@ public class AgendamentoFixoServiceImpl implements AgendamentoFixoService {
 
     private final AgendamentoRepository agendamentoRepository;
     private final AgendamentoFixoRepository agendamentoFixoRepository;
-    private final SlotHorarioRepository slotHorarioRepository;
     private final AtletaRepository atletaRepository;
+    private final BloqueioAgendamentoService bloqueioAgendamentoService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ZoneId fusoHorarioPadrao = ZoneId.of("America/Sao_Paulo");
+
+    // Quantas semanas à frente de hoje as ocorrências existem como Agendamento
+    @Value("${arenahub.agendamento.fixo.horizonte-semanas:4}")
+    private int horizonteSemanas;
 
     @Override
     public AgendamentoFixo criarAgendamentosFixos(Agendamento agendamentoBase) {
+        List<LocalDate> datas = calcularDatasRecorrencia(agendamentoBase);
+        return criarAgendamentosFixos(agendamentoBase, datas, buscarConflitos(agendamentoBase, datas).keySet());
+    }
+
+    @Override
+    public AgendamentoFixo criarAgendamentosFixos(Agendamento agendamentoBase, Collection<LocalDate> datasConflito) {
+        return criarAgendamentosFixos(agendamentoBase, calcularDatasRecorrencia(agendamentoBase), datasConflito);
+    }
+
+    private AgendamentoFixo criarAgendamentosFixos(Agendamento agendamentoBase,
+                                                   List<LocalDate> datasRecorrencia,
+                                                   Collection<LocalDate> datasConflito) {
         log.info("Iniciando criação de agendamentos fixos para o agendamento base ID: {}", agendamentoBase.getId());
 
-        // Calcular o limite teórico para a geração dos agendamentos.
-        LocalDate dataLimite = calcularDataFim(agendamentoBase.getDataAgendamento(), agendamentoBase.getPeriodoAgendamentoFixo());
+        // A regra cobre todo o período; só as datas dentro do horizonte viram agendamentos agora
+        LocalDate limiteMaterializacao = limiteMaterializacao();
 
         // Criar a entidade AgendamentoFixo EM MEMÓRIA, sem salvar ainda.
         AgendamentoFixo agendamentoFixo = AgendamentoFixo.builder()
                 .dataInicio(agendamentoBase.getDataAgendamento())
                 .periodo(agendamentoBase.getPeriodoAgendamentoFixo())
                 .atleta(agendamentoBase.getAtleta())
+                .quadra(agendamentoBase.getQuadra())
+                .diaDaSemana(DiaDaSemana.fromLocalDate(agendamentoBase.getDataAgendamento()))
+                .horarioInicio(agendamentoBase.getHorarioInicio())
+                .horarioFim(agendamentoBase.getHorarioFim())
                 .build();
 
-        // Gerar os agendamentos futuros passando o limite teórico.
-        List<Agendamento> agendamentosFuturos = gerarAgendamentosFuturos(agendamentoBase, dataLimite, agendamentoFixo);
-
-        // Determinar a data final REAL baseada no último agendamento criado com sucesso.
-        LocalDate dataFimReal;
-        if (!agendamentosFuturos.isEmpty()) {
-            // A data final é a data do último agendamento na lista gerada.
-            dataFimReal = agendamentosFuturos.get(agendamentosFuturos.size() - 1).getDataAgendamento();
-        } else {
-            // Se nenhum agendamento futuro pôde ser criado (todos deram conflito),
-            // a data final é a mesma da data de início.
-            dataFimReal = agendamentoBase.getDataAgendamento();
-        }
+        // Datas com conflito já conhecidas ficam registradas para não serem materializadas depois.
+        datasRecorrencia.stream().filter(datasConflito::contains).forEach(agendamentoFixo.getDatasIgnoradas()::add);
+
+        // Gerar os agendamentos futuros dentro do horizonte, pulando as datas com conflito.
+        List<LocalDate> datasMaterializadas = datasRecorrencia.stream()
+                .filter(data -> !data.isAfter(limiteMaterializacao))
+                .toList();
+        List<Agendamento> agendamentosFuturos = gerarAgendamentosFuturos(
+                agendamentoBase, datasMaterializadas, datasConflito, agendamentoFixo);
+
+        // A data final é a última ocorrência sem conflito da regra (ou a data de início, se todas conflitaram).
+        LocalDate dataFimReal = datasRecorrencia.stream()
+                .filter(data -> !datasConflito.contains(data))
+                .reduce((primeira, segunda) -> segunda)
+                .orElse(agendamentoBase.getDataAgendamento());
         agendamentoFixo.setDataFim(dataFimReal);
 
+        LocalDate materializadoAte = dataFimReal.isAfter(limiteMaterializacao) ? limiteMaterializacao : dataFimReal;
+        if (materializadoAte.isBefore(agendamentoBase.getDataAgendamento())) {
+            materializadoAte = agendamentoBase.getDataAgendamento();
+        }
+        agendamentoFixo.setMaterializadoAte(materializadoAte);
+
         // Salvar a entidade AgendamentoFixo com a data final correta.
         agendamentoFixo = agendamentoFixoRepository.save(agendamentoFixo);
 
@@ -72,41 +108,122 @@ public class AgendamentoFixoServiceImpl implements AgendamentoFixoService {
         // Salvar as alterações no agendamento base e os novos agendamentos futuros.
         agendamentoRepository.save(agendamentoBase);
         agendamentoRepository.saveAll(agendamentosFuturos);
+        agendamentosFuturos.forEach(futuro -> eventPublisher.publishEvent(OcupacaoQuadraAlteradaEvent.ocupou(futuro)));
+
+        // As ocorrências não materializadas ocupam datas que nenhum evento de agendamento cobre
+        if (agendamentoFixo.getMaterializadoAte().isBefore(agendamentoFixo.getDataFim())) {
+            eventPublisher.publishEvent(new HorariosQuadraAlteradosEvent(agendamentoBase.getQuadra().getId()));
+        }
 
-        log.info("Agendamentos fixos criados com sucesso. Data de início: {}, Data de fim real: {}. Total: {} agendamentos.",
-                agendamentoFixo.getDataInicio(), agendamentoFixo.getDataFim(), agendamentosFuturos.size() + 1);
+        log.info("Agendamentos fixos criados com sucesso. Data de início: {}, Data de fim: {}, materializado até: {}. Total: {} agendamentos.",
+                agendamentoFixo.getDataInicio(), agendamentoFixo.getDataFim(), agendamentoFixo.getMaterializadoAte(),
+                agendamentosFuturos.size() + 1);
 
+        agendamentoFixoRepository.atualizarResumo(List.of(agendamentoFixo.getId()), LocalDate.now(fusoHorarioPadrao));
         return agendamentoFixo;
     }
 
+    @Override
+    public List<Long> buscarRecorrenciasParaMaterializar() {
+        return agendamentoFixoRepository.findIdsParaMaterializar(limiteMaterializacao());
+    }
+
+    @Override
+    @Transactional
+    public int materializarRecorrencia(Long agendamentoFixoId) {
+        LocalDate limite = limiteMaterializacao();
+        AgendamentoFixo agendamentoFixo = agendamentoFixoRepository.findById(agendamentoFixoId)
+                .orElseThrow(() -> new EntityNotFoundException("Agendamento fixo não encontrado com id: " + agendamentoFixoId));
+
+        // Pode ter sido cancelada ou materializada entre a busca dos ids e esta transação
+        if (agendamentoFixo.getStatus() != StatusAgendamentoFixo.ATIVO
+                || !agendamentoFixo.getMaterializadoAte().isBefore(agendamentoFixo.getDataFim())
+                || !agendamentoFixo.getMaterializadoAte().isBefore(limite)) {
+            return 0;
+        }
+
+        int criados = materializarAte(agendamentoFixo, limite);
+        agendamentoFixoRepository.atualizarResumo(List.of(agendamentoFixo.getId()), LocalDate.now(fusoHorarioPadrao));
+        return criados;
+    }
+
+    private LocalDate limiteMaterializacao() {
+        return LocalDate.now(fusoHorarioPadrao).plusWeeks(horizonteSemanas);
+    }
+
+    /**
+     * Cria os agendamentos da recorrência até o limite a partir da própria regra (quadra, dia da semana e horário).
+     * Uma data que passou a ter conflito é ignorada, como na criação da recorrência.
+     */
+    private int materializarAte(AgendamentoFixo agendamentoFixo, LocalDate limite) {
+        // Esporte, valor e slots vêm da ocorrência mais recente, mesmo cancelada; a regra sempre tem a ocorrência base
+        Optional<Agendamento> referencia = agendamentoRepository
+                .findFirstByAgendamentoFixoIdOrderByDataAgendamentoDesc(agendamentoFixo.getId());
+        if (referencia.isEmpty()) {
+            log.warn("Recorrência ID {} sem nenhum agendamento: regra encerrada.", agendamentoFixo.getId());
+            liberarOcorrenciasNaoMaterializadas(agendamentoFixo);
+            agendamentoFixo.setStatus(StatusAgendamentoFixo.CANCELADO);
+            agendamentoFixoRepository.save(agendamentoFixo);
+            return 0;
+        }
+
+        Agendamento modelo = modeloDaRegra(agendamentoFixo, referencia.get());
+        List<LocalDate> datas = agendamentoFixo.datasNaoMaterializadas(agendamentoFixo.getMaterializadoAte(), limite);
+
+        // Mesmo bloqueio da criação de agendamentos, data a data em ordem crescente, até o commit desta recorrência
+        datas.forEach(data -> bloqueioAgendamentoService.bloquear(agendamentoFixo.getQuadra().getId(), data));
+        Set<LocalDate> datasConflito = buscarConflitos(modelo, datas).keySet();
+        agendamentoFixo.getDatasIgnoradas().addAll(datasConflito);
+
+        List<Agendamento> agendamentosFuturos = gerarAgendamentosFuturos(modelo, datas, datasConflito, agendamentoFixo);
+        agendamentoRepository.saveAll(agendamentosFuturos);
+
+        agendamentoFixo.setMaterializadoAte(limite.isBefore(agendamentoFixo.getDataFim()) ? limite : agendamentoFixo.getDataFim());
+        agendamentoFixoRepository.save(agendamentoFixo);
+
+        log.info("Recorrência ID {} materializada até {}: {} agendamento(s) criado(s).",
+                agendamentoFixo.getId(), agendamentoFixo.getMaterializadoAte(), agendamentosFuturos.size());
+
+        return agendamentosFuturos.size();
+    }
+
+    // Agendamento transiente com quadra, atleta e horário da regra, usado como base das novas ocorrências
+    private Agendamento modeloDaRegra(AgendamentoFixo agendamentoFixo, Agendamento referencia) {
+        // Uma ocorrência cancelada não passa o status adiante: a nova começa pendente, como um agendamento novo
+        StatusAgendamento status = referencia.getStatus() == StatusAgendamento.CANCELADO
+                ? StatusAgendamento.PENDENTE
+                : referencia.getStatus();
+
+        return Agendamento.builder()
+                .dataAgendamento(agendamentoFixo.getDataInicio())
+                .esporte(referencia.getEsporte())
+                .isFixo(true)
+                .periodoAgendamentoFixo(agendamentoFixo.getPeriodo())
+                .vagasDisponiveis(referencia.getVagasDisponiveis())
+                .status(status)
+                .quadra(agendamentoFixo.getQuadra())
+                .atleta(agendamentoFixo.getAtleta())
+                .agendamentoFixo(agendamentoFixo)
+                .asaasPaymentId(referencia.getAsaasPaymentId())
+                .slotsHorario(new HashSet<>(referencia.getSlotsHorario()))
+                .horarioInicioSnapshot(agendamentoFixo.getHorarioInicio())
+                .horarioFimSnapshot(agendamentoFixo.getHorarioFim())
+                .valorTotalSnapshot(referencia.getValorTotal())
+                .build();
+    }
+
     private List<Agendamento> gerarAgendamentosFuturos(Agendamento agendamentoBase,
-                                                       LocalDate dataLimite,
+                                                       List<LocalDate> datasRecorrencia,
+                                                       Collection<LocalDate> datasConflito,
                                                        AgendamentoFixo agendamentoFixoPai) {
         List<Agendamento> agendamentosFuturos = new ArrayList<>();
-        List<LocalDate> datasConflito = new ArrayList<>();
-
-        LocalDate dataInicio = agendamentoBase.getDataAgendamento();
-        LocalDate dataAtual = dataInicio.plusWeeks(1); // Próxima semana
-
-        while (!dataAtual.isAfter(dataLimite)) { // Usa o limite teórico passado como parâmetro
-            log.info("RECORRENCIA LOOP: Verificando data: {}", dataAtual);
-            try {
-                if (verificarDisponibilidadeParaData(agendamentoBase, dataAtual)) {
-                    // Passamos o objeto pai (ainda não salvo) para o construtor
-                    log.info("RECORRENCIA SUCESSO: Data {} está livre.", dataAtual);
-                    Agendamento novoAgendamento = criarAgendamentoFuturo(agendamentoBase, dataAtual, agendamentoFixoPai);
-                    agendamentosFuturos.add(novoAgendamento);
-                } else {
-                    log.warn("RECORRENCIA FALHA: Conflito de slot/Disponibilidade na data: {}", dataAtual);
-                    datasConflito.add(dataAtual);
-                    log.warn("Conflito encontrado na data: {} - slots não disponíveis", dataAtual);
-                }
-            } catch (Exception e) {
-                log.error("Erro ao processar data {}: {}", dataAtual, e.getMessage());
-                datasConflito.add(dataAtual);
-            }
 
-            dataAtual = dataAtual.plusWeeks(1);
+        for (LocalDate data : datasRecorrencia) {
+            if (datasConflito.contains(data)) {
+                log.warn("RECORRENCIA FALHA: Conflito de slot/Disponibilidade na data: {}", data);
+                continue;
+            }
+            agendamentosFuturos.add(criarAgendamentoFuturo(agendamentoBase, data, agendamentoFixoPai));
         }
 
         if (!datasConflito.isEmpty()) {
@@ -116,78 +233,101 @@ public class AgendamentoFixoServiceImpl implements AgendamentoFixoService {
         return agendamentosFuturos;
     }
 
-    private boolean verificarDisponibilidadeParaData(Agendamento agendamentoBase, LocalDate data) {
-        // Verificar se os slots correspondentes existem e estão disponíveis
-        Set<SlotHorario> slotsNecessarios = buscarSlotsCorrespondentesParaData(
-                agendamentoBase.getSlotsHorario(), data);
+    /**
+     * Datas semanais da recorrência, a partir da semana seguinte ao agendamento base até o fim do período.
+     */
+    private List<LocalDate> calcularDatasRecorrencia(Agendamento agendamentoBase) {
+        LocalDate dataLimite = calcularDataFim(agendamentoBase.getDataAgendamento(), agendamentoBase.getPeriodoAgendamentoFixo());
 
-        if (slotsNecessarios.size() != agendamentoBase.getSlotsHorario().size()) {
-            log.error("PRE-VALIDATION ERRO: Slot(s) para {} não encontrados/configurados.", data);
-            return false;
+        List<LocalDate> datas = new ArrayList<>();
+        for (LocalDate data = agendamentoBase.getDataAgendamento().plusWeeks(1); !data.isAfter(dataLimite); data = data.plusWeeks(1)) {
+            datas.add(data);
         }
+        return datas;
+    }
 
-        for (SlotHorario slot : slotsNecessarios) {
-            // Verifica se o slot está fisicamente disponível (manutenção/indisponível)
-            if (slot.getStatusDisponibilidade() == StatusDisponibilidade.MANUTENCAO ||
-                    slot.getStatusDisponibilidade() == StatusDisponibilidade.INDISPONIVEL) {
-                log.warn("PRE-VALIDATION FALHA: Slot ID {} está indisponível (Manutenção/Bloqueado) para {}", slot.getId(), data);
-                return false;
-            }
+    /**
+     * Busca, com uma única consulta, todos os pares (data, slot) da recorrência que já estão ocupados.
+     * Como todas as datas caem no mesmo dia da semana, os slots de cada ocorrência são os mesmos do agendamento base.
+     */
+    private Map<LocalDate, Set<SlotHorario>> buscarConflitos(Agendamento agendamentoBase, List<LocalDate> datas) {
+        Map<LocalDate, Set<SlotHorario>> conflitos = new TreeMap<>();
+        if (datas.isEmpty()) {
+            return conflitos;
         }
 
-        // Verificar se há conflitos de agendamento
-        for (SlotHorario slot : slotsNecessarios) {
-            boolean temConflito = agendamentoRepository.existeConflito(
-                    data,
-                    agendamentoBase.getQuadra().getId(),
-                    slot.getHorarioInicio(),
-                    slot.getHorarioFim()
-            );
-
-            if (temConflito) {
-                log.error("PRE-VALIDATION FALHA: Slot ID {} já possui um agendamento conflitante em {}", slot.getId(), data);
-                return false;
-            }
+        // Slot em manutenção/bloqueado compromete todas as ocorrências
+        Set<SlotHorario> slotsIndisponiveis = agendamentoBase.getSlotsHorario().stream()
+                .filter(slot -> slot.getStatusDisponibilidade() == StatusDisponibilidade.MANUTENCAO ||
+                        slot.getStatusDisponibilidade() == StatusDisponibilidade.INDISPONIVEL)
+                .collect(Collectors.toSet());
+
+        if (!slotsIndisponiveis.isEmpty()) {
+            log.warn("PRE-VALIDATION FALHA: Slot(s) {} indisponíveis (Manutenção/Bloqueado).",
+                    slotsIndisponiveis.stream().map(SlotHorario::getId).toList());
+            datas.forEach(data -> conflitos.put(data, slotsIndisponiveis));
+            return conflitos;
         }
 
-        return true;
-    }
+        List<OcupacaoHorarioDTO> ocupados = agendamentoRepository.findHorariosOcupadosNasDatas(
+                agendamentoBase.getQuadra().getId(),
+                datas,
+                agendamentoBase.getHorarioInicio(),
+                agendamentoBase.getHorarioFim()
+        );
+
+        for (OcupacaoHorarioDTO ocupado : ocupados) {
+            // Agendamentos com slots virtuais não têm slots associados: qualquer sobreposição é conflito
+            if (agendamentoBase.getSlotsHorario().isEmpty()) {
+                conflitos.computeIfAbsent(ocupado.getData(), data -> new HashSet<>());
+                continue;
+            }
+            for (SlotHorario slot : agendamentoBase.getSlotsHorario()) {
+                if (sobrepoe(slot, ocupado)) {
+                    conflitos.computeIfAbsent(ocupado.getData(), data -> new HashSet<>()).add(slot);
+                }
+            }
+        }
 
-    private Set<SlotHorario> buscarSlotsCorrespondentesParaData(Set<SlotHorario> slotsOriginais,
-                                                                LocalDate data) {
-        DiaDaSemana diaSemana = DiaDaSemana.values()[data.getDayOfWeek().getValue() - 1];
-        Set<SlotHorario> slotsCorrespondentes = new HashSet<>();
-
-        for (SlotHorario slotOriginal : slotsOriginais) {
-            List<SlotHorario> slotsCorrespondentesList = slotHorarioRepository
-                    .findByIntervaloHorario_HorarioFuncionamento_DiaDaSemanaAndHorarioInicioAndHorarioFim(
-                            diaSemana,
-                            slotOriginal.getHorarioInicio(),
-                            slotOriginal.getHorarioFim()
-                    );
-
-            if (!slotsCorrespondentesList.isEmpty()) {
-                // Pegamos o PRIMEIRO slot e logamos um WARN se houver duplicidade
-                if (slotsCorrespondentesList.size() > 1) {
-                    log.warn("ATENÇÃO: Slot duplicado encontrado para {}. Usando o ID: {}", data, slotsCorrespondentesList.get(0).getId());
+        // Ocorrências ainda não materializadas de outras recorrências no mesmo horário
+        Long recorrenciaAtualId = agendamentoBase.getAgendamentoFixo() != null ? agendamentoBase.getAgendamentoFixo().getId() : null;
+        List<AgendamentoFixo> recorrencias = agendamentoFixoRepository.findRecorrenciasNoHorario(
+                agendamentoBase.getQuadra().getId(),
+                DiaDaSemana.fromLocalDate(datas.get(0)),
+                agendamentoBase.getHorarioInicio(),
+                agendamentoBase.getHorarioFim()
+        );
+        for (AgendamentoFixo recorrencia : recorrencias) {
+            if (recorrencia.getId().equals(recorrenciaAtualId)) {
+                continue;
+            }
+            for (LocalDate data : recorrencia.datasNaoMaterializadas(datas.get(0), datas.get(datas.size() - 1))) {
+                if (datas.contains(data)) {
+                    conflitos.computeIfAbsent(data, d -> new HashSet<>()).addAll(agendamentoBase.getSlotsHorario());
                 }
-                slotsCorrespondentes.add(slotsCorrespondentesList.get(0));
-            } else {
-                // Se o slot não foi encontrado para este dia da semana (falha de inventário), falha a pré-validação
-                return new HashSet<>();
             }
         }
 
-        return slotsCorrespondentes;
+        conflitos.forEach((data, slots) -> log.warn("PRE-VALIDATION FALHA: Slot(s) {} já possuem agendamento conflitante em {}",
+                slots.stream().map(SlotHorario::getId).toList(), data));
+
+        return conflitos;
+    }
+
+    private boolean sobrepoe(SlotHorario slot, OcupacaoHorarioDTO ocupado) {
+        if (ocupado.getHorarioInicio() == null || ocupado.getHorarioFim() == null) {
+            return false;
+        }
+        return OcupacaoQuadraService.minutoInicio(slot.getHorarioInicio())
+                < OcupacaoQuadraService.minutoFim(ocupado.getHorarioInicio(), ocupado.getHorarioFim())
+                && OcupacaoQuadraService.minutoInicio(ocupado.getHorarioInicio())
+                < OcupacaoQuadraService.minutoFim(slot.getHorarioInicio(), slot.getHorarioFim());
     }
 
     private Agendamento criarAgendamentoFuturo(Agendamento agendamentoBase,
                                                LocalDate novaData,
                                                AgendamentoFixo agendamentoFixo) {
 
-        Set<SlotHorario> slotsCorrespondentes = buscarSlotsCorrespondentesParaData(
-                agendamentoBase.getSlotsHorario(), novaData);
-
         Agendamento novoAgendamento = Agendamento.builder()
                 .dataAgendamento(novaData)
                 .esporte(agendamentoBase.getEsporte())
@@ -200,7 +340,10 @@ public class AgendamentoFixoServiceImpl implements AgendamentoFixoService {
                 .atleta(agendamentoBase.getAtleta())
                 .agendamentoFixo(agendamentoFixo)
                 .asaasPaymentId(agendamentoBase.getAsaasPaymentId())
-                .slotsHorario(slotsCorrespondentes)
+                .slotsHorario(new HashSet<>(agendamentoBase.getSlotsHorario()))
+                .horarioInicioSnapshot(agendamentoBase.getHorarioInicioSnapshot())
+                .horarioFimSnapshot(agendamentoBase.getHorarioFimSnapshot())
+                .valorTotalSnapshot(agendamentoBase.getValorTotalSnapshot())
                 .build();
 
         novoAgendamento.criarSnapshot();
@@ -219,7 +362,7 @@ public class AgendamentoFixoServiceImpl implements AgendamentoFixoService {
 
     @Override
     @Transactional
-    public void cancelarAgendamentoFixo(Long agendamentoFixoId, UUID usuarioId) {
+    public List<LocalDate> cancelarAgendamentoFixo(Long agendamentoFixoId, UUID usuarioId) {
         log.info("Cancelando agendamento fixo ID: {} para usuário ID: {}", agendamentoFixoId, usuarioId);
 
         // Busca a entidade AgendamentoFixo principal
@@ -239,34 +382,18 @@ public class AgendamentoFixoServiceImpl implements AgendamentoFixoService {
             throw new IllegalArgumentException("Recorrência já está cancelada.");
         }
 
-        // Busca todos os agendamentos filhos (inclui o base e os passados)
-        List<Agendamento> agendamentosFilhos = agendamentoRepository.findByAgendamentoFixoId(agendamentoFixoId);
-
         // Data de corte: Amanhã. Não cancelamos agendamentos que já ocorreram ou que estão ocorrendo hoje.
-        LocalDate hoje = LocalDate.now();
-
-        int cancelamentosCount = 0;
-
-        // Cancela agendamentos futuros
-        for (Agendamento agendamento : agendamentosFilhos) {
-            // Cancela apenas se a data for estritamente DEPOIS de hoje E o status não for CANCELADO
-            if (agendamento.getDataAgendamento().isAfter(hoje) && agendamento.getStatus() != StatusAgendamento.CANCELADO) {
-                agendamento.setStatus(StatusAgendamento.CANCELADO);
-                agendamentoRepository.save(agendamento); // Salvando explicitamente
-                cancelamentosCount++;
-            }
-        }
-
-        // Marca Agendamento Fixo (pai) como cancelado
-        agendamentoFixo.setStatus(StatusAgendamentoFixo.CANCELADO);
-        agendamentoFixoRepository.save(agendamentoFixo);
+        LocalDate hoje = LocalDate.now(fusoHorarioPadrao);
+        List<LocalDate> datasCanceladas = cancelarOcorrencias(agendamentoFixo, hoje.plusDays(1));
 
         log.info("Agendamento fixo ID {} cancelado com sucesso pelo Atleta {}. Total de agendamentos cancelados: {}",
-                agendamentoFixoId, atleta.getNome(), cancelamentosCount);
+                agendamentoFixoId, atleta.getNome(), datasCanceladas.size());
+        return datasCanceladas;
     }
 
     @Override
-    public void cancelarAgendamentoFixoPorArena(Long agendamentoFixoId, UUID arenaId) {
+    @Transactional
+    public List<LocalDate> cancelarAgendamentoFixoPorArena(Long agendamentoFixoId, UUID arenaId) {
         log.info("Cancelando agendamento fixo ID: {} pela Arena {}", agendamentoFixoId, arenaId);
 
         // Busca o agendamento fixo pai
@@ -284,24 +411,51 @@ public class AgendamentoFixoServiceImpl implements AgendamentoFixoService {
             throw new IllegalArgumentException("Recorrência já está cancelada");
         }
 
-        // Busca todos os agendamentos futuros (ou apenas o Agendamento Base)
-        List<Agendamento> agendamentosFuturos = agendamentoRepository.findByAgendamentoFixoId(agendamentoFixoId);
+        // Cancela agendamentos futuros, incluindo os de hoje, e libera os horários
+        LocalDate hoje = LocalDate.now(fusoHorarioPadrao);
+        List<LocalDate> datasCanceladas = cancelarOcorrencias(agendamentoFixo, hoje);
 
-        LocalDate hoje = LocalDate.now();
+        log.info("Recorrência fixa ID {} cancelada com sucesso pela Arena. Total de agendamentos cancelados: {}",
+                agendamentoFixoId, datasCanceladas.size());
+        return datasCanceladas;
+    }
 
-        // Cancela agendamentos futuros e liberar slots
-        for (Agendamento agendamento : agendamentosFuturos) {
-            if (!agendamento.getDataAgendamento().isBefore(hoje) && agendamento.getStatus() != StatusAgendamento.CANCELADO) {
-                agendamento.setStatus(StatusAgendamento.CANCELADO);
-                agendamentoRepository.save(agendamento);
-            }
-        }
+    // Cancela as ocorrências materializadas a partir da data em um único UPDATE, marca a regra como cancelada
+    // e libera apenas os horários efetivamente cancelados
+    private List<LocalDate> cancelarOcorrencias(AgendamentoFixo agendamentoFixo, LocalDate dataInicial) {
+        List<OcupacaoHorarioDTO> liberados =
+                agendamentoRepository.cancelarOcorrenciasAPartirDe(agendamentoFixo.getId(), dataInicial);
+        liberados.forEach(liberado -> eventPublisher.publishEvent(OcupacaoQuadraAlteradaEvent.liberou(liberado)));
 
-        // Marca agendamento fixo como cancelado
+        liberarOcorrenciasNaoMaterializadas(agendamentoFixo);
         agendamentoFixo.setStatus(StatusAgendamentoFixo.CANCELADO);
         agendamentoFixoRepository.save(agendamentoFixo);
+        agendamentoFixoRepository.atualizarResumo(List.of(agendamentoFixo.getId()), LocalDate.now(fusoHorarioPadrao));
+
+        return liberados.stream()
+                .map(OcupacaoHorarioDTO::getData)
+                .sorted()
+                .toList();
+    }
+
+    // Ao cancelar a regra, as datas ainda não materializadas deixam de ocupar a quadra
+    private void liberarOcorrenciasNaoMaterializadas(AgendamentoFixo agendamentoFixo) {
+        if (agendamentoFixo.getMaterializadoAte() != null && agendamentoFixo.getQuadra() != null
+                && agendamentoFixo.getMaterializadoAte().isBefore(agendamentoFixo.getDataFim())) {
+            eventPublisher.publishEvent(new HorariosQuadraAlteradosEvent(agendamentoFixo.getQuadra().getId()));
+        }
+    }
 
-        log.info("Recorrência fixa ID {} cancelada com sucesso pela Arena.", agendamentoFixoId);
+    @Override
+    @Transactional
+    public void atualizarResumo(Long agendamentoFixoId) {
+        agendamentoFixoRepository.atualizarResumo(List.of(agendamentoFixoId), LocalDate.now(fusoHorarioPadrao));
+    }
+
+    @Override
+    @Transactional
+    public int atualizarResumoDasRecorrencias() {
+        return agendamentoFixoRepository.atualizarResumoDasAtivas(LocalDate.now(fusoHorarioPadrao));
     }
 
     @Override
@@ -318,28 +472,10 @@ public class AgendamentoFixoServiceImpl implements AgendamentoFixoService {
             return Collections.emptyList();
         }
 
-        LocalDate dataLimite = calcularDataFim(agendamentoBase.getDataAgendamento(), agendamentoBase.getPeriodoAgendamentoFixo());
-        List<LocalDate> datasConflito = new ArrayList<>();
-
-        LocalDate dataInicio = agendamentoBase.getDataAgendamento();
-        LocalDate dataAtual = dataInicio.plusWeeks(1); // Começa a checar a partir da Semana 1
+        log.info("PRE-VALIDATION: Iniciando pré-validação de agendamento fixo para a base: {}", agendamentoBase.getDataAgendamento());
 
-        log.info("PRE-VALIDATION: Iniciando pré-validação de agendamento fixo para a base: {}", dataInicio);
-
-        while (!dataAtual.isAfter(dataLimite)) {
-            try {
-                if (!verificarDisponibilidadeParaData(agendamentoBase, dataAtual)) {
-                    // Conflito encontrado (outro agendamento ou slot indisponível)
-                    datasConflito.add(dataAtual);
-                    log.warn("PRE-VALIDATION FALHA: Conflito de slot/Disponibilidade na data: {}", dataAtual);
-                }
-            } catch (Exception e) {
-                log.error("PRE-VALIDATION ERRO: Erro ao processar data {}: {}", dataAtual, e.getMessage());
-                datasConflito.add(dataAtual);
-            }
-
-            dataAtual = dataAtual.plusWeeks(1);
-        }
+        List<LocalDate> datasConflito = new ArrayList<>(
+                buscarConflitos(agendamentoBase, calcularDatasRecorrencia(agendamentoBase)).keySet());
 
         log.info("PRE-VALIDATION FINALIZADA: Encontrados {} conflitos.", datasConflito.size());
 
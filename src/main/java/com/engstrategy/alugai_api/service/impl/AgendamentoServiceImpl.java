@@ -1,23 +1,40 @@
 package com.engstrategy.alugai_api.service.impl;
 
+import com.engstrategy.alugai_api.dto.agendamento.AgendamentoAtletaResumo;
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoCreateDTO;
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoExternoCreateDTO;
+import com.engstrategy.alugai_api.dto.agendamento.AgendamentoResponseDTO;
 import com.engstrategy.alugai_api.dto.agendamento.NovoAtletaExternoDTO;
+import com.engstrategy.alugai_api.dto.agendamento.PaginaCursorDTO;
 import com.engstrategy.alugai_api.dto.agendamento.PixPagamentoResponseDTO;
+import com.engstrategy.alugai_api.dto.agendamento.SlotAgendamentoResumo;
+import com.engstrategy.alugai_api.dto.agendamento.arena.AgendamentoArenaResponseDTO;
+import com.engstrategy.alugai_api.dto.agendamento.arena.AgendamentoArenaResumo;
+import com.engstrategy.alugai_api.dto.agendamento.arena.ParticipanteAgendamentoResumo;
 import com.engstrategy.alugai_api.dto.asaas.*;
+import com.engstrategy.alugai_api.event.OcupacaoQuadraAlteradaEvent;
 import com.engstrategy.alugai_api.exceptions.*;
 import com.engstrategy.alugai_api.mapper.AgendamentoMapper;
 import com.engstrategy.alugai_api.model.*;
 import com.engstrategy.alugai_api.model.enums.*;
 import com.engstrategy.alugai_api.repository.*;
+import com.engstrategy.alugai_api.repository.specs.AgendamentoSpecs;
 import com.engstrategy.alugai_api.service.AgendamentoFixoService;
 import com.engstrategy.alugai_api.service.AgendamentoService;
+import com.engstrategy.alugai_api.util.CursorAgendamento;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
@@ -26,6 +43,8 @@ import java.math.BigDecimal;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,6 +53,7 @@ import java.util.stream.Collectors;
 public class AgendamentoServiceImpl implements AgendamentoService {
 
     private final AgendamentoRepository agendamentoRepository;
+    private final AgendamentoFixoRepository agendamentoFixoRepository;
     private final AtletaRepository atletaRepository;
     private final AgendamentoFixoService agendamentoFixoService;
     private final SlotHorarioService slotHorarioService;
@@ -41,16 +61,18 @@ public class AgendamentoServiceImpl implements AgendamentoService {
     private final AgendamentoMapper agendamentoMapper;
     private final EmailService emailService;
     private final QuadraRepository quadraRepository;
-    private final ArenaRepository arenaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BloqueioAgendamentoService bloqueioAgendamentoService;
 //    private final AsaasService asaasService;
     private final ZoneId fusoHorarioPadrao = ZoneId.of("America/Sao_Paulo");
 
-    private void validarStatusAssinaturaDaArena(Quadra quadra) {
-        // Buscamos a Arena pelo ID para garantir que temos o objeto completo e atualizado
-        Arena arena = arenaRepository.findById(quadra.getArena().getId())
-                .orElseThrow(() -> new EntityNotFoundException("Arena associada à quadra não foi encontrada."));
+    // Ordem das páginas por cursor; deve acompanhar os campos de CursorAgendamento
+    private static final Sort ORDEM_CURSOR = Sort.by("dataAgendamento", "horarioInicioSnapshot", "id");
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
 
-        if (arena.getStatusAssinatura() != StatusAssinatura.ATIVA) {
+    private void validarStatusAssinaturaDaArena(Quadra quadra) {
+        // A arena já vem carregada junto com a quadra na admissão
+        if (quadra.getArena().getStatusAssinatura() != StatusAssinatura.ATIVA) {
             throw new SubscriptionInactiveException(
                     "Não é possível realizar agendamentos. A assinatura desta arena não está ativa."
             );
@@ -69,14 +91,29 @@ public class AgendamentoServiceImpl implements AgendamentoService {
         // Validar se a data não é no passado
         validarDataAgendamento(dto.getDataAgendamento());
 
-        // Buscar e validar slots
-        Set<SlotHorario> slots = buscarEValidarSlots(dto.getSlotHorarioIds());
+        // Serializa os pedidos da mesma quadra e data até o commit, evitando que dois passem na verificação de conflito
+        bloqueioAgendamentoService.bloquear(dto.getQuadraId(), dto.getDataAgendamento());
+
+        // Carrega slots, quadra e arena de uma vez (no modo virtual os slots são derivados do horário solicitado)
+        Set<SlotHorario> slots;
+        Quadra quadra;
+        if (slotHorarioService.isSlotsVirtuais()) {
+            quadra = quadraRepository.findByIdWithDetails(dto.getQuadraId())
+                    .orElseThrow(() -> new EntityNotFoundException("Quadra não encontrada com ID: " + dto.getQuadraId()));
+            slots = buscarSlotsVirtuais(dto, quadra);
+        } else {
+            slots = buscarEValidarSlots(dto.getSlotHorarioIds(), dto.getQuadraId());
+            quadra = slots.iterator().next().getIntervaloHorario().getHorarioFuncionamento().getQuadra();
 
-        // Verifica se slots são subsequentes
-        if (!slotHorarioService.saoSlotsSubsequentes(dto.getSlotHorarioIds())) {
-            throw new IllegalArgumentException("Os horários selecionados devem ser subsequentes");
+            // Verifica se slots são subsequentes
+            if (!slotHorarioService.saoSlotsSubsequentes(slots)) {
+                throw new IllegalArgumentException("Os horários selecionados devem ser subsequentes");
+            }
         }
 
+        // Valida o status da assinatura da arena
+        validarStatusAssinaturaDaArena(quadra);
+
         // Verificar disponibilidade dos slots na data específica
         verificarDisponibilidadeSlotsParaData(slots, dto.getDataAgendamento(), dto.getQuadraId());
 
@@ -84,18 +121,18 @@ public class AgendamentoServiceImpl implements AgendamentoService {
         Atleta atleta = atletaRepository.findById(atletaId)
                 .orElseThrow(() -> new EntityNotFoundException("Atleta não encontrado com ID: " + atletaId));
 
-        // Recuperar quadra
-        Quadra quadra = quadraRepository.findById(dto.getQuadraId())
-                .orElseThrow(() -> new EntityNotFoundException("Quadra não encontrada com ID: " + dto.getQuadraId()));
-
-        // Valida o status da assinatura da arena
-        validarStatusAssinaturaDaArena(quadra);
-
         // Converter DTO para entidade
-        Agendamento agendamento = agendamentoMapper.fromCreateToAgendamento(dto, slots, atleta);
+        Agendamento agendamento = agendamentoMapper.fromCreateToAgendamento(dto, slots, atleta, quadra);
+
+        // Slots virtuais não existem no banco: o agendamento guarda apenas o período e o valor
+        if (slotHorarioService.isSlotsVirtuais()) {
+            agendamento.criarSnapshot();
+            agendamento.setSlotsHorario(new HashSet<>());
+        }
 
+        List<LocalDate> conflitos = Collections.emptyList();
         if (agendamento.isFixo()) {
-            List<LocalDate> conflitos = agendamentoFixoService.preValidarAgendamentoFixo(agendamento);
+            conflitos = agendamentoFixoService.preValidarAgendamentoFixo(agendamento);
 
             if (!conflitos.isEmpty()) {
                 DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
@@ -112,12 +149,21 @@ public class AgendamentoServiceImpl implements AgendamentoService {
         agendamento.setStatus(StatusAgendamento.PENDENTE);
         // Salvar o agendamento
         agendamento.criarSnapshot();
-        agendamento = agendamentoRepository.save(agendamento);
+        try {
+            // O flush imediato faz a constraint de sobreposição ser verificada aqui, e não só no commit
+            agendamento = agendamentoRepository.saveAndFlush(agendamento);
+        } catch (DataIntegrityViolationException e) {
+            if (AgendamentoRepository.isViolacaoSobreposicao(e)) {
+                throw new UnavailableDateTimeException("O horário selecionado já está ocupado nesta quadra.");
+            }
+            throw e;
+        }
+        eventPublisher.publishEvent(OcupacaoQuadraAlteradaEvent.ocupou(agendamento));
 
         // Se o agendamento for fixo, chama o serviço para criar as recorrências
         if (agendamento.isFixo()) {
             log.info("Agendamento base é fixo. Iniciando criação de agendamentos futuros.");
-            agendamentoFixoService.criarAgendamentosFixos(agendamento);
+            agendamentoFixoService.criarAgendamentosFixos(agendamento, conflitos);
         }
 
         log.info("Agendamento criado com sucesso. ID: {}", agendamento.getId());
@@ -160,24 +206,40 @@ public class AgendamentoServiceImpl implements AgendamentoService {
         }
     }
 
-    private Set<SlotHorario> buscarEValidarSlots(List<Long> slotIds) {
+    private Set<SlotHorario> buscarEValidarSlots(List<Long> slotIds, Long quadraId) {
         if (slotIds == null || slotIds.isEmpty()) {
             throw new IllegalArgumentException("Deve ser informado pelo menos um slot de horário");
         }
 
-        List<SlotHorario> slotsList = slotHorarioRepository.findAllById(slotIds);
+        List<SlotHorario> slotsList = slotHorarioRepository.findByIdsWithQuadraEArena(slotIds);
         Set<SlotHorario> slots = new HashSet<>(slotsList);
 
         if (slots.size() != slotIds.size()) {
             throw new IllegalArgumentException("Um ou mais slots informados não foram encontrados");
         }
 
+        boolean outraQuadra = slots.stream()
+                .anyMatch(slot -> !slot.getIntervaloHorario().getHorarioFuncionamento().getQuadra().getId().equals(quadraId));
+        if (outraQuadra) {
+            throw new IllegalArgumentException("Os horários selecionados não pertencem à quadra informada");
+        }
+
         return slots;
     }
 
 
+    private Set<SlotHorario> buscarSlotsVirtuais(AgendamentoCreateDTO dto, Quadra quadra) {
+        if (dto.getHorarioInicio() == null || dto.getHorarioFim() == null) {
+            throw new IllegalArgumentException("Devem ser informados o horário de início e de fim do agendamento");
+        }
+
+        return new HashSet<>(slotHorarioService.resolverSlotsVirtuais(
+                quadra, dto.getDataAgendamento(), dto.getHorarioInicio(), dto.getHorarioFim()));
+    }
+
     /**
-     * Verifica se os slots estão disponíveis na data específica do agendamento
+     * Verifica se os slots estão disponíveis na data específica do agendamento.
+     * Como os slots são subsequentes, o conflito é verificado uma única vez para o período inteiro.
      */
     protected void verificarDisponibilidadeSlotsParaData(Set<SlotHorario> slots,
                                                          LocalDate dataAgendamento,
@@ -213,24 +275,24 @@ public class AgendamentoServiceImpl implements AgendamentoService {
                                 horaAtual.format(DateTimeFormatter.ofPattern("HH:mm")))
                 );
             }
+        }
 
-            // 3. Verificar se já existe agendamento para este slot na data específica
-            boolean jaAgendado = agendamentoRepository.existeConflito(
-                    dataAgendamento,
-                    quadraId,
-                    slot.getHorarioInicio(),
-                    slot.getHorarioFim()
-            );
+        // 3. Verificar se já existe agendamento sobreposto ao período na data específica
+        // (inclui as ocorrências de agendamentos fixos ainda não materializadas)
+        List<SlotHorario> ordenados = slots.stream()
+                .sorted(Comparator.comparing(SlotHorario::getHorarioInicio))
+                .toList();
+        LocalTime inicio = ordenados.get(0).getHorarioInicio();
+        LocalTime fim = ordenados.get(ordenados.size() - 1).getHorarioFim();
 
-            if (jaAgendado) {
-                throw new IllegalArgumentException(
-                        String.format("Slot %d (%s às %s) já está ocupado na data %s",
-                                slot.getId(),
-                                slot.getHorarioInicio(),
-                                slot.getHorarioFim(),
-                                dataAgendamento)
-                );
-            }
+        boolean jaAgendado = agendamentoRepository.existeConflitoNoHorario(dataAgendamento, quadraId, inicio, fim)
+                || agendamentoFixoRepository.existeRecorrenciaNoHorario(
+                quadraId, dataAgendamento, DiaDaSemana.fromLocalDate(dataAgendamento), inicio, fim);
+
+        if (jaAgendado) {
+            throw new IllegalArgumentException(
+                    String.format("O horário %s às %s já está ocupado na data %s", inicio, fim, dataAgendamento)
+            );
         }
     }
 
@@ -262,13 +324,46 @@ public class AgendamentoServiceImpl implements AgendamentoService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Agendamento> buscarCardsMestrePorAtletaId(UUID atletaId,
-                                                          LocalDate dataInicio,
-                                                          LocalDate dataFim,
-                                                          TipoAgendamento tipoAgendamento,
-                                                          StatusAgendamento status,
-                                                          Pageable pageable) {
+    public Page<AgendamentoResponseDTO> buscarCardsMestrePorAtletaId(UUID atletaId,
+                                                                     LocalDate dataInicio,
+                                                                     LocalDate dataFim,
+                                                                     TipoAgendamento tipoAgendamento,
+                                                                     StatusAgendamento status,
+                                                                     Pageable pageable) {
+        if (pageable.isPaged()) {
+            validarTamanhoPagina(pageable.getPageSize());
+        }
+        Specification<Agendamento> spec = specCardsMestrePorAtleta(atletaId, dataInicio, dataFim, tipoAgendamento, status);
+        Page<AgendamentoAtletaResumo> resumos = agendamentoRepository.findResumosAtleta(spec, ordenarPorHorario(pageable));
+
+        Map<Long, List<SlotAgendamentoResumo>> slots = slotsPorAgendamento(resumos.getContent(), AgendamentoAtletaResumo::id);
+        return resumos.map(resumo -> agendamentoMapper.fromResumoToResponseDTO(resumo, slots.getOrDefault(resumo.id(), List.of())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<AgendamentoResponseDTO> buscarCardsMestrePorAtletaIdAposCursor(UUID atletaId,
+                                                                                          LocalDate dataInicio,
+                                                                                          LocalDate dataFim,
+                                                                                          TipoAgendamento tipoAgendamento,
+                                                                                          StatusAgendamento status,
+                                                                                          String cursor,
+                                                                                          int tamanho) {
+        Specification<Agendamento> spec = specCardsMestrePorAtleta(atletaId, dataInicio, dataFim, tipoAgendamento, status);
+        Slice<AgendamentoAtletaResumo> resumos = buscarAposCursor(spec, cursor, tamanho,
+                (filtro, limite) -> agendamentoRepository.findResumosAtleta(filtro, ORDEM_CURSOR, limite));
+
+        Map<Long, List<SlotAgendamentoResumo>> slots = slotsPorAgendamento(resumos.getContent(), AgendamentoAtletaResumo::id);
+        return agendamentoMapper.toPaginaCursor(resumos,
+                resumo -> new CursorAgendamento(resumo.dataAgendamento(), resumo.horarioInicio(), resumo.id()),
+                resumo -> agendamentoMapper.fromResumoToResponseDTO(resumo, slots.getOrDefault(resumo.id(), List.of())));
+    }
 
+    private Specification<Agendamento> specCardsMestrePorAtleta(UUID atletaId,
+                                                                LocalDate dataInicio,
+                                                                LocalDate dataFim,
+                                                                TipoAgendamento tipoAgendamento,
+                                                                StatusAgendamento status) {
         // 1. Determina o filtro de Agendamento Fixo/Normal
         Boolean isFixoFiltro = null;
         if (tipoAgendamento == TipoAgendamento.FIXO) {
@@ -302,20 +397,19 @@ public class AgendamentoServiceImpl implements AgendamentoService {
             dataInicio = dataInicio == null ? LocalDate.now() : dataInicio;
         }
 
-        // 4. Converte para List<String> para o Repositório (se usarmos Native Query)
-        List<String> statusesComoString = statusesParaFiltrar.stream()
-                .map(StatusAgendamento::name)
-                .collect(Collectors.toList());
+        // 4. Monta a consulta apenas com os filtros informados
+        Specification<Agendamento> spec = AgendamentoSpecs.hasAtletaId(atletaId)
+                .and(status == null
+                        ? AgendamentoSpecs.isCardMestreAtivo(statusesParaFiltrar, isFixoFiltro)
+                        : AgendamentoSpecs.isCardMestre(statusesParaFiltrar, isFixoFiltro));
+        if (dataInicio != null) {
+            spec = spec.and(AgendamentoSpecs.dataInicioAfterOrEqual(dataInicio));
+        }
+        if (dataFim != null) {
+            spec = spec.and(AgendamentoSpecs.dataFimBeforeOrEqual(dataFim));
+        }
 
-        // 5. Chama o novo método do Repositório (findCardsMestreByAtletaId)
-        return agendamentoRepository.findCardsMestreByAtletaId(
-                atletaId,
-                dataInicio,
-                dataFim,
-                isFixoFiltro,
-                statusesComoString,
-                pageable
-        );
+        return spec;
     }
 
     @Override
@@ -372,11 +466,11 @@ public class AgendamentoServiceImpl implements AgendamentoService {
 
         // Se a data do agendamento é hoje, verificar se o primeiro slot já passou
         if (agendamento.getDataAgendamento().equals(dataAtual)) {
-            // Buscar o primeiro slot (horário de início mais cedo)
-            LocalTime primeiroHorario = agendamento.getSlotsHorario().stream()
-                    .map(SlotHorario::getHorarioInicio)
-                    .min(LocalTime::compareTo)
-                    .orElseThrow(() -> new IllegalStateException("Agendamento sem slots de horário"));
+            // Horário de início do agendamento (snapshot ou primeiro slot)
+            LocalTime primeiroHorario = agendamento.getHorarioInicio();
+            if (primeiroHorario == null) {
+                throw new IllegalStateException("Agendamento sem slots de horário");
+            }
 
             if (primeiroHorario.isBefore(horaAtual)) {
                 throw new IllegalArgumentException(
@@ -424,6 +518,10 @@ public class AgendamentoServiceImpl implements AgendamentoService {
 
         // 3. Salva o agendamento e, em cascata, as alterações nas solicitações
         agendamentoRepository.save(agendamento);
+        eventPublisher.publishEvent(OcupacaoQuadraAlteradaEvent.liberou(agendamento));
+        if (agendamento.getAgendamentoFixo() != null) {
+            agendamentoFixoService.atualizarResumo(agendamento.getAgendamentoFixo().getId());
+        }
 
         // Envio de email para os participantes
         if (agendamento.isPublico() && agendamento.getParticipantes() != null) {
@@ -469,14 +567,19 @@ public class AgendamentoServiceImpl implements AgendamentoService {
             dataInicio = LocalDate.now(fusoHorarioPadrao);
         }
 
-        return agendamentoRepository.findByAtletaIdWithDetails(
-                atletaId,
-                dataInicio,
-                dataFim,
-                isFixoFiltro,
-                statusFilter,
-                pageable
-        );
+        Specification<Agendamento> spec = AgendamentoSpecs.hasAtletaId(atletaId)
+                .and(AgendamentoSpecs.hasStatusIn(statusFilter));
+        if (dataInicio != null) {
+            spec = spec.and(AgendamentoSpecs.dataInicioAfterOrEqual(dataInicio));
+        }
+        if (dataFim != null) {
+            spec = spec.and(AgendamentoSpecs.dataFimBeforeOrEqual(dataFim));
+        }
+        if (isFixoFiltro != null) {
+            spec = spec.and(AgendamentoSpecs.isTipoAgendamento(tipoAgendamento));
+        }
+
+        return agendamentoRepository.findAllWithDetalhesAtleta(spec, pageable);
     }
 
     @Override
@@ -505,14 +608,21 @@ public class AgendamentoServiceImpl implements AgendamentoService {
             }
         }
 
-        return agendamentoRepository.findByArenaIdWithFilters(
-                arenaId,
-                dataInicio,
-                dataFim,
-                quadraId,
-                statusesParaFiltrar,
-                pageable
-        );
+        Specification<Agendamento> spec = AgendamentoSpecs.hasQuadraDaArena(arenaId);
+        if (dataInicio != null) {
+            spec = spec.and(AgendamentoSpecs.dataInicioAfterOrEqual(dataInicio));
+        }
+        if (dataFim != null) {
+            spec = spec.and(AgendamentoSpecs.dataFimBeforeOrEqual(dataFim));
+        }
+        if (quadraId != null) {
+            spec = spec.and(AgendamentoSpecs.hasQuadraId(quadraId));
+        }
+        if (statusesParaFiltrar != null) {
+            spec = spec.and(AgendamentoSpecs.hasStatusIn(statusesParaFiltrar));
+        }
+
+        return agendamentoRepository.findAllWithDetalhesArena(spec, pageable);
     }
 
     @Override
@@ -552,6 +662,13 @@ public class AgendamentoServiceImpl implements AgendamentoService {
 
         Agendamento agendamentoSalvo = agendamentoRepository.save(agendamento);
 
+        if (novoStatus == StatusAgendamento.CANCELADO) {
+            eventPublisher.publishEvent(OcupacaoQuadraAlteradaEvent.liberou(agendamentoSalvo));
+        }
+        if (novoStatus != StatusAgendamento.PAGO && agendamentoSalvo.getAgendamentoFixo() != null) {
+            agendamentoFixoService.atualizarResumo(agendamentoSalvo.getAgendamentoFixo().getId());
+        }
+
         if (agendamentoSalvo.getSlotsHorario() != null) {
             agendamentoSalvo.getSlotsHorario().size();
         }
@@ -660,12 +777,52 @@ public class AgendamentoServiceImpl implements AgendamentoService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Agendamento> buscarCardsMestrePorArenaId(UUID arenaId,
-                                                         LocalDate dataInicio,
-                                                         LocalDate dataFim,
-                                                         Long quadraId,
-                                                         StatusAgendamento status,
-                                                         Pageable pageable) {
+    public Page<AgendamentoArenaResponseDTO> buscarCardsMestrePorArenaId(UUID arenaId,
+                                                                         LocalDate dataInicio,
+                                                                         LocalDate dataFim,
+                                                                         Long quadraId,
+                                                                         StatusAgendamento status,
+                                                                         Pageable pageable) {
+        if (pageable.isPaged()) {
+            validarTamanhoPagina(pageable.getPageSize());
+        }
+        Specification<Agendamento> spec = specCardsMestrePorArena(arenaId, dataInicio, dataFim, quadraId, status);
+        Page<AgendamentoArenaResumo> resumos = agendamentoRepository.findResumosArena(spec, ordenarPorHorario(pageable));
+
+        Map<Long, List<SlotAgendamentoResumo>> slots = slotsPorAgendamento(resumos.getContent(), AgendamentoArenaResumo::id);
+        Map<Long, List<ParticipanteAgendamentoResumo>> participantes = participantesPorAgendamento(resumos.getContent());
+        return resumos.map(resumo -> agendamentoMapper.fromResumoToArenaResponseDTO(resumo,
+                slots.getOrDefault(resumo.id(), List.of()),
+                participantes.getOrDefault(resumo.id(), List.of())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<AgendamentoArenaResponseDTO> buscarCardsMestrePorArenaIdAposCursor(UUID arenaId,
+                                                                                              LocalDate dataInicio,
+                                                                                              LocalDate dataFim,
+                                                                                              Long quadraId,
+                                                                                              StatusAgendamento status,
+                                                                                              String cursor,
+                                                                                              int tamanho) {
+        Specification<Agendamento> spec = specCardsMestrePorArena(arenaId, dataInicio, dataFim, quadraId, status);
+        Slice<AgendamentoArenaResumo> resumos = buscarAposCursor(spec, cursor, tamanho,
+                (filtro, limite) -> agendamentoRepository.findResumosArena(filtro, ORDEM_CURSOR, limite));
+
+        Map<Long, List<SlotAgendamentoResumo>> slots = slotsPorAgendamento(resumos.getContent(), AgendamentoArenaResumo::id);
+        Map<Long, List<ParticipanteAgendamentoResumo>> participantes = participantesPorAgendamento(resumos.getContent());
+        return agendamentoMapper.toPaginaCursor(resumos,
+                resumo -> new CursorAgendamento(resumo.dataAgendamento(), resumo.horarioInicio(), resumo.id()),
+                resumo -> agendamentoMapper.fromResumoToArenaResponseDTO(resumo,
+                        slots.getOrDefault(resumo.id(), List.of()),
+                        participantes.getOrDefault(resumo.id(), List.of())));
+    }
+
+    private Specification<Agendamento> specCardsMestrePorArena(UUID arenaId,
+                                                               LocalDate dataInicio,
+                                                               LocalDate dataFim,
+                                                               Long quadraId,
+                                                               StatusAgendamento status) {
         List<StatusAgendamento> statusesParaFiltrar;
 
         if (status == StatusAgendamento.FINALIZADO) {
@@ -682,22 +839,72 @@ public class AgendamentoServiceImpl implements AgendamentoService {
             );
         }
 
-        List<String> statusesComoString = statusesParaFiltrar.stream()
-                .map(StatusAgendamento::name)
-                .collect(Collectors.toList());
-
         if (status == null) {
             dataInicio = dataInicio == null ? LocalDate.now() : dataInicio;
         }
 
-        return agendamentoRepository.findCardsMestreByArenaId(
-                arenaId,
-                dataInicio,
-                dataFim,
-                quadraId,
-                statusesComoString,
-                pageable
-        );
+        Specification<Agendamento> spec = AgendamentoSpecs.hasQuadraDaArena(arenaId)
+                .and(status == null
+                        ? AgendamentoSpecs.isCardMestreAtivo(statusesParaFiltrar, null)
+                        : AgendamentoSpecs.isCardMestre(statusesParaFiltrar, null));
+        if (dataInicio != null) {
+            spec = spec.and(AgendamentoSpecs.dataInicioAfterOrEqual(dataInicio));
+        }
+        if (dataFim != null) {
+            spec = spec.and(AgendamentoSpecs.dataFimBeforeOrEqual(dataFim));
+        }
+        if (quadraId != null) {
+            spec = spec.and(AgendamentoSpecs.hasQuadraId(quadraId));
+        }
+
+        return spec;
+    }
+
+    private static void validarTamanhoPagina(int tamanho) {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA + ".");
+        }
+    }
+
+    // Keyset: busca um item a mais para saber se existe próxima página, sem consulta de contagem
+    private <T> Slice<T> buscarAposCursor(Specification<Agendamento> spec, String cursor, int tamanho,
+                                          BiFunction<Specification<Agendamento>, Integer, List<T>> consulta) {
+        validarTamanhoPagina(tamanho);
+        if (cursor != null && !cursor.isBlank()) {
+            CursorAgendamento posicao = CursorAgendamento.decodificar(cursor);
+            spec = spec.and(AgendamentoSpecs.isAposCursor(posicao.data(), posicao.horarioInicio(), posicao.id()));
+        }
+
+        List<T> itens = consulta.apply(spec, tamanho + 1);
+
+        boolean temMais = itens.size() > tamanho;
+        List<T> pagina = temMais ? itens.subList(0, tamanho) : itens;
+        return new SliceImpl<>(pagina, PageRequest.of(0, tamanho), temMais);
+    }
+
+    // Slots e participantes de uma página de cards em uma consulta cada
+    private <T> Map<Long, List<SlotAgendamentoResumo>> slotsPorAgendamento(List<T> resumos, Function<T, Long> id) {
+        if (resumos.isEmpty()) {
+            return Map.of();
+        }
+        return agendamentoRepository.findSlotsByAgendamentoIds(resumos.stream().map(id).toList()).stream()
+                .collect(Collectors.groupingBy(SlotAgendamentoResumo::agendamentoId));
+    }
+
+    private Map<Long, List<ParticipanteAgendamentoResumo>> participantesPorAgendamento(List<AgendamentoArenaResumo> resumos) {
+        if (resumos.isEmpty()) {
+            return Map.of();
+        }
+        return agendamentoRepository.findParticipantesByAgendamentoIds(resumos.stream().map(AgendamentoArenaResumo::id).toList()).stream()
+                .collect(Collectors.groupingBy(ParticipanteAgendamentoResumo::agendamentoId));
+    }
+
+    // Cards ordenados por data e horário; a ordenação pedida pelo cliente vem em seguida
+    private Pageable ordenarPorHorario(Pageable pageable) {
+        Sort ordenacao = Sort.by("dataAgendamento", "horarioInicioSnapshot").and(pageable.getSort());
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), ordenacao)
+                : Pageable.unpaged(ordenacao);
     }
 
 //    @Override
@@ -3,6 +3,7 @@ package com.engstrategy.alugai_api.service.impl;
 import com.engstrategy.alugai_api.dto.agendamento.AgendamentoDashboardDTO;
 import com.engstrategy.alugai_api.dto.agendamento.arena.CidadeDTO;
 import com.engstrategy.alugai_api.dto.arena.*;
+import com.engstrategy.alugai_api.event.ArenaAlteradaEvent;
 import com.engstrategy.alugai_api.exceptions.SubscriptionInactiveException;
 import com.engstrategy.alugai_api.exceptions.UniqueConstraintViolationException;
 import com.engstrategy.alugai_api.exceptions.UserNotFoundException;
@@ -16,7 +17,9 @@ import com.engstrategy.alugai_api.repository.specs.ArenaSpecs;
 import com.engstrategy.alugai_api.service.ArenaService;
 import com.engstrategy.alugai_api.util.GeradorCodigoVerificacao;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -30,7 +33,9 @@ import java.time.*;
 import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -46,6 +51,8 @@ public class ArenaServiceImpl implements ArenaService {
     private final AgendamentoRepository agendamentoRepository;
     private final AvaliacaoRepository avaliacaoRepository;
     private final ArenaMapper arenaMapper;
+    private final IndiceArenasService indiceArenasService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private void verificarAssinaturaAtiva(UUID arenaId) {
         Arena arena = arenaRepository.findById(arenaId)
@@ -66,6 +73,7 @@ public class ArenaServiceImpl implements ArenaService {
 
         encodePassword(arena);
         Arena savedArena = arenaRepository.save(arena);
+        eventPublisher.publishEvent(new ArenaAlteradaEvent(savedArena.getId()));
 
         CodigoVerificacao codigoVerificacao = GeradorCodigoVerificacao.gerarCodigoVerificacao(savedArena.getEmail());
         codigoVerificacaoRepository.save(codigoVerificacao);
@@ -108,7 +116,13 @@ public class ArenaServiceImpl implements ArenaService {
             // --- Caminho A: Busca por Proximidade ---
             // Na busca por proximidade, a ordenação já é por distância, então não uso o 'sort' do request.
             Pageable proximityPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-            arenasPage = arenaRepository.findByProximity(latitude, longitude, raioKm, proximityPageable);
+            if (indiceArenasService.isCarregado()) {
+                // O índice em memória escolhe a página; o banco só carrega essas arenas
+                Page<UUID> ids = indiceArenasService.buscarPorProximidade(latitude, longitude, raioKm, proximityPageable);
+                arenasPage = carregarNaOrdem(ids);
+            } else {
+                arenasPage = arenaRepository.findByProximity(latitude, longitude, raioKm, proximityPageable);
+            }
 
         } else {
 
@@ -156,6 +170,20 @@ public class ArenaServiceImpl implements ArenaService {
         });
     }
 
+    private Page<Arena> carregarNaOrdem(Page<UUID> ids) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+        }
+
+        Map<UUID, Arena> porId = arenaRepository.findAllById(ids.getContent()).stream()
+                .collect(Collectors.toMap(Arena::getId, Function.identity()));
+        List<Arena> arenas = ids.getContent().stream()
+                .map(porId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(arenas, ids.getPageable(), ids.getTotalElements());
+    }
+
     @Override
     @Transactional
     public ArenaResponseDTO atualizar(UUID id, ArenaUpdateDTO arenaUpdateDTO) {
@@ -192,6 +220,9 @@ public class ArenaServiceImpl implements ArenaService {
         }
 
         Arena updatedArena = arenaRepository.save(savedArena);
+        if (arenaUpdateDTO.getEndereco() != null) {
+            eventPublisher.publishEvent(new ArenaAlteradaEvent(updatedArena.getId()));
+        }
 
         return arenaMapper.mapArenaToArenaResponseDTO(updatedArena);
     }
@@ -202,6 +233,7 @@ public class ArenaServiceImpl implements ArenaService {
         Arena arena = arenaRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("Arena não encontrada com ID: " + id));
         arenaRepository.delete(arena);
+        eventPublisher.publishEvent(new ArenaAlteradaEvent(id));
     }
 
     private void validarDadosUnicos(String email, String telefone, String cpfProprietario, String cnpj) {
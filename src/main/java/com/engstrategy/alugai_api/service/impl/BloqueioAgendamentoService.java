@@ -0,0 +1,87 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.exceptions.UnavailableDateTimeException;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializa a admissão de agendamentos por (quadra, data).
+ * Dentro do nó usa um conjunto fixo de locks (lock striping); entre nós, opcionalmente,
+ * um advisory lock transacional do PostgreSQL com a mesma chave.
+ * O bloqueio vale até o fim da transação corrente, para que o próximo pedido já veja o agendamento commitado.
+ */
+@Service
+@Slf4j
+public class BloqueioAgendamentoService {
+
+    // Potência de 2, para que o índice seja obtido com uma máscara
+    private static final int QUANTIDADE_LOCKS = 256;
+
+    private final ReentrantLock[] locks = new ReentrantLock[QUANTIDADE_LOCKS];
+    private final EntityManager entityManager;
+    private final boolean lockDistribuido;
+    private final long tempoEsperaMs;
+
+    public BloqueioAgendamentoService(EntityManager entityManager,
+                                      @Value("${arenahub.agendamento.lock-distribuido:false}") boolean lockDistribuido,
+                                      @Value("${arenahub.agendamento.lock-espera-ms:5000}") long tempoEsperaMs) {
+        this.entityManager = entityManager;
+        this.lockDistribuido = lockDistribuido;
+        this.tempoEsperaMs = tempoEsperaMs;
+        for (int i = 0; i < QUANTIDADE_LOCKS; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Bloqueia a (quadra, data) até o commit/rollback da transação corrente.
+     * Pedidos para outras quadras ou datas só disputam o mesmo lock local em caso de colisão de hash.
+     */
+    public void bloquear(Long quadraId, LocalDate data) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("O bloqueio de agendamento exige uma transação ativa.");
+        }
+
+        long chave = chave(quadraId, data);
+        ReentrantLock lock = locks[(int) (chave ^ (chave >>> 32)) & (QUANTIDADE_LOCKS - 1)];
+
+        try {
+            if (!lock.tryLock(tempoEsperaMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Tempo de espera esgotado no bloqueio da quadra {} em {}.", quadraId, data);
+                throw new UnavailableDateTimeException(
+                        "Há outro agendamento em andamento para esta quadra e data. Tente novamente.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnavailableDateTimeException("Não foi possível reservar o horário. Tente novamente.");
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+
+        // O advisory lock transacional é liberado pelo próprio PostgreSQL no fim da transação
+        if (lockDistribuido) {
+            entityManager.createNativeQuery("SELECT pg_advisory_xact_lock(:chave)")
+                    .setParameter("chave", chave)
+                    .getSingleResult();
+        }
+    }
+
+    // Mesma chave de 64 bits para o lock local e o advisory lock
+    static long chave(Long quadraId, LocalDate data) {
+        long hash = quadraId * 0x9E3779B97F4A7C15L;
+        return hash ^ (data.toEpochDay() * 0xC2B2AE3D27D4EB4FL);
+    }
+}
@@ -1,5 +1,6 @@
 package com.engstrategy.alugai_api.service.impl;
 
+import com.engstrategy.alugai_api.event.ArenaAlteradaEvent;
 import com.engstrategy.alugai_api.exceptions.AlreadyConfirmedEmailException;
 import com.engstrategy.alugai_api.exceptions.InvalidCooldownResendConfirmationCodeException;
 import com.engstrategy.alugai_api.exceptions.ResendCodeLimitException;
@@ -13,6 +14,7 @@ import com.engstrategy.alugai_api.repository.AtletaRepository;
 import com.engstrategy.alugai_api.repository.CodigoVerificacaoRepository;
 import com.engstrategy.alugai_api.util.GeradorCodigoVerificacao;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,7 @@ public class CodigoVerificacaoService {
     private final ArenaRepository arenaRepository;
     private final UserServiceImpl userServiceImpl;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int RESEND_COOLDOWN_MINUTES = 2;
     private static final int MAX_RESENDS_PER_HOUR = 5;
@@ -56,6 +59,7 @@ public class CodigoVerificacaoService {
 
         if(usuario instanceof Arena) {
             arenaRepository.save((Arena) usuario);
+            eventPublisher.publishEvent(new ArenaAlteradaEvent(usuario.getId()));
         }
 
         codigoVerificacaoRepository.save(codigo);
@@ -0,0 +1,85 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.dto.mapa.JogosAbertosArena;
+import com.engstrategy.alugai_api.model.Agendamento;
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+import com.engstrategy.alugai_api.repository.AgendamentoRepository;
+import com.engstrategy.alugai_api.repository.specs.AgendamentoSpecs;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Quantidade de jogos abertos por esporte de cada arena, usada pelo mapa. Fica em cache por um tempo curto
+ * (arenahub.mapa.jogos-abertos-ttl), então arrastar ou dar zoom no mapa só consulta o banco para as arenas
+ * que ainda não estão no cache; um jogo aberto ou lotado aparece no mapa com esse atraso.
+ */
+@Service
+public class ContagemJogosAbertosService {
+
+    // Acima disso a contagem é feita para todas as arenas, em vez de um IN com milhares de ids
+    private static final int MAXIMO_ARENAS_POR_CONSULTA = 500;
+
+    private final AgendamentoRepository agendamentoRepository;
+    private final LoadingCache<UUID, Map<TipoEsporte, Long>> contagens;
+
+    public ContagemJogosAbertosService(AgendamentoRepository agendamentoRepository,
+                                       @Value("${arenahub.mapa.jogos-abertos-ttl:30s}") Duration ttl,
+                                       @Value("${arenahub.mapa.jogos-abertos-max-arenas:50000}") long maxArenas) {
+        this.agendamentoRepository = agendamentoRepository;
+        this.contagens = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxArenas)
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Map<TipoEsporte, Long> load(UUID arenaId) {
+                        return carregar(Set.of(arenaId)).get(arenaId);
+                    }
+
+                    @Override
+                    public Map<UUID, Map<TipoEsporte, Long>> loadAll(Set<? extends UUID> arenaIds) {
+                        return carregar(arenaIds);
+                    }
+                });
+    }
+
+    /**
+     * Jogos abertos por esporte de cada arena pedida; arenas sem jogos abertos vêm com um mapa vazio.
+     */
+    public Map<UUID, Map<TipoEsporte, Long>> buscar(Collection<UUID> arenaIds) {
+        return contagens.getAll(arenaIds);
+    }
+
+    private Map<UUID, Map<TipoEsporte, Long>> carregar(Collection<? extends UUID> arenaIds) {
+        Specification<Agendamento> jogosAbertos = AgendamentoSpecs.isPublico()
+                .and(AgendamentoSpecs.isAtivoEstrategico())
+                .and(AgendamentoSpecs.hasVagas())
+                .and(AgendamentoSpecs.isUpcoming());
+        if (arenaIds.size() <= MAXIMO_ARENAS_POR_CONSULTA) {
+            jogosAbertos = jogosAbertos.and(AgendamentoSpecs.hasQuadraDaArenaIn(Set.copyOf(arenaIds)));
+        }
+
+        Map<UUID, Map<TipoEsporte, Long>> jogosPorArena = new HashMap<>();
+        for (UUID arenaId : arenaIds) {
+            jogosPorArena.put(arenaId, new EnumMap<>(TipoEsporte.class));
+        }
+        for (JogosAbertosArena jogos : agendamentoRepository.contarPorArenaEEsporte(jogosAbertos)) {
+            Map<TipoEsporte, Long> jogosDaArena = jogosPorArena.get(jogos.arenaId());
+            if (jogosDaArena != null && jogos.esporte() != null) {
+                jogosDaArena.put(jogos.esporte(), jogos.quantidade());
+            }
+        }
+        return jogosPorArena;
+    }
+}
@@ -0,0 +1,89 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.event.HorariosQuadraAlteradosEvent;
+import com.engstrategy.alugai_api.event.OcupacaoQuadraAlteradaEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Invalida o cache de disponibilidade (quadra, data) a partir dos eventos de escrita.
+ * As métricas de acerto/falha/expiração vêm do próprio Caffeine (cache.gets, cache.evictions);
+ * as invalidações explícitas são contadas em arenahub.disponibilidade.invalidacoes.
+ */
+@Service
+@Slf4j
+public class DisponibilidadeCacheService {
+
+    public static final String CACHE_DISPONIBILIDADE = "disponibilidade";
+
+    private final CacheManager cacheManager;
+    private final Counter invalidacoesPorData;
+    private final Counter invalidacoesPorQuadra;
+
+    public DisponibilidadeCacheService(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.invalidacoesPorData = Counter.builder("arenahub.disponibilidade.invalidacoes")
+                .description("Entradas do cache de disponibilidade invalidadas por escrita")
+                .tag("escopo", "data")
+                .register(meterRegistry);
+        this.invalidacoesPorQuadra = Counter.builder("arenahub.disponibilidade.invalidacoes")
+                .description("Entradas do cache de disponibilidade invalidadas por escrita")
+                .tag("escopo", "quadra")
+                .register(meterRegistry);
+    }
+
+    // Usada também na chave do @Cacheable de QuadraServiceImpl.consultarDisponibilidade
+    public static String chave(Long quadraId, LocalDate data) {
+        return quadraId + ":" + data;
+    }
+
+    // Roda depois do índice de ocupação, para que a próxima leitura já encontre o índice atualizado
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void aoAlterarOcupacao(OcupacaoQuadraAlteradaEvent event) {
+        Cache cache = cacheManager.getCache(CACHE_DISPONIBILIDADE);
+        if (cache != null && cache.evictIfPresent(chave(event.getQuadraId(), event.getData()))) {
+            invalidacoesPorData.increment();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void aoAlterarHorarios(HorariosQuadraAlteradosEvent event) {
+        invalidarQuadra(event.getQuadraId());
+    }
+
+    // Remove todas as datas da quadra, já que uma mudança de horário afeta um dia da semana em qualquer data
+    public void invalidarQuadra(Long quadraId) {
+        Cache cache = cacheManager.getCache(CACHE_DISPONIBILIDADE);
+        if (cache == null) {
+            return;
+        }
+
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativo)) {
+            cache.clear();
+            return;
+        }
+
+        String prefixo = quadraId + ":";
+        Map<?, ?> entradas = nativo.asMap();
+        int removidas = 0;
+        for (Object chave : entradas.keySet()) {
+            if (chave.toString().startsWith(prefixo) && entradas.remove(chave) != null) {
+                removidas++;
+            }
+        }
+        invalidacoesPorQuadra.increment(removidas);
+        log.info("Cache de disponibilidade: {} entrada(s) invalidada(s) para a quadra {}.", removidas, quadraId);
+    }
+}
@@ -0,0 +1,236 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.dto.quadra.AlteracaoDisponibilidadeDTO;
+import com.engstrategy.alugai_api.dto.quadra.SlotHorarioResponseDTO;
+import com.engstrategy.alugai_api.event.HorariosQuadraAlteradosEvent;
+import com.engstrategy.alugai_api.event.OcupacaoQuadraAlteradaEvent;
+import com.engstrategy.alugai_api.exceptions.LimiteDeStreamsExcedidoException;
+import com.engstrategy.alugai_api.service.QuadraService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mantém os streams SSE de disponibilidade por (quadra, data).
+ * Ao se inscrever o cliente recebe a lista de horários disponíveis ("disponibilidade") e, depois,
+ * apenas as alterações ("alteracao") publicadas após o commit de cada agendamento criado, cancelado ou expirado.
+ * Quando os horários da quadra mudam, o cliente recebe "recarregar" e deve buscar a lista novamente.
+ * O stream é registrado antes de a lista ser montada; as alterações que chegam nesse intervalo são entregues
+ * logo depois dela. Cada conexão dura no máximo o timeout (o EventSource reconecta sozinho) e o número
+ * de conexões é limitado por cliente e no total. Os streams são locais a cada instância.
+ */
+@Service
+@Slf4j
+public class DisponibilidadeStreamService {
+
+    private final QuadraService quadraService;
+    private final long timeoutMs;
+    private final int maxConexoes;
+    private final int maxConexoesPorCliente;
+    private final ZoneId fusoHorarioPadrao = ZoneId.of("America/Sao_Paulo");
+
+    private final Map<ChaveStream, Set<Inscricao>> inscricoes = new ConcurrentHashMap<>();
+    private final AtomicInteger conexoes = new AtomicInteger();
+    private final Map<String, Integer> conexoesPorCliente = new ConcurrentHashMap<>();
+
+    public DisponibilidadeStreamService(QuadraService quadraService,
+                                        @Value("${arenahub.disponibilidade.stream-timeout-ms:300000}") long timeoutMs,
+                                        @Value("${arenahub.disponibilidade.stream-max-conexoes:2000}") int maxConexoes,
+                                        @Value("${arenahub.disponibilidade.stream-max-por-cliente:5}") int maxConexoesPorCliente) {
+        this.quadraService = quadraService;
+        this.timeoutMs = timeoutMs;
+        this.maxConexoes = maxConexoes;
+        this.maxConexoesPorCliente = maxConexoesPorCliente;
+    }
+
+    /**
+     * @param cliente identificação de quem abre o stream (endereço IP), para o limite por cliente
+     */
+    public SseEmitter inscrever(Long quadraId, LocalDate data, String cliente) {
+        if (data.isBefore(LocalDate.now(fusoHorarioPadrao))) {
+            throw new IllegalArgumentException("Não é possível acompanhar a disponibilidade de datas passadas.");
+        }
+        reservarConexao(cliente);
+
+        ChaveStream chave = new ChaveStream(quadraId, data);
+        Inscricao inscricao = new Inscricao(chave, cliente, new SseEmitter(timeoutMs));
+        inscricoes.computeIfAbsent(chave, c -> new CopyOnWriteArraySet<>()).add(inscricao);
+
+        SseEmitter emitter = inscricao.emitter;
+        emitter.onCompletion(() -> remover(inscricao));
+        emitter.onTimeout(() -> remover(inscricao));
+        emitter.onError(e -> remover(inscricao));
+
+        // Lista montada depois do registro e sem o cache: nenhuma alteração fica entre ela e os eventos
+        List<SlotHorarioResponseDTO> disponibilidade;
+        try {
+            disponibilidade = quadraService.consultarDisponibilidadeAtual(quadraId, data);
+        } catch (RuntimeException e) {
+            remover(inscricao);
+            throw e;
+        }
+
+        inscricao.iniciar(SseEmitter.event().name("disponibilidade").data(disponibilidade));
+        return emitter;
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void aoAlterarOcupacao(OcupacaoQuadraAlteradaEvent event) {
+        ChaveStream chave = new ChaveStream(event.getQuadraId(), event.getData());
+        Set<Inscricao> inscritos = inscricoes.get(chave);
+        if (inscritos == null || inscritos.isEmpty()) {
+            return;
+        }
+
+        // Sem o período do agendamento não há como montar a alteração: o cliente recarrega a lista
+        if (event.getHorarioInicio() == null || event.getHorarioFim() == null) {
+            for (Inscricao inscricao : inscritos) {
+                inscricao.enviar(SseEmitter.event().name("recarregar").data(chave.quadraId()));
+            }
+            return;
+        }
+
+        AlteracaoDisponibilidadeDTO alteracao = AlteracaoDisponibilidadeDTO.builder()
+                .quadraId(event.getQuadraId())
+                .data(event.getData())
+                .horarioInicio(event.getHorarioInicio())
+                .horarioFim(event.getHorarioFim())
+                .ocupado(event.isOcupado())
+                .build();
+
+        for (Inscricao inscricao : inscritos) {
+            inscricao.enviar(SseEmitter.event().name("alteracao").data(alteracao));
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void aoAlterarHorarios(HorariosQuadraAlteradosEvent event) {
+        inscricoes.forEach((chave, inscritos) -> {
+            if (chave.quadraId().equals(event.getQuadraId())) {
+                for (Inscricao inscricao : inscritos) {
+                    inscricao.enviar(SseEmitter.event().name("recarregar").data(chave.quadraId()));
+                }
+            }
+        });
+    }
+
+    // Mantém as conexões abertas através de proxies e encerra os streams de dias que já passaram
+    @Scheduled(fixedRate = 25000)
+    public void manterConexoes() {
+        LocalDate hoje = LocalDate.now(fusoHorarioPadrao);
+        inscricoes.forEach((chave, inscritos) -> {
+            for (Inscricao inscricao : inscritos) {
+                if (chave.data().isBefore(hoje)) {
+                    inscricao.emitter.complete();
+                    remover(inscricao);
+                } else {
+                    inscricao.enviar(SseEmitter.event().comment("ping"));
+                }
+            }
+        });
+    }
+
+    private void reservarConexao(String cliente) {
+        if (conexoes.incrementAndGet() > maxConexoes) {
+            conexoes.decrementAndGet();
+            log.warn("Limite de {} streams de disponibilidade atingido.", maxConexoes);
+            throw new LimiteDeStreamsExcedidoException("Muitas conexões abertas no momento. Tente novamente mais tarde.");
+        }
+        if (conexoesPorCliente.merge(cliente, 1, Integer::sum) > maxConexoesPorCliente) {
+            liberarConexao(cliente);
+            throw new LimiteDeStreamsExcedidoException(
+                    "Limite de " + maxConexoesPorCliente + " acompanhamentos simultâneos atingido. Feche um deles e tente novamente.");
+        }
+    }
+
+    private void liberarConexao(String cliente) {
+        conexoes.decrementAndGet();
+        conexoesPorCliente.computeIfPresent(cliente, (c, quantidade) -> quantidade > 1 ? quantidade - 1 : null);
+    }
+
+    // Chamado pelos callbacks do emitter e pelas falhas de envio; só a primeira chamada libera a conexão
+    private void remover(Inscricao inscricao) {
+        if (!inscricao.encerrada.compareAndSet(false, true)) {
+            return;
+        }
+        inscricoes.computeIfPresent(inscricao.chave, (c, inscritos) -> {
+            inscritos.remove(inscricao);
+            return inscritos.isEmpty() ? null : inscritos;
+        });
+        liberarConexao(inscricao.cliente);
+    }
+
+    private record ChaveStream(Long quadraId, LocalDate data) {
+    }
+
+    private final class Inscricao {
+
+        private final ChaveStream chave;
+        private final String cliente;
+        private final SseEmitter emitter;
+        private final AtomicBoolean encerrada = new AtomicBoolean();
+
+        // Eventos recebidos antes da lista inicial; nulo depois que ela é enviada
+        private List<SseEmitter.SseEventBuilder> pendentes = new ArrayList<>();
+
+        private Inscricao(ChaveStream chave, String cliente, SseEmitter emitter) {
+            this.chave = chave;
+            this.cliente = cliente;
+            this.emitter = emitter;
+        }
+
+        private synchronized void iniciar(SseEmitter.SseEventBuilder estadoInicial) {
+            List<SseEmitter.SseEventBuilder> recebidos = pendentes;
+            pendentes = null;
+            if (enviarAgora(estadoInicial)) {
+                for (SseEmitter.SseEventBuilder evento : recebidos) {
+                    if (!enviarAgora(evento)) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private synchronized void enviar(SseEmitter.SseEventBuilder evento) {
+            if (pendentes != null) {
+                pendentes.add(evento);
+                return;
+            }
+            enviarAgora(evento);
+        }
+
+        private boolean enviarAgora(SseEmitter.SseEventBuilder evento) {
+            try {
+                emitter.send(evento);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Stream de disponibilidade encerrado para a quadra {} em {}: {}",
+                        chave.quadraId(), chave.data(), e.getMessage());
+                remover(this);
+                return false;
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.engstrategy.alugai_api.service.impl;
 
 import com.engstrategy.alugai_api.model.Agendamento;
+import com.engstrategy.alugai_api.model.EmailPendente;
 import com.engstrategy.alugai_api.model.Feedback;
 import com.engstrategy.alugai_api.model.enums.Role;
+import com.engstrategy.alugai_api.repository.EmailPendenteRepository;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -15,12 +17,18 @@ import org.springframework.stereotype.Service;
 
 import java.time.format.DateTimeFormatter;
 
+/**
+ * Códigos de verificação e de redefinição de senha são enviados na hora, de forma assíncrona.
+ * Os demais e-mails (agendamentos, jogos abertos, feedback) são renderizados e gravados na outbox,
+ * na transação de quem os solicitou, e enviados depois pelo EmailOutboxJob.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final EmailPendenteRepository emailPendenteRepository;
 
     @Value("${spring.mail.username}")
     private String senderEmail;
@@ -58,27 +66,10 @@ public class EmailService {
         }
     }
 
-    @Async
     public void enviarEmailAgendamento(String destino, String nome, Agendamento agendamento, Role role) {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
-        try {
-            helper.setFrom(senderEmail);
-            helper.setTo(destino);
-            helper.setSubject("Confirmação de Agendamento - ArenaHub");
-
-            String content = htmlContentAgendamento(nome, agendamento, role);
-            helper.setText(content, true);
-
-            mailSender.send(message);
-            log.info("Email de agendamento enviado para {} ({})", destino, role);
-        } catch (MessagingException e) {
-            log.error("Erro ao enviar email de agendamento para {}: {}", destino, e.getMessage());
-            throw new RuntimeException("Erro ao enviar email de agendamento", e);
-        }
+        enfileirar(destino, "Confirmação de Agendamento - ArenaHub", htmlContentAgendamento(nome, agendamento, role));
     }
 
-    @Async
     public void enviarEmailNovaSolicitacao(String emailDono, String nomeDono, String nomeSolicitante, Agendamento agendamento) {
         String dataFormatada = agendamento.getDataAgendamento().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
         String titulo = "Nova solicitação para o seu jogo!";
@@ -91,7 +82,6 @@ public class EmailService {
         enviarEmailGenerico(emailDono, titulo, corpo, nomeDono);
     }
 
-    @Async
     public void enviarEmailSolicitacaoAceita(String emailSolicitante, String nomeSolicitante, Agendamento agendamento) {
         String dataFormatada = agendamento.getDataAgendamento().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
         String titulo = "Você está dentro! Participação confirmada.";
@@ -104,7 +94,6 @@ public class EmailService {
         enviarEmailGenerico(emailSolicitante, titulo, corpo, nomeSolicitante);
     }
 
-    @Async
     public void enviarEmailSolicitacaoRecusada(String emailSolicitante, String nomeSolicitante, Agendamento agendamento) {
         String dataFormatada = agendamento.getDataAgendamento().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
         String titulo = "Atualização sobre sua solicitação de jogo";
@@ -117,7 +106,6 @@ public class EmailService {
         enviarEmailGenerico(emailSolicitante, titulo, corpo, nomeSolicitante);
     }
 
-    @Async
     public void enviarEmailParticipanteSaiu(String emailDono, String nomeDono, String nomeParticipante, Agendamento agendamento) {
         String dataFormatada = agendamento.getDataAgendamento().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
         String titulo = "Um participante saiu do seu jogo";
@@ -130,7 +118,6 @@ public class EmailService {
         enviarEmailGenerico(emailDono, titulo, corpo, nomeDono);
     }
 
-    @Async
     public void enviarEmailJogoCancelado(String emailParticipante, String nomeParticipante, Agendamento agendamento) {
         String dataFormatada = agendamento.getDataAgendamento().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
         String titulo = "Atenção: Jogo cancelado!";
@@ -144,20 +131,33 @@ public class EmailService {
     }
 
     private void enviarEmailGenerico(String destinatario, String titulo, String corpo, String nomeDestinatario) {
+        enfileirar(destinatario, titulo + " - ArenaHub", htmlTemplateBase(titulo, corpo, nomeDestinatario));
+    }
+
+    // Participa da transação de quem chamou; sem transação ativa, o save grava em uma própria.
+    // Atletas externos não têm e-mail: sem destinatário nada é gravado, para não derrubar a transação de quem chamou
+    public void enfileirar(String destinatario, String assunto, String conteudoHtml) {
+        if (destinatario == null || destinatario.isBlank()) {
+            log.debug("Email '{}' sem destinatário; não gravado na outbox", assunto);
+            return;
+        }
+        emailPendenteRepository.save(EmailPendente.builder()
+                .destinatario(destinatario)
+                .assunto(assunto)
+                .conteudoHtml(conteudoHtml)
+                .build());
+        log.debug("Email '{}' para {} gravado na outbox", assunto, destinatario);
+    }
+
+    // Usado pelo EmailOutboxJob; a falha é tratada por quem chamou (nova tentativa)
+    public void enviar(String destinatario, String assunto, String conteudoHtml) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
-        try {
-            helper.setFrom(senderEmail);
-            helper.setTo(destinatario);
-            helper.setSubject(titulo + " - ArenaHub");
-            String htmlCompleto = htmlTemplateBase(titulo, corpo, nomeDestinatario);
-            helper.setText(htmlCompleto, true);
-            mailSender.send(message);
-            log.info("Email '{}' enviado para {}", titulo, destinatario);
-        } catch (MessagingException e) {
-            log.error("Erro ao enviar email '{}' para {}: {}", titulo, destinatario, e.getMessage());
-            throw new RuntimeException("Erro ao enviar email", e);
-        }
+        helper.setFrom(senderEmail);
+        helper.setTo(destinatario);
+        helper.setSubject(assunto);
+        helper.setText(conteudoHtml, true);
+        mailSender.send(message);
     }
 
     private String htmlTemplateBase(String titulo, String corpo, String nome) {
@@ -427,7 +427,6 @@ public class EmailService {
         }
     }
 
-    @Async
     public void notificarAdminNovoFeedback(Feedback feedback) {
         // Formata o tipo de feedback para uma apresentação mais amigável
         String tipoFeedbackFormatado = feedback.getTipo().toString().replace("_", " ").toLowerCase();
@@ -0,0 +1,132 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO;
+import com.engstrategy.alugai_api.event.OcupacaoQuadraAlteradaEvent;
+import com.engstrategy.alugai_api.model.Agendamento;
+import com.engstrategy.alugai_api.repository.AgendamentoFixoRepository;
+import com.engstrategy.alugai_api.repository.AgendamentoRepository;
+import com.engstrategy.alugai_api.util.TimerWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Expira os agendamentos que ficaram em AGUARDANDO_PAGAMENTO além do prazo.
+ * Os agendamentos ficam em um timer wheel com o prazo contado a partir do snapshot; a cada segundo os
+ * vencidos são cancelados em um único UPDATE, que só atinge quem ainda aguarda pagamento.
+ * Hoje nenhum fluxo cria agendamentos em AGUARDANDO_PAGAMENTO (o pagamento via PIX está desativado), então o
+ * wheel só é alimentado pela reconstrução a partir do banco, na subida e a cada 15 minutos; o fluxo que voltar
+ * a criar esse status deve chamar agendarExpiracao para que o prazo seja respeitado no segundo em que vence.
+ */
+@Service
+@Slf4j
+public class ExpiracaoAgendamentoService {
+
+    // Espera antes de tentar de novo os vencidos cujo cancelamento falhou
+    private static final long ESPERA_NOVA_TENTATIVA_MS = 5000;
+
+    private final AgendamentoRepository agendamentoRepository;
+    private final AgendamentoFixoRepository agendamentoFixoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration prazoPagamento;
+    // dataSnapshot é gravado no horário de Brasília, independente do fuso do servidor
+    private final ZoneId fusoHorario = ZoneId.of("America/Sao_Paulo");
+
+    private final TimerWheel<Long> expiracoes = new TimerWheel<>(1000, System.currentTimeMillis());
+
+    public ExpiracaoAgendamentoService(AgendamentoRepository agendamentoRepository,
+                                       AgendamentoFixoRepository agendamentoFixoRepository,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Value("${arenahub.agendamento.prazo-pagamento:10m}") Duration prazoPagamento) {
+        this.agendamentoRepository = agendamentoRepository;
+        this.agendamentoFixoRepository = agendamentoFixoRepository;
+        this.eventPublisher = eventPublisher;
+        this.prazoPagamento = prazoPagamento;
+    }
+
+    /**
+     * Agenda a expiração de um agendamento aguardando pagamento, após o commit da transação que o criou.
+     * Deve ser chamado por todo fluxo que grava um agendamento em AGUARDANDO_PAGAMENTO.
+     */
+    public void agendarExpiracao(Agendamento agendamento) {
+        Long id = agendamento.getId();
+        LocalDateTime criacao = agendamento.getDataSnapshot() != null ? agendamento.getDataSnapshot() : LocalDateTime.now(fusoHorario);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            agendar(id, criacao);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                agendar(id, criacao);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        List<Object[]> pendentes = agendamentoRepository.findPrazosAguardandoPagamento();
+        for (Object[] pendente : pendentes) {
+            LocalDateTime criacao = pendente[1] != null ? (LocalDateTime) pendente[1] : LocalDateTime.now(fusoHorario);
+            agendar((Long) pendente[0], criacao);
+        }
+        log.info("Expiração de agendamentos: {} agendamento(s) aguardando pagamento no timer wheel.", expiracoes.tamanho());
+    }
+
+    /**
+     * Cancela os agendamentos vencidos até agora. Um agendamento pago nesse meio tempo não é atingido pelo UPDATE.
+     * Se o UPDATE ou o commit falhar, os vencidos voltam para o wheel e são tentados de novo.
+     */
+    @Transactional
+    public int expirarVencidos() {
+        List<Long> vencidos = expiracoes.avancar(System.currentTimeMillis());
+        if (vencidos.isEmpty()) {
+            return 0;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    long novaTentativa = System.currentTimeMillis() + ESPERA_NOVA_TENTATIVA_MS;
+                    vencidos.forEach(id -> expiracoes.agendar(id, novaTentativa));
+                    log.warn("Expiração de agendamentos: cancelamento de {} vencido(s) falhou; nova tentativa agendada.",
+                            vencidos.size());
+                }
+            }
+        });
+
+        // Só voltam as linhas efetivamente canceladas, com o horário que deixaram de ocupar
+        List<OcupacaoHorarioDTO> liberados = agendamentoRepository.cancelarAguardandoPagamento(vencidos);
+
+        // Ocorrências de recorrências canceladas mudam a próxima ocorrência e os contadores da regra
+        if (!liberados.isEmpty()) {
+            List<Long> recorrencias = agendamentoRepository.findAgendamentoFixoIds(vencidos);
+            if (!recorrencias.isEmpty()) {
+                agendamentoFixoRepository.atualizarResumo(recorrencias, LocalDate.now(fusoHorario));
+            }
+        }
+
+        liberados.forEach(liberado -> eventPublisher.publishEvent(OcupacaoQuadraAlteradaEvent.liberou(liberado)));
+        log.info("Expiração de agendamentos: {} vencido(s), {} cancelado(s).", vencidos.size(), liberados.size());
+        return liberados.size();
+    }
+
+    private void agendar(Long agendamentoId, LocalDateTime criacao) {
+        long prazo = criacao.plus(prazoPagamento).atZone(fusoHorario).toInstant().toEpochMilli();
+        expiracoes.agendar(agendamentoId, prazo);
+    }
+
+}
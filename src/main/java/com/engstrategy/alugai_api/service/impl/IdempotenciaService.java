@@ -0,0 +1,119 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.exceptions.IdempotencyKeyInProgressException;
+import com.engstrategy.alugai_api.exceptions.IdempotencyKeyMismatchException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Guarda, por um tempo limitado, a resposta das requisições enviadas com o header Idempotency-Key.
+ * Uma repetição com a mesma chave (do mesmo usuário) e o mesmo corpo recebe a resposta original
+ * sem executar a operação de novo. Apenas respostas de sucesso ficam guardadas: se a operação falhar,
+ * a chave é liberada para uma nova tentativa. O armazenamento é local a cada instância.
+ */
+@Service
+@Slf4j
+public class IdempotenciaService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    private final Cache<String, Registro> registros;
+    private final ObjectMapper objectMapper;
+
+    public IdempotenciaService(ObjectMapper objectMapper,
+                               @Value("${arenahub.idempotencia.ttl:24h}") Duration ttl,
+                               @Value("${arenahub.idempotencia.max-registros:10000}") long maxRegistros) {
+        // Entradas de mapas em ordem de chave, para que o mesmo corpo gere sempre o mesmo JSON
+        this.objectMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.registros = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxRegistros)
+                .build();
+    }
+
+    /**
+     * Executa a operação uma única vez por (escopo, chave). Sem chave, apenas executa.
+     *
+     * @param escopo     dono da chave (ex.: id do usuário), para que chaves iguais de usuários diferentes não colidam
+     * @param requisicao corpo da requisição, comparado com o da primeira chamada
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> executar(String chave, Object escopo, Object requisicao,
+                                          Supplier<ResponseEntity<T>> operacao) {
+        if (chave == null || chave.isBlank()) {
+            return operacao.get();
+        }
+        if (chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new IllegalArgumentException("O header " + HEADER + " deve ter no máximo " + TAMANHO_MAXIMO_CHAVE + " caracteres.");
+        }
+
+        String chaveCompleta = escopo + ":" + chave;
+        Registro novo = new Registro(hashRequisicao(requisicao));
+        ConcurrentMap<String, Registro> mapa = registros.asMap();
+
+        Registro existente = mapa.putIfAbsent(chaveCompleta, novo);
+        if (existente != null) {
+            if (!MessageDigest.isEqual(existente.hashRequisicao, novo.hashRequisicao)) {
+                throw new IdempotencyKeyMismatchException(
+                        "O " + HEADER + " informado já foi usado com outra requisição.");
+            }
+            if (existente.resposta == null) {
+                throw new IdempotencyKeyInProgressException(
+                        "Uma requisição com o mesmo " + HEADER + " ainda está em processamento.");
+            }
+            log.info("Requisição repetida com {} {}: devolvendo a resposta original.", HEADER, chave);
+            return (ResponseEntity<T>) existente.resposta;
+        }
+
+        boolean concluida = false;
+        try {
+            ResponseEntity<T> resposta = operacao.get();
+            novo.resposta = resposta;
+            // Regrava para que o TTL passe a contar a partir da resposta
+            mapa.put(chaveCompleta, novo);
+            concluida = true;
+            return resposta;
+        } finally {
+            // Qualquer falha (inclusive Error) libera a chave para uma nova tentativa
+            if (!concluida) {
+                mapa.remove(chaveCompleta, novo);
+            }
+        }
+    }
+
+    // Os DTOs nem sempre implementam equals/hashCode: compara o SHA-256 do JSON do corpo
+    private byte[] hashRequisicao(Object requisicao) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(requisicao));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Não foi possível processar o corpo da requisição.", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível.", e);
+        }
+    }
+
+    private static final class Registro {
+
+        private final byte[] hashRequisicao;
+        private volatile ResponseEntity<?> resposta;
+
+        private Registro(byte[] hashRequisicao) {
+            this.hashRequisicao = hashRequisicao;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.dto.mapa.EsporteArena;
+import com.engstrategy.alugai_api.event.ArenaAlteradaEvent;
+import com.engstrategy.alugai_api.model.Arena;
+import com.engstrategy.alugai_api.model.Endereco;
+import com.engstrategy.alugai_api.model.enums.StatusAssinatura;
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+import com.engstrategy.alugai_api.repository.ArenaRepository;
+import com.engstrategy.alugai_api.repository.QuadraRepository;
+import com.engstrategy.alugai_api.util.IndiceGeografico;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Localização e esportes das arenas ativas com assinatura ativa, mantidos em memória para responder as
+ * buscas por proximidade e o mapa sem consultar o banco. É carregado na subida, atualizado a cada
+ * ArenaAlteradaEvent e recarregado periodicamente para incluir as alterações feitas por outras instâncias.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class IndiceArenasService {
+
+    // Células de 0,1 grau (~11 km de latitude)
+    private static final double TAMANHO_CELULA_GRAUS = 0.1;
+
+    private final ArenaRepository arenaRepository;
+    private final QuadraRepository quadraRepository;
+
+    private final IndiceGeografico<UUID> indice = new IndiceGeografico<>(TAMANHO_CELULA_GRAUS);
+    private final Map<UUID, Set<TipoEsporte>> esportesPorArena = new ConcurrentHashMap<>();
+    private volatile boolean carregado;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        List<IndiceGeografico.Ponto<UUID>> pontos = new ArrayList<>();
+        for (Object[] localizacao : arenaRepository.findLocalizacoesAtivas()) {
+            if (localizacao[1] != null && localizacao[2] != null) {
+                pontos.add(new IndiceGeografico.Ponto<>((UUID) localizacao[0], (Double) localizacao[1], (Double) localizacao[2]));
+            }
+        }
+        indice.substituir(pontos);
+
+        Map<UUID, Set<TipoEsporte>> esportes = new HashMap<>();
+        for (EsporteArena esporteArena : quadraRepository.findEsportesDasArenasVisiveis()) {
+            esportes.computeIfAbsent(esporteArena.arenaId(), id -> EnumSet.noneOf(TipoEsporte.class))
+                    .add(esporteArena.esporte());
+        }
+        esportesPorArena.keySet().retainAll(esportes.keySet());
+        esportesPorArena.putAll(esportes);
+        carregado = true;
+        log.info("Índice de arenas: {} arena(s) carregada(s).", indice.tamanho());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarArena(ArenaAlteradaEvent event) {
+        UUID arenaId = event.getArenaId();
+        arenaRepository.findById(arenaId)
+                .filter(IndiceArenasService::isVisivel)
+                .ifPresentOrElse(
+                        arena -> {
+                            indice.atualizar(arenaId, arena.getEndereco().getLatitude(), arena.getEndereco().getLongitude());
+                            atualizarEsportes(arenaId);
+                        },
+                        () -> {
+                            indice.remover(arenaId);
+                            esportesPorArena.remove(arenaId);
+                        });
+    }
+
+    private void atualizarEsportes(UUID arenaId) {
+        List<TipoEsporte> esportes = quadraRepository.findEsportesByArenaId(arenaId);
+        if (esportes.isEmpty()) {
+            esportesPorArena.remove(arenaId);
+        } else {
+            esportesPorArena.put(arenaId, EnumSet.copyOf(esportes));
+        }
+    }
+
+    /**
+     * Até a primeira carga o índice está vazio; nesse intervalo quem chama deve consultar o banco.
+     */
+    public boolean isCarregado() {
+        return carregado;
+    }
+
+    /**
+     * Página de ids das arenas dentro do raio, da mais próxima para a mais distante.
+     */
+    public Page<UUID> buscarPorProximidade(double latitude, double longitude, double raioKm, Pageable pageable) {
+        List<UUID> ids = indice.buscarNoRaio(latitude, longitude, raioKm).stream()
+                .map(IndiceGeografico.Proximo::chave)
+                .toList();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(ids, pageable, ids.size());
+        }
+
+        int inicio = (int) Math.min(pageable.getOffset(), ids.size());
+        int fim = Math.min(inicio + pageable.getPageSize(), ids.size());
+        return new PageImpl<>(ids.subList(inicio, fim), pageable, ids.size());
+    }
+
+    /**
+     * Arenas com a localização dentro do retângulo visível do mapa.
+     */
+    public List<IndiceGeografico.Ponto<UUID>> buscarNoRetangulo(double latitudeMinima, double longitudeMinima,
+                                                                double latitudeMaxima, double longitudeMaxima) {
+        return indice.buscarNoRetangulo(latitudeMinima, longitudeMinima, latitudeMaxima, longitudeMaxima);
+    }
+
+    /**
+     * Esportes oferecidos pelas quadras da arena; vazio para arenas fora do índice.
+     */
+    public Set<TipoEsporte> buscarEsportes(UUID arenaId) {
+        return esportesPorArena.getOrDefault(arenaId, Set.of());
+    }
+
+    private static boolean isVisivel(Arena arena) {
+        Endereco endereco = arena.getEndereco();
+        return arena.isAtivo()
+                && arena.getStatusAssinatura() == StatusAssinatura.ATIVA
+                && endereco != null
+                && endereco.getLatitude() != null
+                && endereco.getLongitude() != null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.engstrategy.alugai_api.service.impl;
 
 import com.engstrategy.alugai_api.dto.jogosabertos.JogoAbertoResponseDTO;
+import com.engstrategy.alugai_api.dto.jogosabertos.JogoAbertoResumo;
 import com.engstrategy.alugai_api.dto.jogosabertos.MinhaParticipacaoResponseDTO;
 import com.engstrategy.alugai_api.dto.jogosabertos.SolicitacaoEntradaDTO;
 import com.engstrategy.alugai_api.exceptions.AccessDeniedException;
@@ -19,6 +20,7 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -27,7 +29,11 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,12 +49,13 @@ public class JogoAbertoServiceImpl implements JogoAbertoService {
 
     @Override
     public Page<JogoAbertoResponseDTO> listarJogosAbertos(Pageable pageable, String cidade, String esporte, Double latitude, Double longitude, Double raioKm, UUID atletaLogadoId) {
-        Page<Agendamento> jogosAbertosPage;
+        Page<JogoAbertoResumo> jogosAbertosPage;
 
         if (latitude != null && longitude != null && raioKm != null && raioKm > 0) {
-            // Busca por Proximidade
+            // Busca por Proximidade: a ordem por distância vem da página de ids
             Pageable proximityPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-            jogosAbertosPage = agendamentoRepository.findJogosAbertosByProximity(latitude, longitude, raioKm, proximityPageable);
+            Page<Long> ids = agendamentoRepository.findIdsJogosAbertosByProximity(latitude, longitude, raioKm, proximityPageable);
+            jogosAbertosPage = buscarJogosAbertosPorIds(ids);
 
         } else {
             Specification<Agendamento> spec = AgendamentoSpecs.isPublico()
@@ -62,18 +69,34 @@ public class JogoAbertoServiceImpl implements JogoAbertoService {
             if (esporte != null && !esporte.trim().isEmpty()) {
                 spec = spec.and(AgendamentoSpecs.hasEsporte(esporte));
             }
-            jogosAbertosPage = agendamentoRepository.findAll(spec, pageable);
+            jogosAbertosPage = agendamentoRepository.findJogosAbertos(spec, pageable);
         }
 
-        return jogosAbertosPage.map(agendamento -> {
-            boolean jaSolicitado = solicitacaoRepository
-                .findByAgendamentoIdAndSolicitanteId(agendamento.getId(), atletaLogadoId)
-                .isPresent();
+        // Uma consulta para a página inteira em vez de uma por jogo
+        List<Long> agendamentoIds = jogosAbertosPage.map(JogoAbertoResumo::agendamentoId).getContent();
+        Set<Long> solicitados = atletaLogadoId == null || agendamentoIds.isEmpty()
+                ? Set.of()
+                : solicitacaoRepository.findAgendamentoIdsSolicitados(atletaLogadoId, agendamentoIds);
 
-            JogoAbertoResponseDTO dto = jogoAbertoMapper.toJogoAbertoResponseDTO(agendamento);
-            dto.setJaSolicitado(jaSolicitado);
-            return dto;
-        });
+        return jogosAbertosPage.map(jogo ->
+                jogoAbertoMapper.toJogoAbertoResponseDTO(jogo, solicitados.contains(jogo.agendamentoId())));
+    }
+
+    private Page<JogoAbertoResumo> buscarJogosAbertosPorIds(Page<Long> ids) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+        }
+
+        Map<Long, JogoAbertoResumo> porId = agendamentoRepository
+                .findJogosAbertos((root, query, builder) -> root.get("id").in(ids.getContent()), Pageable.unpaged())
+                .stream()
+                .collect(Collectors.toMap(JogoAbertoResumo::agendamentoId, Function.identity()));
+
+        List<JogoAbertoResumo> jogos = ids.getContent().stream()
+                .map(porId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(jogos, ids.getPageable(), ids.getTotalElements());
     }
 
     @Override
@@ -145,12 +168,12 @@ public class JogoAbertoServiceImpl implements JogoAbertoService {
         }
 
         if (aceitar) {
-            if (agendamento.getVagasDisponiveis() <= 0) {
+            // A vaga é ocupada direto no banco: dois aceites simultâneos não vendem a mesma vaga
+            if (agendamentoRepository.ocuparVaga(agendamento.getId()) == 0) {
                 throw new IllegalStateException("Não há mais vagas disponíveis neste jogo.");
             }
             solicitacao.setStatus(StatusSolicitacao.ACEITO);
-            agendamento.getParticipantes().add(solicitacao.getSolicitante());
-            agendamento.setVagasDisponiveis(agendamento.getVagasDisponiveis() - 1);
+            agendamentoRepository.adicionarParticipante(agendamento.getId(), solicitacao.getSolicitante().getId());
             emailService.enviarEmailSolicitacaoAceita(solicitacao.getSolicitante().getEmail(), solicitacao.getSolicitante().getNome(), agendamento);
         } else {
             solicitacao.setStatus(StatusSolicitacao.RECUSADO);
@@ -158,7 +181,6 @@ public class JogoAbertoServiceImpl implements JogoAbertoService {
         }
 
         solicitacaoRepository.save(solicitacao);
-        agendamentoRepository.save(agendamento);
 
         return jogoAbertoMapper.toSolicitacaoEntradaDTO(solicitacao);
     }
@@ -188,9 +210,9 @@ public class JogoAbertoServiceImpl implements JogoAbertoService {
 
         if (statusAtual == StatusSolicitacao.ACEITO) {
             // Se o atleta foi aceito, remove ele dos participantes e incrementa as vagas
-            agendamento.getParticipantes().remove(solicitacao.getSolicitante());
-            agendamento.setVagasDisponiveis(agendamento.getVagasDisponiveis() + 1);
-            agendamentoRepository.save(agendamento);
+            if (agendamentoRepository.removerParticipante(agendamento.getId(), atletaId) > 0) {
+                agendamentoRepository.liberarVaga(agendamento.getId());
+            }
 
             // Notifica o dono do jogo que um participante saiu
             Atleta donoDoJogo = agendamento.getAtleta();
@@ -207,9 +229,6 @@ public class JogoAbertoServiceImpl implements JogoAbertoService {
     @Override
     @Transactional
     public List<MinhaParticipacaoResponseDTO> listarMinhasParticipacoes(UUID atletaId) {
-        List<SolicitacaoEntrada> solicitacoes = solicitacaoRepository.findBySolicitanteIdOrderByAgendamentoDataAgendamentoDesc(atletaId);
-        return solicitacoes.stream()
-                .map(jogoAbertoMapper::toMinhaParticipacaoResponseDTO)
-                .collect(Collectors.toList());
+        return solicitacaoRepository.findMinhasParticipacoes(atletaId);
     }
 }
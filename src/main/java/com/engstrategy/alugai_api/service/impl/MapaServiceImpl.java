@@ -0,0 +1,198 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.dto.mapa.ArenaMapaDTO;
+import com.engstrategy.alugai_api.dto.mapa.ArenaMapaResumo;
+import com.engstrategy.alugai_api.dto.mapa.ClusterMapaDTO;
+import com.engstrategy.alugai_api.dto.mapa.EsporteArena;
+import com.engstrategy.alugai_api.dto.mapa.MapaResponseDTO;
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+import com.engstrategy.alugai_api.repository.ArenaRepository;
+import com.engstrategy.alugai_api.repository.QuadraRepository;
+import com.engstrategy.alugai_api.service.MapaService;
+import com.engstrategy.alugai_api.util.IndiceGeografico;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Área visível do mapa. Em zoom baixo as arenas são agrupadas em uma grade cujo tamanho de célula
+ * acompanha o zoom, e cada cluster traz a quantidade de arenas e de jogos abertos, o centroide e os
+ * esportes; só a partir de ZOOM_ARENAS_INDIVIDUAIS cada arena vem como um pino.
+ * Localizações e esportes vêm do índice em memória (do banco enquanto ele não foi carregado) e os jogos
+ * abertos, da contagem em cache por arena, assim arrastar ou dar zoom no mapa normalmente não consulta o banco.
+ */
+@Service
+@RequiredArgsConstructor
+public class MapaServiceImpl implements MapaService {
+
+    private static final int ZOOM_MAXIMO = 22;
+    private static final int ZOOM_ARENAS_INDIVIDUAIS = 14;
+    // Mesmo em zoom alto, uma área com mais arenas que isso continua agrupada
+    private static final int MAXIMO_ARENAS_INDIVIDUAIS = 300;
+    // Cada tile de 256 px é dividido em 4x4 células, ou seja, um cluster a cada ~64 px
+    private static final int CELULAS_POR_TILE = 4;
+
+    private final IndiceArenasService indiceArenasService;
+    private final ArenaRepository arenaRepository;
+    private final QuadraRepository quadraRepository;
+    private final ContagemJogosAbertosService contagemJogosAbertosService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public MapaResponseDTO buscarArea(double latitudeMinima, double longitudeMinima,
+                                      double latitudeMaxima, double longitudeMaxima, int zoom) {
+        validarArea(latitudeMinima, longitudeMinima, latitudeMaxima, longitudeMaxima, zoom);
+
+        // Até a primeira carga do índice as localizações e os esportes da área vêm do banco
+        boolean indiceCarregado = indiceArenasService.isCarregado();
+        List<IndiceGeografico.Ponto<UUID>> arenas = indiceCarregado
+                ? indiceArenasService.buscarNoRetangulo(latitudeMinima, longitudeMinima, latitudeMaxima, longitudeMaxima)
+                : buscarNoBanco(latitudeMinima, longitudeMinima, latitudeMaxima, longitudeMaxima);
+        boolean agrupado = zoom < ZOOM_ARENAS_INDIVIDUAIS || arenas.size() > MAXIMO_ARENAS_INDIVIDUAIS;
+        MapaResponseDTO.MapaResponseDTOBuilder resposta = MapaResponseDTO.builder()
+                .zoom(zoom)
+                .agrupado(agrupado)
+                .clusters(List.of())
+                .arenas(List.of());
+        if (arenas.isEmpty()) {
+            return resposta.build();
+        }
+
+        Map<UUID, Set<TipoEsporte>> esportesPorArena = new HashMap<>();
+        if (indiceCarregado) {
+            for (IndiceGeografico.Ponto<UUID> arena : arenas) {
+                esportesPorArena.put(arena.chave(), indiceArenasService.buscarEsportes(arena.chave()));
+            }
+        } else {
+            for (EsporteArena esporteArena : quadraRepository.findEsportesNaArea(
+                    latitudeMinima, longitudeMinima, latitudeMaxima, longitudeMaxima)) {
+                esportesPorArena.computeIfAbsent(esporteArena.arenaId(), id -> EnumSet.noneOf(TipoEsporte.class))
+                        .add(esporteArena.esporte());
+            }
+        }
+
+        Map<UUID, Map<TipoEsporte, Long>> jogosPorArena = contagemJogosAbertosService
+                .buscar(arenas.stream().map(IndiceGeografico.Ponto::chave).toList());
+
+        if (agrupado) {
+            return resposta.clusters(agrupar(arenas, zoom, esportesPorArena, jogosPorArena)).build();
+        }
+        return resposta.arenas(listarArenas(arenas, esportesPorArena, jogosPorArena)).build();
+    }
+
+    private List<IndiceGeografico.Ponto<UUID>> buscarNoBanco(double latitudeMinima, double longitudeMinima,
+                                                             double latitudeMaxima, double longitudeMaxima) {
+        List<IndiceGeografico.Ponto<UUID>> arenas = new ArrayList<>();
+        for (Object[] localizacao : arenaRepository.findLocalizacoesAtivasNaArea(
+                latitudeMinima, longitudeMinima, latitudeMaxima, longitudeMaxima)) {
+            arenas.add(new IndiceGeografico.Ponto<>((UUID) localizacao[0], (Double) localizacao[1], (Double) localizacao[2]));
+        }
+        return arenas;
+    }
+
+    private List<ClusterMapaDTO> agrupar(List<IndiceGeografico.Ponto<UUID>> arenas,
+                                         int zoom,
+                                         Map<UUID, Set<TipoEsporte>> esportesPorArena,
+                                         Map<UUID, Map<TipoEsporte, Long>> jogosPorArena) {
+        // A grade é fixa para cada zoom (não depende da área pedida), assim os clusters não mudam ao arrastar o mapa
+        double tamanhoCelula = 360.0 / (1L << zoom) / CELULAS_POR_TILE;
+
+        Map<Long, Cluster> clusters = new HashMap<>();
+        for (IndiceGeografico.Ponto<UUID> arena : arenas) {
+            long linha = (long) Math.floor(arena.latitude() / tamanhoCelula);
+            long coluna = (long) Math.floor(arena.longitude() / tamanhoCelula);
+            clusters.computeIfAbsent((linha << 32) ^ (coluna & 0xffffffffL), celula -> new Cluster())
+                    .adicionar(arena,
+                            esportesPorArena.getOrDefault(arena.chave(), Set.of()),
+                            jogosPorArena.getOrDefault(arena.chave(), Map.of()));
+        }
+        return clusters.values().stream()
+                .map(Cluster::toDTO)
+                .toList();
+    }
+
+    private List<ArenaMapaDTO> listarArenas(List<IndiceGeografico.Ponto<UUID>> arenas,
+                                            Map<UUID, Set<TipoEsporte>> esportesPorArena,
+                                            Map<UUID, Map<TipoEsporte, Long>> jogosPorArena) {
+        Map<UUID, ArenaMapaResumo> resumos = arenaRepository
+                .findResumosMapaByIds(arenas.stream().map(IndiceGeografico.Ponto::chave).toList())
+                .stream()
+                .collect(Collectors.toMap(ArenaMapaResumo::id, Function.identity()));
+
+        return arenas.stream()
+                .filter(arena -> resumos.containsKey(arena.chave()))
+                .map(arena -> {
+                    ArenaMapaResumo resumo = resumos.get(arena.chave());
+                    Map<TipoEsporte, Long> jogos = jogosPorArena.getOrDefault(arena.chave(), Map.of());
+                    return ArenaMapaDTO.builder()
+                            .id(resumo.id())
+                            .nome(resumo.nome())
+                            .urlFoto(resumo.urlFoto())
+                            .latitude(arena.latitude())
+                            .longitude(arena.longitude())
+                            .esportes(esportesPorArena.getOrDefault(arena.chave(), Set.of()))
+                            .quantidadeJogosAbertos(somar(jogos))
+                            .jogosAbertosPorEsporte(jogos)
+                            .build();
+                })
+                .toList();
+    }
+
+    private static void validarArea(double latitudeMinima, double longitudeMinima,
+                                    double latitudeMaxima, double longitudeMaxima, int zoom) {
+        if (zoom < 0 || zoom > ZOOM_MAXIMO) {
+            throw new IllegalArgumentException("O zoom deve estar entre 0 e " + ZOOM_MAXIMO);
+        }
+        if (latitudeMinima < -90 || latitudeMaxima > 90 || latitudeMinima > latitudeMaxima) {
+            throw new IllegalArgumentException("Latitudes da área do mapa inválidas");
+        }
+        if (longitudeMinima < -180 || longitudeMaxima > 180 || longitudeMinima > longitudeMaxima) {
+            throw new IllegalArgumentException("Longitudes da área do mapa inválidas");
+        }
+    }
+
+    private static long somar(Map<TipoEsporte, Long> quantidades) {
+        return quantidades.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static final class Cluster {
+
+        private double somaLatitudes;
+        private double somaLongitudes;
+        private int arenas;
+        private final Map<TipoEsporte, Long> esportes = new EnumMap<>(TipoEsporte.class);
+        private final Map<TipoEsporte, Long> jogosAbertos = new EnumMap<>(TipoEsporte.class);
+
+        private void adicionar(IndiceGeografico.Ponto<UUID> arena,
+                               Set<TipoEsporte> esportesDaArena,
+                               Map<TipoEsporte, Long> jogosDaArena) {
+            somaLatitudes += arena.latitude();
+            somaLongitudes += arena.longitude();
+            arenas++;
+            esportesDaArena.forEach(esporte -> esportes.merge(esporte, 1L, Long::sum));
+            jogosDaArena.forEach((esporte, quantidade) -> jogosAbertos.merge(esporte, quantidade, Long::sum));
+        }
+
+        private ClusterMapaDTO toDTO() {
+            return ClusterMapaDTO.builder()
+                    .latitude(somaLatitudes / arenas)
+                    .longitude(somaLongitudes / arenas)
+                    .quantidadeArenas(arenas)
+                    .quantidadeJogosAbertos(somar(jogosAbertos))
+                    .esportes(esportes)
+                    .jogosAbertosPorEsporte(jogosAbertos)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO;
+import com.engstrategy.alugai_api.event.HorariosQuadraAlteradosEvent;
+import com.engstrategy.alugai_api.event.OcupacaoQuadraAlteradaEvent;
+import com.engstrategy.alugai_api.model.AgendamentoFixo;
+import com.engstrategy.alugai_api.repository.AgendamentoFixoRepository;
+import com.engstrategy.alugai_api.repository.AgendamentoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice em memória da ocupação de cada quadra por dia.
+ * Cada (quadra, data) é representado por um bitset de 1440 posições (um bit por minuto do dia)
+ * com os minutos ocupados por agendamentos não cancelados e por ocorrências ainda não materializadas
+ * de agendamentos fixos.
+ * O dia é carregado do banco na primeira consulta e depois mantido pelos eventos de ocupação.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OcupacaoQuadraService {
+
+    private static final int MINUTOS_NO_DIA = 24 * 60;
+
+    private final AgendamentoRepository agendamentoRepository;
+    private final AgendamentoFixoRepository agendamentoFixoRepository;
+    private final ZoneId fusoHorarioPadrao = ZoneId.of("America/Sao_Paulo");
+
+    // Os bitsets publicados no mapa nunca são alterados: toda mudança gera uma cópia (copy-on-write)
+    private final Map<ChaveOcupacao, BitSet> ocupacoes = new ConcurrentHashMap<>();
+
+    // Incrementado a cada alteração para descartar cargas que concorreram com uma escrita
+    private final AtomicLong geracao = new AtomicLong();
+
+    public OcupacaoDia buscarOcupacao(Long quadraId, LocalDate data) {
+        ChaveOcupacao chave = new ChaveOcupacao(quadraId, data);
+
+        BitSet minutos = ocupacoes.get(chave);
+        if (minutos != null) {
+            return new OcupacaoDia(minutos);
+        }
+
+        long geracaoInicial = geracao.get();
+        minutos = carregarDoBanco(quadraId, data);
+
+        // Só publica a carga se nenhuma ocupação foi alterada enquanto o banco era consultado
+        if (geracao.get() == geracaoInicial) {
+            BitSet existente = ocupacoes.putIfAbsent(chave, minutos);
+            if (existente != null) {
+                minutos = existente;
+            }
+        }
+
+        return new OcupacaoDia(minutos);
+    }
+
+    public boolean estaOcupado(Long quadraId, LocalDate data, LocalTime inicio, LocalTime fim) {
+        return buscarOcupacao(quadraId, data).estaOcupado(inicio, fim);
+    }
+
+    /**
+     * Aplica a alteração somente após o commit, para que agendamentos revertidos nunca apareçam no índice.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void aoAlterarOcupacao(OcupacaoQuadraAlteradaEvent event) {
+        if (event.getHorarioInicio() == null || event.getHorarioFim() == null) {
+            invalidar(event.getQuadraId(), event.getData());
+            return;
+        }
+
+        geracao.incrementAndGet();
+        ocupacoes.computeIfPresent(new ChaveOcupacao(event.getQuadraId(), event.getData()), (chave, atual) -> {
+            BitSet novo = (BitSet) atual.clone();
+            novo.set(minutoInicio(event.getHorarioInicio()),
+                    minutoFim(event.getHorarioInicio(), event.getHorarioFim()),
+                    event.isOcupado());
+            return novo;
+        });
+    }
+
+    // Recorrências criadas ou canceladas e mudanças de horário afetam várias datas da quadra
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void aoAlterarHorarios(HorariosQuadraAlteradosEvent event) {
+        geracao.incrementAndGet();
+        ocupacoes.keySet().removeIf(chave -> chave.quadraId().equals(event.getQuadraId()));
+    }
+
+    public void invalidar(Long quadraId, LocalDate data) {
+        geracao.incrementAndGet();
+        ocupacoes.remove(new ChaveOcupacao(quadraId, data));
+    }
+
+    // Descarta os dias que já passaram, todo dia logo após a meia-noite
+    @Scheduled(cron = "0 5 0 * * *", zone = "America/Sao_Paulo")
+    public void descartarDiasPassados() {
+        LocalDate hoje = LocalDate.now(fusoHorarioPadrao);
+        int antes = ocupacoes.size();
+        ocupacoes.keySet().removeIf(chave -> chave.data().isBefore(hoje));
+        log.info("Índice de ocupação: {} dia(s) passados descartados, {} em memória.",
+                antes - ocupacoes.size(), ocupacoes.size());
+    }
+
+    private BitSet carregarDoBanco(Long quadraId, LocalDate data) {
+        List<OcupacaoHorarioDTO> ocupados = new ArrayList<>(agendamentoRepository.findHorariosOcupados(quadraId, data));
+        ocupados.addAll(buscarOcorrenciasNaoMaterializadas(List.of(quadraId), data, data));
+        return marcarMinutos(ocupados);
+    }
+
+    /**
+     * Horários ocupados de várias quadras no período, incluindo as ocorrências de agendamentos fixos
+     * que ainda não foram materializadas.
+     */
+    public List<OcupacaoHorarioDTO> buscarHorariosOcupadosNoPeriodo(Collection<Long> quadraIds,
+                                                                    LocalDate dataInicio,
+                                                                    LocalDate dataFim) {
+        List<OcupacaoHorarioDTO> ocupados = new ArrayList<>(
+                agendamentoRepository.findHorariosOcupadosNoPeriodo(quadraIds, dataInicio, dataFim));
+        ocupados.addAll(buscarOcorrenciasNaoMaterializadas(quadraIds, dataInicio, dataFim));
+        return ocupados;
+    }
+
+    private List<OcupacaoHorarioDTO> buscarOcorrenciasNaoMaterializadas(Collection<Long> quadraIds,
+                                                                        LocalDate dataInicio,
+                                                                        LocalDate dataFim) {
+        List<OcupacaoHorarioDTO> ocorrencias = new ArrayList<>();
+        for (AgendamentoFixo recorrencia : agendamentoFixoRepository
+                .findRecorrenciasNaoMaterializadas(quadraIds, dataInicio, dataFim)) {
+            for (LocalDate data : recorrencia.datasNaoMaterializadas(dataInicio, dataFim)) {
+                ocorrencias.add(new OcupacaoHorarioDTO(recorrencia.getQuadra().getId(), data,
+                        recorrencia.getHorarioInicio(), recorrencia.getHorarioFim()));
+            }
+        }
+        return ocorrencias;
+    }
+
+    /**
+     * Monta a ocupação de um dia a partir de horários já carregados (ex.: consultas em lote).
+     */
+    public static OcupacaoDia montarOcupacao(Collection<OcupacaoHorarioDTO> ocupados) {
+        return new OcupacaoDia(marcarMinutos(ocupados));
+    }
+
+    private static BitSet marcarMinutos(Collection<OcupacaoHorarioDTO> ocupados) {
+        BitSet minutos = new BitSet(MINUTOS_NO_DIA);
+        for (OcupacaoHorarioDTO ocupado : ocupados) {
+            if (ocupado.getHorarioInicio() == null || ocupado.getHorarioFim() == null) {
+                continue;
+            }
+            minutos.set(minutoInicio(ocupado.getHorarioInicio()),
+                    minutoFim(ocupado.getHorarioInicio(), ocupado.getHorarioFim()));
+        }
+        return minutos;
+    }
+
+    static int minutoInicio(LocalTime inicio) {
+        return inicio.toSecondOfDay() / 60;
+    }
+
+    // Horários que terminam à meia-noite (ou viram o dia) ocupam até o fim do dia
+    static int minutoFim(LocalTime inicio, LocalTime fim) {
+        return fim.isAfter(inicio) ? fim.toSecondOfDay() / 60 : MINUTOS_NO_DIA;
+    }
+
+    private record ChaveOcupacao(Long quadraId, LocalDate data) {
+    }
+
+    /**
+     * Visão imutável da ocupação de uma quadra em um dia.
+     */
+    public static final class OcupacaoDia {
+
+        private final BitSet minutos;
+
+        private OcupacaoDia(BitSet minutos) {
+            this.minutos = minutos;
+        }
+
+        public boolean estaOcupado(LocalTime inicio, LocalTime fim) {
+            int primeiroOcupado = minutos.nextSetBit(minutoInicio(inicio));
+            return primeiroOcupado != -1 && primeiroOcupado < minutoFim(inicio, fim);
+        }
+    }
+}
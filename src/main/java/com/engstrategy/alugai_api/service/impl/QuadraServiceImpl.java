@@ -1,7 +1,10 @@
 package com.engstrategy.alugai_api.service.impl;
 
+import com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO;
 import com.engstrategy.alugai_api.dto.quadra.*;
 import com.engstrategy.alugai_api.dto.subscription.AssinaturaDetalhesDTO;
+import com.engstrategy.alugai_api.event.ArenaAlteradaEvent;
+import com.engstrategy.alugai_api.event.HorariosQuadraAlteradosEvent;
 import com.engstrategy.alugai_api.exceptions.*;
 import com.engstrategy.alugai_api.jwt.CustomUserDetails;
 import com.engstrategy.alugai_api.mapper.QuadraMapper;
@@ -11,19 +14,24 @@ import com.engstrategy.alugai_api.model.enums.StatusAgendamento;
 import com.engstrategy.alugai_api.model.enums.StatusDisponibilidade;
 import com.engstrategy.alugai_api.model.enums.TipoEsporte;
 import com.engstrategy.alugai_api.repository.*;
+import com.engstrategy.alugai_api.repository.specs.QuadraSpecs;
 import com.engstrategy.alugai_api.service.QuadraService;
 import com.engstrategy.alugai_api.service.SubscriptionService;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -42,9 +50,19 @@ public class QuadraServiceImpl implements QuadraService {
     private final AgendamentoSnapshotService agendamentoSnapshotService;
     private final AvaliacaoRepository avaliacaoRepository;
     private final SubscriptionService subscriptionService;
+    private final OcupacaoQuadraService ocupacaoQuadraService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(QuadraServiceImpl.class);
 
+    // Limite de dias por consulta de grade, para manter a resposta e a consulta em lote pequenas
+    private static final int MAX_DIAS_GRADE = 31;
+
+    // Limites da busca de horários próximos
+    private static final double MAX_RAIO_BUSCA_KM = 50.0;
+    private static final int MAX_ARENAS_BUSCA = 50;
+    private static final int MAX_RESULTADOS_BUSCA = 50;
+
     @Override
     @Transactional
     public Quadra criarQuadra(Quadra quadra, UUID arenaId) {
@@ -77,7 +95,10 @@ public class QuadraServiceImpl implements QuadraService {
 
         slotHorarioService.gerarSlotsParaQuadra(quadra);
 
-        return quadraRepository.save(quadra);
+        Quadra quadraSalva = quadraRepository.save(quadra);
+        // Os esportes da arena no índice do mapa incluem os da nova quadra
+        eventPublisher.publishEvent(new ArenaAlteradaEvent(arenaId));
+        return quadraSalva;
     }
 
     @Override
@@ -91,11 +112,16 @@ public class QuadraServiceImpl implements QuadraService {
         }
 
         // Atualizar campos básicos da quadra
+        Set<TipoEsporte> esportesAnteriores = Set.copyOf(quadra.getTipoQuadra());
         atualizarCamposBasicos(quadra, updateDTO);
+        if (!esportesAnteriores.equals(quadra.getTipoQuadra())) {
+            eventPublisher.publishEvent(new ArenaAlteradaEvent(arenaId));
+        }
 
         // Atualizar horários de funcionamento se fornecidos
         if (updateDTO.getHorariosFuncionamento() != null) {
             atualizarHorariosFuncionamento(quadra, updateDTO.getHorariosFuncionamento());
+            eventPublisher.publishEvent(new HorariosQuadraAlteradosEvent(quadraId));
         }
 
         Quadra updatedQuadra = quadraRepository.save(quadra);
@@ -138,6 +164,10 @@ public class QuadraServiceImpl implements QuadraService {
     }
 
     private void atualizarHorariosFuncionamento(Quadra quadra, Set<HorarioFuncionamentoUpdateDTO> horariosDTO) {
+        // Agendamentos pendentes da quadra, carregados uma única vez para validar todos os dias alterados
+        LocalDate hoje = LocalDate.now(ZoneId.of("America/Sao_Paulo"));
+        List<OcupacaoHorarioDTO> agendamentosPendentes = agendamentoRepository.findHorariosPendentesAPartirDe(quadra.getId(), hoje);
+
         for (HorarioFuncionamentoUpdateDTO horarioDTO : horariosDTO) {
             HorarioFuncionamento horarioExistente = quadra.getHorariosFuncionamento().stream()
                     .filter(h -> h.getDiaDaSemana().equals(horarioDTO.getDiaDaSemana()))
@@ -146,20 +176,21 @@ public class QuadraServiceImpl implements QuadraService {
                             "Horário de funcionamento não encontrado para o dia: " + horarioDTO.getDiaDaSemana()));
 
             if (horarioDTO.getIntervalosDeHorario() != null) {
-                substituirTodosIntervalosDeHorario(horarioExistente, horarioDTO.getIntervalosDeHorario(), quadra);
+                substituirTodosIntervalosDeHorario(horarioExistente, horarioDTO.getIntervalosDeHorario(), quadra, agendamentosPendentes);
             }
         }
     }
 
     private void substituirTodosIntervalosDeHorario(HorarioFuncionamento horarioFuncionamento,
                                                     List<IntervaloHorarioUpdateDTO> intervalosDTO,
-                                                    Quadra quadra) {
+                                                    Quadra quadra,
+                                                    List<OcupacaoHorarioDTO> agendamentosPendentes) {
 
         // Validar novos intervalos antes de processar
         validarIntervalosParaAtualizacao(intervalosDTO);
 
         // Verificar se existem agendamentos pendentes em algum intervalo existente
-        verificarAgendamentosPendentesEmTodosIntervalos(horarioFuncionamento);
+        verificarAgendamentosPendentesEmTodosIntervalos(horarioFuncionamento, agendamentosPendentes);
 
         // Remover todos os intervalos existentes
         removerTodosIntervalosExistentes(horarioFuncionamento);
@@ -168,9 +199,10 @@ public class QuadraServiceImpl implements QuadraService {
         criarNovosIntervalos(horarioFuncionamento, intervalosDTO, quadra);
     }
 
-    private void verificarAgendamentosPendentesEmTodosIntervalos(HorarioFuncionamento horarioFuncionamento) {
+    private void verificarAgendamentosPendentesEmTodosIntervalos(HorarioFuncionamento horarioFuncionamento,
+                                                                 List<OcupacaoHorarioDTO> agendamentosPendentes) {
         for (IntervaloHorario intervalo : horarioFuncionamento.getIntervalosDeHorario()) {
-            verificarAgendamentosPendentes(intervalo);
+            verificarAgendamentosPendentes(intervalo, horarioFuncionamento.getDiaDaSemana(), agendamentosPendentes);
         }
     }
 
@@ -240,10 +272,12 @@ public class QuadraServiceImpl implements QuadraService {
                     .horarioFuncionamento(horarioFuncionamento)
                     .build();
 
-            // Gerar slots para o novo intervalo
-            List<SlotHorario> slots = slotHorarioService.gerarSlotsParaIntervalo(
-                    novoIntervalo, quadra.getDuracaoReserva());
-            novoIntervalo.setSlotsHorario(slots);
+            // Gerar slots para o novo intervalo (no modo de slots virtuais eles são derivados na consulta)
+            if (!slotHorarioService.isSlotsVirtuais()) {
+                List<SlotHorario> slots = slotHorarioService.gerarSlotsParaIntervalo(
+                        novoIntervalo, quadra.getDuracaoReserva());
+                novoIntervalo.setSlotsHorario(slots);
+            }
 
             novosIntervalos.add(novoIntervalo);
         }
@@ -264,19 +298,20 @@ public class QuadraServiceImpl implements QuadraService {
         validarIntervalosDeHorario(intervalosTemp);
     }
 
-    private void verificarAgendamentosPendentes(IntervaloHorario intervalo) {
+    // Usa o período de cada agendamento (snapshot), o que vale tanto para slots persistidos quanto virtuais
+    private void verificarAgendamentosPendentes(IntervaloHorario intervalo,
+                                                DiaDaSemana diaDaSemana,
+                                                List<OcupacaoHorarioDTO> agendamentosPendentes) {
         ZoneId fusoHorarioBrasilia = ZoneId.of("America/Sao_Paulo");
-        boolean temAgendamentosPendentes = intervalo.getSlotsHorario().stream()
-                .anyMatch(slot -> slot.getAgendamentos().stream()
-                        .anyMatch(agendamento -> {
-                            boolean isPendente = agendamento.getStatus().equals(StatusAgendamento.PENDENTE);
-                            // Usando o fuso correto para todas as verificações de data e hora
-                            boolean isDataFutura = agendamento.getDataAgendamento().isAfter(LocalDate.now(fusoHorarioBrasilia));
-                            boolean isHoje = agendamento.getDataAgendamento().isEqual(LocalDate.now(fusoHorarioBrasilia));
-                            boolean isHorarioFuturo = slot.getHorarioInicio().isAfter(LocalTime.now(fusoHorarioBrasilia));
-
-                            return isPendente && (isDataFutura || (isHoje && isHorarioFuturo));
-                        }));
+        LocalDate hoje = LocalDate.now(fusoHorarioBrasilia);
+        LocalTime agora = LocalTime.now(fusoHorarioBrasilia);
+
+        boolean temAgendamentosPendentes = agendamentosPendentes.stream()
+                .filter(agendamento -> agendamento.getHorarioInicio() != null && agendamento.getHorarioFim() != null)
+                .filter(agendamento -> DiaDaSemana.fromLocalDate(agendamento.getData()) == diaDaSemana)
+                .filter(agendamento -> agendamento.getData().isAfter(hoje) || agendamento.getHorarioInicio().isAfter(agora))
+                .anyMatch(agendamento -> agendamento.getHorarioInicio().isBefore(intervalo.getFim())
+                        && intervalo.getInicio().isBefore(agendamento.getHorarioFim()));
 
         if (temAgendamentosPendentes) {
             throw new IntervaloComAgendamentosException(
@@ -306,8 +341,16 @@ public class QuadraServiceImpl implements QuadraService {
             }
         }
 
-        // Chama o novo método do repositório que faz todo o trabalho pesado.
-        return quadraRepository.findQuadrasByFiltersWithDetails(arenaId, tipoEsporte, pageable);
+        // Só entram na consulta os filtros informados
+        Specification<Quadra> spec = (root, query, builder) -> null;
+        if (arenaId != null) {
+            spec = spec.and(QuadraSpecs.hasArenaId(arenaId));
+        }
+        if (tipoEsporte != null) {
+            spec = spec.and(QuadraSpecs.hasEsporte(tipoEsporte));
+        }
+
+        return quadraRepository.findAllWithDetails(spec, pageable);
     }
 
     private void validarDadosUnicos(String nome) {
@@ -389,6 +432,8 @@ public class QuadraServiceImpl implements QuadraService {
         }
 
         quadraRepository.delete(quadra);
+        eventPublisher.publishEvent(new HorariosQuadraAlteradosEvent(id));
+        eventPublisher.publishEvent(new ArenaAlteradaEvent(arenaId));
     }
 
     @Override
@@ -428,7 +473,14 @@ public class QuadraServiceImpl implements QuadraService {
                 .collect(Collectors.toList());
     }
 
+    // Cache com TTL curto: as escritas invalidam a entrada após o commit e o TTL cobre os horários que vão passando no dia
+    @Cacheable(cacheNames = DisponibilidadeCacheService.CACHE_DISPONIBILIDADE,
+            key = "T(com.engstrategy.alugai_api.service.impl.DisponibilidadeCacheService).chave(#quadraId, #data)")
     public List<SlotHorarioResponseDTO> consultarDisponibilidade(Long quadraId, LocalDate data) {
+        return consultarDisponibilidadeAtual(quadraId, data);
+    }
+
+    public List<SlotHorarioResponseDTO> consultarDisponibilidadeAtual(Long quadraId, LocalDate data) {
         Quadra quadra = quadraRepository.findByIdWithDetails(quadraId)
                 .orElseThrow(() -> new EntityNotFoundException("Quadra não encontrada com ID: " + quadraId));
 
@@ -447,13 +499,7 @@ public class QuadraServiceImpl implements QuadraService {
         }
 
         // Buscar todos os slots do dia específico
-        List<SlotHorario> slotHorarios = horarioFuncionamento.get()
-                .getIntervalosDeHorario()
-                .stream()
-                .flatMap(intervalo -> intervalo.getSlotsHorario().stream())
-                .collect(Collectors.toSet())
-                .stream()
-                .toList();
+        List<SlotHorario> slotHorarios = buscarSlotsDoDia(quadra, diaDaSemana);
 
         // Se não há slots para o dia, retorna lista vazia
         if (slotHorarios.isEmpty()) {
@@ -466,6 +512,22 @@ public class QuadraServiceImpl implements QuadraService {
                 .toList();
     }
 
+    // Slots do dia em ordem de horário (derivados dos intervalos no modo de slots virtuais)
+    private List<SlotHorario> buscarSlotsDoDia(Quadra quadra, DiaDaSemana diaDaSemana) {
+        if (slotHorarioService.isSlotsVirtuais()) {
+            return slotHorarioService.gerarSlotsVirtuais(quadra, diaDaSemana);
+        }
+
+        return quadra.getHorariosFuncionamento()
+                .stream()
+                .filter(h -> h.getDiaDaSemana() == diaDaSemana)
+                .flatMap(h -> h.getIntervalosDeHorario().stream())
+                .flatMap(intervalo -> intervalo.getSlotsHorario().stream())
+                .distinct()
+                .sorted(Comparator.comparing(SlotHorario::getHorarioInicio))
+                .toList();
+    }
+
     private List<SlotHorario> verificarDisponibilidadeSlotsParaData(
             List<SlotHorario> slots,
             LocalDate dataAgendamento,
@@ -478,6 +540,9 @@ public class QuadraServiceImpl implements QuadraService {
 
         boolean isDataAtual = dataAgendamento.equals(dataAtual);
 
+        // Ocupação do dia vinda do índice em memória (consulta o banco apenas na primeira vez)
+        OcupacaoQuadraService.OcupacaoDia ocupacao = ocupacaoQuadraService.buscarOcupacao(quadraId, dataAgendamento);
+
         for (SlotHorario slot : slots) {
             // 1. Verificar se o slot está fisicamente disponível
             if (slot.getStatusDisponibilidade() == StatusDisponibilidade.MANUTENCAO ||
@@ -490,12 +555,7 @@ public class QuadraServiceImpl implements QuadraService {
             }
 
             // 2. Verificar se já existe agendamento para este slot na data específica
-            boolean jaAgendado = agendamentoRepository.existeConflito(
-                    dataAgendamento,
-                    quadraId,
-                    slot.getHorarioInicio(),
-                    slot.getHorarioFim()
-            );
+            boolean jaAgendado = ocupacao.estaOcupado(slot.getHorarioInicio(), slot.getHorarioFim());
 
             if (!jaAgendado) {
                 slotsDisponiveis.add(slot);
@@ -504,4 +564,202 @@ public class QuadraServiceImpl implements QuadraService {
 
         return slotsDisponiveis;
     }
-}
\ No newline at end of file
+
+    @Override
+    public GradeDisponibilidadeResponseDTO consultarGradeDisponibilidade(UUID arenaId, LocalDate dataInicio, LocalDate dataFim) {
+        if (dataFim.isBefore(dataInicio)) {
+            throw new IllegalArgumentException("A data final deve ser igual ou posterior à data inicial.");
+        }
+
+        if (ChronoUnit.DAYS.between(dataInicio, dataFim) >= MAX_DIAS_GRADE) {
+            throw new IllegalArgumentException("O período da grade não pode ultrapassar " + MAX_DIAS_GRADE + " dias.");
+        }
+
+        List<Quadra> quadras = quadraRepository.findByArenaIdWithDetails(arenaId);
+
+        return GradeDisponibilidadeResponseDTO.builder()
+                .arenaId(arenaId)
+                .dataInicio(dataInicio)
+                .dataFim(dataFim)
+                .quadras(montarGrade(quadras, dataInicio, dataFim))
+                .build();
+    }
+
+    @Override
+    public List<HorarioDisponivelProximoDTO> buscarHorariosDisponiveisProximos(TipoEsporte esporte,
+                                                                             Double latitude,
+                                                                             Double longitude,
+                                                                             Double raioKm,
+                                                                             LocalDate data,
+                                                                             LocalTime horarioInicio,
+                                                                             LocalTime horarioFim,
+                                                                             int limite) {
+        if (raioKm == null || raioKm <= 0 || raioKm > MAX_RAIO_BUSCA_KM) {
+            throw new IllegalArgumentException("O raio de busca deve estar entre 0 e " + MAX_RAIO_BUSCA_KM + " km.");
+        }
+
+        if (!horarioFim.isAfter(horarioInicio) && !horarioFim.equals(LocalTime.MIDNIGHT)) {
+            throw new IllegalArgumentException("O horário final deve ser posterior ao horário inicial.");
+        }
+
+        ZoneId fusoHorarioBrasilia = ZoneId.of("America/Sao_Paulo");
+        LocalDate dataAtual = LocalDate.now(fusoHorarioBrasilia);
+        LocalTime horaAtual = LocalTime.now(fusoHorarioBrasilia);
+
+        if (data.isBefore(dataAtual)) {
+            throw new IllegalArgumentException("Não é possível buscar horários para datas passadas.");
+        }
+
+        // 1. Arenas dentro do raio, já ordenadas por distância
+        Map<UUID, Double> distancias = new LinkedHashMap<>();
+        for (Object[] linha : arenaRepository.findIdsAndDistanceByProximity(latitude, longitude, raioKm, MAX_ARENAS_BUSCA)) {
+            distancias.put((UUID) linha[0], ((Number) linha[1]).doubleValue());
+        }
+        if (distancias.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 2. Quadras dessas arenas que atendem o esporte
+        List<Quadra> quadras = quadraRepository.findByArenaIdsAndEsporteWithSlots(distancias.keySet(), esporte);
+        if (quadras.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 3. Ocupação de todas as quadras na data, em uma única consulta
+        Map<Long, List<OcupacaoHorarioDTO>> ocupacoes = ocupacaoQuadraService
+                .buscarHorariosOcupadosNoPeriodo(quadras.stream().map(Quadra::getId).toList(), data, data)
+                .stream()
+                .collect(Collectors.groupingBy(OcupacaoHorarioDTO::getQuadraId));
+
+        DiaDaSemana diaDaSemana = DiaDaSemana.fromLocalDate(data);
+        boolean isDataAtual = data.equals(dataAtual);
+        int inicioJanela = OcupacaoQuadraService.minutoInicio(horarioInicio);
+        int fimJanela = OcupacaoQuadraService.minutoFim(horarioInicio, horarioFim);
+
+        // 4. Primeiro slot livre de cada quadra dentro da janela
+        List<HorarioDisponivelProximoDTO> resultado = new ArrayList<>();
+        for (Quadra quadra : quadras) {
+            OcupacaoQuadraService.OcupacaoDia ocupacao = OcupacaoQuadraService.montarOcupacao(
+                    ocupacoes.getOrDefault(quadra.getId(), List.of()));
+
+            buscarSlotsDoDia(quadra, diaDaSemana).stream()
+                    .filter(slot -> slot.getStatusDisponibilidade() == StatusDisponibilidade.DISPONIVEL)
+                    .filter(slot -> OcupacaoQuadraService.minutoInicio(slot.getHorarioInicio()) >= inicioJanela
+                            && OcupacaoQuadraService.minutoFim(slot.getHorarioInicio(), slot.getHorarioFim()) <= fimJanela)
+                    .filter(slot -> !isDataAtual || !slot.getHorarioInicio().isBefore(horaAtual))
+                    .filter(slot -> !ocupacao.estaOcupado(slot.getHorarioInicio(), slot.getHorarioFim()))
+                    .findFirst()
+                    .ifPresent(slot -> resultado.add(HorarioDisponivelProximoDTO.builder()
+                            .arenaId(quadra.getArena().getId())
+                            .nomeArena(quadra.getArena().getNome())
+                            .quadraId(quadra.getId())
+                            .nomeQuadra(quadra.getNomeQuadra())
+                            .distanciaKm(distancias.get(quadra.getArena().getId()))
+                            .data(data)
+                            .horarioInicio(slot.getHorarioInicio())
+                            .horarioFim(slot.getHorarioFim())
+                            .valor(slot.getValor())
+                            .build()));
+        }
+
+        return resultado.stream()
+                .sorted(Comparator.comparing(HorarioDisponivelProximoDTO::getDistanciaKm)
+                        .thenComparing(HorarioDisponivelProximoDTO::getHorarioInicio))
+                .limit(Math.max(1, Math.min(limite, MAX_RESULTADOS_BUSCA)))
+                .toList();
+    }
+
+    /**
+     * Monta a grade de disponibilidade das quadras em uma única passada pelos horários de funcionamento,
+     * com uma única consulta de agendamentos para todas as quadras e dias do período.
+     */
+    private List<GradeQuadraDTO> montarGrade(List<Quadra> quadras, LocalDate dataInicio, LocalDate dataFim) {
+        if (quadras.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> quadraIds = quadras.stream().map(Quadra::getId).toList();
+
+        // quadraId -> data -> horários ocupados
+        Map<Long, Map<LocalDate, List<OcupacaoHorarioDTO>>> ocupacoes = ocupacaoQuadraService
+                .buscarHorariosOcupadosNoPeriodo(quadraIds, dataInicio, dataFim)
+                .stream()
+                .collect(Collectors.groupingBy(OcupacaoHorarioDTO::getQuadraId,
+                        Collectors.groupingBy(OcupacaoHorarioDTO::getData)));
+
+        ZoneId fusoHorarioBrasilia = ZoneId.of("America/Sao_Paulo");
+        LocalDate dataAtual = LocalDate.now(fusoHorarioBrasilia);
+        LocalTime horaAtual = LocalTime.now(fusoHorarioBrasilia);
+
+        List<GradeQuadraDTO> grade = new ArrayList<>();
+
+        for (Quadra quadra : quadras) {
+            Map<DiaDaSemana, List<SlotHorario>> slotsPorDia = montarSlotsPorDiaDaSemana(quadra);
+            Map<LocalDate, List<OcupacaoHorarioDTO>> ocupacoesDaQuadra = ocupacoes.getOrDefault(quadra.getId(), Map.of());
+
+            List<GradeDiaDTO> dias = new ArrayList<>();
+            for (LocalDate data = dataInicio; !data.isAfter(dataFim); data = data.plusDays(1)) {
+                List<SlotHorario> slots = slotsPorDia.getOrDefault(DiaDaSemana.fromLocalDate(data), List.of());
+                OcupacaoQuadraService.OcupacaoDia ocupacao = OcupacaoQuadraService.montarOcupacao(
+                        ocupacoesDaQuadra.getOrDefault(data, List.of()));
+
+                long livres = 0L;
+                long ocupados = 0L;
+                long manutencao = 0L;
+
+                for (int i = 0; i < slots.size() && i < Long.SIZE; i++) {
+                    SlotHorario slot = slots.get(i);
+                    long bit = 1L << i;
+
+                    boolean passou = data.isBefore(dataAtual)
+                            || (data.equals(dataAtual) && slot.getHorarioInicio().isBefore(horaAtual));
+
+                    if (ocupacao.estaOcupado(slot.getHorarioInicio(), slot.getHorarioFim())) {
+                        ocupados |= bit;
+                    } else if (slot.getStatusDisponibilidade() != StatusDisponibilidade.DISPONIVEL) {
+                        manutencao |= bit;
+                    } else if (!passou) {
+                        livres |= bit;
+                    }
+                }
+
+                dias.add(GradeDiaDTO.builder()
+                        .data(data)
+                        .livres(livres)
+                        .ocupados(ocupados)
+                        .manutencao(manutencao)
+                        .build());
+            }
+
+            Map<DiaDaSemana, List<GradeSlotDTO>> slotsPorDiaDTO = new EnumMap<>(DiaDaSemana.class);
+            slotsPorDia.forEach((dia, slots) -> slotsPorDiaDTO.put(dia, slots.stream()
+                    .map(slot -> GradeSlotDTO.builder()
+                            .horarioInicio(slot.getHorarioInicio())
+                            .horarioFim(slot.getHorarioFim())
+                            .valor(slot.getValor())
+                            .build())
+                    .toList()));
+
+            grade.add(GradeQuadraDTO.builder()
+                    .quadraId(quadra.getId())
+                    .nomeQuadra(quadra.getNomeQuadra())
+                    .duracaoMinutos(quadra.getDuracaoReserva().getMinutos())
+                    .slotsPorDiaDaSemana(slotsPorDiaDTO)
+                    .dias(dias)
+                    .build());
+        }
+
+        return grade;
+    }
+
+    // Slots de cada dia da semana derivados dos intervalos e da duração da reserva, em ordem de horário
+    private Map<DiaDaSemana, List<SlotHorario>> montarSlotsPorDiaDaSemana(Quadra quadra) {
+        Map<DiaDaSemana, List<SlotHorario>> slotsPorDia = new EnumMap<>(DiaDaSemana.class);
+
+        for (HorarioFuncionamento horario : quadra.getHorariosFuncionamento()) {
+            slotsPorDia.put(horario.getDiaDaSemana(), slotHorarioService.gerarSlotsVirtuais(quadra, horario.getDiaDaSemana()));
+        }
+
+        return slotsPorDia;
+    }
+}
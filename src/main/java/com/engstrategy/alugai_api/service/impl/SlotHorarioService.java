@@ -1,20 +1,24 @@
 package com.engstrategy.alugai_api.service.impl;
 
+import com.engstrategy.alugai_api.model.HorarioFuncionamento;
 import com.engstrategy.alugai_api.model.IntervaloHorario;
 import com.engstrategy.alugai_api.model.Quadra;
 import com.engstrategy.alugai_api.model.SlotHorario;
+import com.engstrategy.alugai_api.model.enums.DiaDaSemana;
 import com.engstrategy.alugai_api.model.enums.DuracaoReserva;
 import com.engstrategy.alugai_api.model.enums.StatusAgendamento;
 import com.engstrategy.alugai_api.model.enums.StatusDisponibilidade;
 import com.engstrategy.alugai_api.model.enums.StatusIntervalo;
 import com.engstrategy.alugai_api.repository.SlotHorarioRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 
@@ -25,6 +29,13 @@ public class SlotHorarioService {
 
     private final SlotHorarioRepository slotHorarioRepository;
 
+    @Value("${arenahub.slots.virtuais:false}")
+    private boolean slotsVirtuais;
+
+    public boolean isSlotsVirtuais() {
+        return slotsVirtuais;
+    }
+
     // Gera slots de horário para um intervalo específico baseado na duração da reserva
     public List<SlotHorario> gerarSlotsParaIntervalo(IntervaloHorario intervaloHorario, DuracaoReserva duracaoReserva) {
         List<SlotHorario> slots = new ArrayList<>();
@@ -71,6 +82,11 @@ public class SlotHorarioService {
     }
 
     public void gerarSlotsParaQuadra(Quadra quadra) {
+        // No modo de slots virtuais nenhum slot é persistido
+        if (slotsVirtuais) {
+            return;
+        }
+
         quadra.getHorariosFuncionamento().forEach(horarioFuncionamento -> {
             horarioFuncionamento.getIntervalosDeHorario().forEach(intervalo -> {
                 List<SlotHorario> slots = gerarSlotsParaIntervalo(intervalo, quadra.getDuracaoReserva());
@@ -79,11 +95,56 @@ public class SlotHorarioService {
         });
     }
 
+    // Slots de um dia da semana derivados dos intervalos da quadra, sem persistir, em ordem de horário
+    public List<SlotHorario> gerarSlotsVirtuais(Quadra quadra, DiaDaSemana diaDaSemana) {
+        return quadra.getHorariosFuncionamento().stream()
+                .filter(horario -> horario.getDiaDaSemana() == diaDaSemana)
+                .map(HorarioFuncionamento::getIntervalosDeHorario)
+                .flatMap(intervalos -> intervalos.stream()
+                        .flatMap(intervalo -> gerarSlotsParaIntervalo(intervalo, quadra.getDuracaoReserva()).stream()))
+                .sorted(Comparator.comparing(SlotHorario::getHorarioInicio))
+                .toList();
+    }
+
+    /**
+     * Resolve o período [inicio, fim) em slots virtuais subsequentes da quadra na data.
+     * O período deve começar no início de um slot e terminar no fim de um slot, sem lacunas.
+     */
+    public List<SlotHorario> resolverSlotsVirtuais(Quadra quadra, LocalDate data, LocalTime inicio, LocalTime fim) {
+        if (inicio == null || fim == null) {
+            throw new IllegalArgumentException("Devem ser informados o horário de início e de fim do agendamento");
+        }
+
+        List<SlotHorario> slotsDoDia = gerarSlotsVirtuais(quadra, DiaDaSemana.fromLocalDate(data));
+        List<SlotHorario> selecionados = new ArrayList<>();
+
+        LocalTime esperado = inicio;
+        for (SlotHorario slot : slotsDoDia) {
+            if (slot.getHorarioInicio().equals(esperado)) {
+                selecionados.add(slot);
+                esperado = slot.getHorarioFim();
+                if (esperado.equals(fim)) {
+                    return selecionados;
+                }
+            }
+        }
+
+        throw new IllegalArgumentException(
+                String.format("O período %s às %s não corresponde a horários subsequentes da quadra", inicio, fim));
+    }
+
     // Verifica se os slots são subsequentes (para validação de agendamento)
     public boolean saoSlotsSubsequentes(List<Long> slotIds) {
         if (slotIds.size() <= 1) return true;
 
-        List<SlotHorario> slots = slotHorarioRepository.findAllById(slotIds);
+        return saoSlotsSubsequentes(slotHorarioRepository.findAllById(slotIds));
+    }
+
+    // Mesma verificação sobre slots já carregados
+    public boolean saoSlotsSubsequentes(Collection<SlotHorario> slotsCarregados) {
+        if (slotsCarregados.size() <= 1) return true;
+
+        List<SlotHorario> slots = new ArrayList<>(slotsCarregados);
         slots.sort(Comparator.comparing(SlotHorario::getHorarioInicio));
 
         for (int i = 0; i < slots.size() - 1; i++) {
@@ -1,6 +1,7 @@
 package com.engstrategy.alugai_api.service.impl;
 
 import com.engstrategy.alugai_api.dto.subscription.AssinaturaDetalhesDTO;
+import com.engstrategy.alugai_api.event.ArenaAlteradaEvent;
 import com.engstrategy.alugai_api.jwt.CustomUserDetails;
 import com.engstrategy.alugai_api.model.Agendamento;
 import com.engstrategy.alugai_api.model.Arena;
@@ -21,6 +22,7 @@ import com.stripe.param.SubscriptionListParams;
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.engstrategy.alugai_api.model.enums.StatusAssinatura;
@@ -52,6 +54,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
     private final ArenaRepository arenaRepository;
     private final AgendamentoRepository agendamentoRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PostConstruct
     public void init() {
@@ -276,6 +279,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
 
         arena.setStatusAssinatura(StatusAssinatura.ATIVA);
         arenaRepository.save(arena);
+        eventPublisher.publishEvent(new ArenaAlteradaEvent(arena.getId()));
         log.info("Assinatura da Arena ID {} (Stripe ID {}) atualizada para ATIVA.", arena.getId(), customerId);
     }
 
@@ -0,0 +1,35 @@
+package com.engstrategy.alugai_api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição (data, horário de início, id) do último agendamento de uma página por cursor.
+ * O cliente recebe e devolve o token sem interpretá-lo.
+ */
+public record CursorAgendamento(LocalDate data, LocalTime horarioInicio, Long id) {
+
+    private static final String SEPARADOR = "|";
+
+    public String codificar() {
+        String valor = data + SEPARADOR + (horarioInicio != null ? horarioInicio : "") + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorAgendamento decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] partes = valor.split("\\|", -1);
+            if (partes.length != 3) {
+                throw new IllegalArgumentException("Cursor inválido.");
+            }
+            LocalTime horarioInicio = partes[1].isEmpty() ? null : LocalTime.parse(partes[1]);
+            return new CursorAgendamento(LocalDate.parse(partes[0]), horarioInicio, Long.valueOf(partes[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.engstrategy.alugai_api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice espacial em memória: a superfície é dividida em células de uma grade de latitude/longitude
+ * (buckets no estilo geohash) e cada célula guarda as coordenadas dos seus itens em arrays primitivos.
+ * Uma busca por raio só visita as células do retângulo que envolve o círculo e calcula a distância
+ * apenas dos itens dessas células.
+ * As escritas são incrementais e serializadas; cada célula alterada é substituída por uma cópia,
+ * de modo que as leituras não precisam de lock.
+ */
+public class IndiceGeografico<K> {
+
+    // Mesmo raio do earth() do earthdistance, usado pelas consultas por proximidade no banco
+    private static final double RAIO_TERRA_KM = 6378.168;
+    private static final double KM_POR_GRAU = Math.PI * RAIO_TERRA_KM / 180;
+
+    private final double tamanhoCelula;
+    private final Map<Long, Celula> celulas = new ConcurrentHashMap<>();
+    private final Map<K, Long> celulaPorChave = new ConcurrentHashMap<>();
+
+    public IndiceGeografico(double tamanhoCelulaGraus) {
+        this.tamanhoCelula = tamanhoCelulaGraus;
+    }
+
+    public record Ponto<K>(K chave, double latitude, double longitude) {
+    }
+
+    public record Proximo<K>(K chave, double distanciaKm) {
+    }
+
+    /**
+     * Insere o item ou move-o para a nova coordenada.
+     */
+    public synchronized void atualizar(K chave, double latitude, double longitude) {
+        remover(chave);
+        long celula = celula(latitude, longitude);
+        celulas.compute(celula, (c, atual) -> (atual != null ? atual : Celula.VAZIA).com(chave, latitude, longitude));
+        celulaPorChave.put(chave, celula);
+    }
+
+    public synchronized void remover(K chave) {
+        Long celula = celulaPorChave.remove(chave);
+        if (celula != null) {
+            celulas.computeIfPresent(celula, (c, atual) -> atual.sem(chave));
+        }
+    }
+
+    /**
+     * Troca todo o conteúdo do índice pelos pontos informados.
+     */
+    public synchronized void substituir(Collection<Ponto<K>> pontos) {
+        Map<Long, List<Ponto<K>>> agrupados = new HashMap<>();
+        for (Ponto<K> ponto : pontos) {
+            agrupados.computeIfAbsent(celula(ponto.latitude(), ponto.longitude()), c -> new ArrayList<>()).add(ponto);
+        }
+
+        celulas.keySet().retainAll(agrupados.keySet());
+        celulaPorChave.clear();
+        agrupados.forEach((celula, itens) -> {
+            celulas.put(celula, Celula.de(itens));
+            itens.forEach(ponto -> celulaPorChave.put(ponto.chave(), celula));
+        });
+    }
+
+    public int tamanho() {
+        return celulaPorChave.size();
+    }
+
+    /**
+     * Itens a até raioKm da origem, do mais próximo para o mais distante.
+     */
+    public List<Proximo<K>> buscarNoRaio(double latitude, double longitude, double raioKm) {
+        double deltaLatitude = raioKm / KM_POR_GRAU;
+        double latitudeMinima = Math.max(-90, latitude - deltaLatitude);
+        double latitudeMaxima = Math.min(90, latitude + deltaLatitude);
+
+        // O grau de longitude encolhe com o cosseno da latitude; perto dos polos o retângulo cobre todas as longitudes
+        double cosseno = Math.cos(Math.toRadians(Math.max(Math.abs(latitudeMinima), Math.abs(latitudeMaxima))));
+        double deltaLongitude = cosseno > 1e-6 ? raioKm / (KM_POR_GRAU * cosseno) : 180;
+        double longitudeMinima = Math.max(-180, longitude - deltaLongitude);
+        double longitudeMaxima = Math.min(180, longitude + deltaLongitude);
+
+        long linhaMinima = indice(latitudeMinima);
+        long linhaMaxima = indice(latitudeMaxima);
+        long colunaMinima = indice(longitudeMinima);
+        long colunaMaxima = indice(longitudeMaxima);
+
+        List<Proximo<K>> proximos = new ArrayList<>();
+        long celulasDoRetangulo = (linhaMaxima - linhaMinima + 1) * (colunaMaxima - colunaMinima + 1);
+        if (celulasDoRetangulo > celulas.size()) {
+            // Raio grande: sai mais barato percorrer as células ocupadas
+            celulas.values().forEach(celula -> coletar(celula, latitude, longitude, raioKm, proximos));
+        } else {
+            for (long linha = linhaMinima; linha <= linhaMaxima; linha++) {
+                for (long coluna = colunaMinima; coluna <= colunaMaxima; coluna++) {
+                    Celula celula = celulas.get(chave(linha, coluna));
+                    if (celula != null) {
+                        coletar(celula, latitude, longitude, raioKm, proximos);
+                    }
+                }
+            }
+        }
+
+        proximos.sort(Comparator.comparingDouble(Proximo::distanciaKm));
+        return proximos;
+    }
+
+    /**
+     * Itens dentro do retângulo de latitude/longitude (bordas inclusas), sem ordem definida.
+     */
+    public List<Ponto<K>> buscarNoRetangulo(double latitudeMinima, double longitudeMinima,
+                                            double latitudeMaxima, double longitudeMaxima) {
+        long linhaMinima = indice(latitudeMinima);
+        long linhaMaxima = indice(latitudeMaxima);
+        long colunaMinima = indice(longitudeMinima);
+        long colunaMaxima = indice(longitudeMaxima);
+
+        List<Ponto<K>> pontos = new ArrayList<>();
+        long celulasDoRetangulo = (linhaMaxima - linhaMinima + 1) * (colunaMaxima - colunaMinima + 1);
+        if (celulasDoRetangulo > celulas.size()) {
+            celulas.values().forEach(celula ->
+                    coletar(celula, latitudeMinima, longitudeMinima, latitudeMaxima, longitudeMaxima, pontos));
+        } else {
+            for (long linha = linhaMinima; linha <= linhaMaxima; linha++) {
+                for (long coluna = colunaMinima; coluna <= colunaMaxima; coluna++) {
+                    Celula celula = celulas.get(chave(linha, coluna));
+                    if (celula != null) {
+                        coletar(celula, latitudeMinima, longitudeMinima, latitudeMaxima, longitudeMaxima, pontos);
+                    }
+                }
+            }
+        }
+        return pontos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void coletar(Celula celula, double latitude, double longitude, double raioKm, List<Proximo<K>> destino) {
+        for (int i = 0; i < celula.chaves.length; i++) {
+            double distancia = distanciaKm(latitude, longitude, celula.latitudes[i], celula.longitudes[i]);
+            if (distancia < raioKm) {
+                destino.add(new Proximo<>((K) celula.chaves[i], distancia));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void coletar(Celula celula, double latitudeMinima, double longitudeMinima,
+                         double latitudeMaxima, double longitudeMaxima, List<Ponto<K>> destino) {
+        for (int i = 0; i < celula.chaves.length; i++) {
+            double latitude = celula.latitudes[i];
+            double longitude = celula.longitudes[i];
+            if (latitude >= latitudeMinima && latitude <= latitudeMaxima
+                    && longitude >= longitudeMinima && longitude <= longitudeMaxima) {
+                destino.add(new Ponto<>((K) celula.chaves[i], latitude, longitude));
+            }
+        }
+    }
+
+    // Haversine sobre a esfera de RAIO_TERRA_KM; acompanha o earth_distance do banco
+    public static double distanciaKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.pow(Math.sin(deltaLatitude / 2), 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.pow(Math.sin(deltaLongitude / 2), 2);
+        return 2 * RAIO_TERRA_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private long celula(double latitude, double longitude) {
+        return chave(indice(latitude), indice(longitude));
+    }
+
+    private long indice(double grau) {
+        return (long) Math.floor(grau / tamanhoCelula);
+    }
+
+    private static long chave(long linha, long coluna) {
+        return (linha << 32) ^ (coluna & 0xffffffffL);
+    }
+
+    // Imutável: escritas criam uma nova célula
+    private static final class Celula {
+
+        private static final Celula VAZIA = new Celula(new Object[0], new double[0], new double[0]);
+
+        private final Object[] chaves;
+        private final double[] latitudes;
+        private final double[] longitudes;
+
+        private Celula(Object[] chaves, double[] latitudes, double[] longitudes) {
+            this.chaves = chaves;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+        }
+
+        private static Celula de(List<? extends Ponto<?>> pontos) {
+            Object[] chaves = new Object[pontos.size()];
+            double[] latitudes = new double[pontos.size()];
+            double[] longitudes = new double[pontos.size()];
+            for (int i = 0; i < pontos.size(); i++) {
+                chaves[i] = pontos.get(i).chave();
+                latitudes[i] = pontos.get(i).latitude();
+                longitudes[i] = pontos.get(i).longitude();
+            }
+            return new Celula(chaves, latitudes, longitudes);
+        }
+
+        private Celula com(Object chave, double latitude, double longitude) {
+            int tamanho = chaves.length;
+            Object[] novasChaves = Arrays.copyOf(chaves, tamanho + 1);
+            double[] novasLatitudes = Arrays.copyOf(latitudes, tamanho + 1);
+            double[] novasLongitudes = Arrays.copyOf(longitudes, tamanho + 1);
+            novasChaves[tamanho] = chave;
+            novasLatitudes[tamanho] = latitude;
+            novasLongitudes[tamanho] = longitude;
+            return new Celula(novasChaves, novasLatitudes, novasLongitudes);
+        }
+
+        // Devolve null quando a célula fica vazia, o que a remove do mapa
+        private Celula sem(Object chave) {
+            int posicao = -1;
+            for (int i = 0; i < chaves.length; i++) {
+                if (chaves[i].equals(chave)) {
+                    posicao = i;
+                    break;
+                }
+            }
+            if (posicao < 0) {
+                return this;
+            }
+            if (chaves.length == 1) {
+                return null;
+            }
+
+            int tamanho = chaves.length - 1;
+            Object[] novasChaves = new Object[tamanho];
+            double[] novasLatitudes = new double[tamanho];
+            double[] novasLongitudes = new double[tamanho];
+            for (int i = 0, j = 0; i < chaves.length; i++) {
+                if (i != posicao) {
+                    novasChaves[j] = chaves[i];
+                    novasLatitudes[j] = latitudes[i];
+                    novasLongitudes[j] = longitudes[i];
+                    j++;
+                }
+            }
+            return new Celula(novasChaves, novasLatitudes, novasLongitudes);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.engstrategy.alugai_api.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timer wheel hierárquico: cada nível tem 64 posições e cada posição de um nível cobre
+ * 64 vezes o intervalo do nível abaixo. Com 3 níveis e tick de 1 segundo, prazos até ~3 dias
+ * são agendados e cancelados em O(1); prazos maiores ficam no último nível e são reagendados
+ * quando a sua posição é alcançada.
+ * Os itens que vencem em um tick são devolvidos por {@link #avancar(long)}. Thread-safe.
+ */
+public class TimerWheel<T> {
+
+    private static final int BITS_POR_NIVEL = 6;
+    private static final int POSICOES = 1 << BITS_POR_NIVEL;
+    private static final int MASCARA = POSICOES - 1;
+    private static final int NIVEIS = 3;
+
+    private final long tickMs;
+    private final List<List<ArrayDeque<Entrada<T>>>> niveis = new ArrayList<>(NIVEIS);
+    private final Map<T, Entrada<T>> entradas = new HashMap<>();
+
+    // Tick corrente (tempo / tickMs); tudo até ele já foi processado
+    private long tickAtual;
+
+    public TimerWheel(long tickMs, long agoraMs) {
+        this.tickMs = tickMs;
+        this.tickAtual = agoraMs / tickMs;
+        for (int nivel = 0; nivel < NIVEIS; nivel++) {
+            List<ArrayDeque<Entrada<T>>> posicoes = new ArrayList<>(POSICOES);
+            for (int i = 0; i < POSICOES; i++) {
+                posicoes.add(new ArrayDeque<>());
+            }
+            niveis.add(posicoes);
+        }
+    }
+
+    /**
+     * Agenda (ou reagenda) o item para vencer no instante informado.
+     */
+    public synchronized void agendar(T item, long prazoMs) {
+        Entrada<T> anterior = entradas.remove(item);
+        if (anterior != null) {
+            anterior.cancelada = true;
+        }
+        Entrada<T> entrada = new Entrada<>(item, Math.max((prazoMs + tickMs - 1) / tickMs, tickAtual + 1));
+        entradas.put(item, entrada);
+        inserir(entrada);
+    }
+
+    public synchronized void cancelar(T item) {
+        Entrada<T> entrada = entradas.remove(item);
+        if (entrada != null) {
+            entrada.cancelada = true;
+        }
+    }
+
+    public synchronized int tamanho() {
+        return entradas.size();
+    }
+
+    /**
+     * Avança até o instante informado e devolve os itens cujo prazo venceu.
+     */
+    public synchronized List<T> avancar(long agoraMs) {
+        List<T> vencidos = new ArrayList<>();
+        long alvo = agoraMs / tickMs;
+
+        while (tickAtual < alvo) {
+            tickAtual++;
+
+            // Ao completar uma volta de um nível, redistribui a posição correspondente do nível acima
+            for (int nivel = 1; nivel < NIVEIS && (tickAtual & ((1L << (BITS_POR_NIVEL * nivel)) - 1)) == 0; nivel++) {
+                ArrayDeque<Entrada<T>> posicao = niveis.get(nivel).get(indice(tickAtual, nivel));
+                List<Entrada<T>> redistribuir = new ArrayList<>(posicao);
+                posicao.clear();
+                redistribuir.forEach(this::inserir);
+            }
+
+            ArrayDeque<Entrada<T>> posicao = niveis.get(0).get(indice(tickAtual, 0));
+            while (!posicao.isEmpty()) {
+                Entrada<T> entrada = posicao.poll();
+                if (entrada.cancelada) {
+                    continue;
+                }
+                if (entrada.prazoTick > tickAtual) {
+                    inserir(entrada);
+                    continue;
+                }
+                entradas.remove(entrada.item);
+                vencidos.add(entrada.item);
+            }
+        }
+
+        return vencidos;
+    }
+
+    private void inserir(Entrada<T> entrada) {
+        if (entrada.cancelada) {
+            return;
+        }
+        // Um prazo já alcançado vai para a posição do tick corrente, que ainda será processada neste tick
+        long prazo = Math.max(entrada.prazoTick, tickAtual);
+        long distancia = prazo - tickAtual;
+
+        int nivel = 0;
+        while (nivel < NIVEIS - 1 && distancia >= (1L << (BITS_POR_NIVEL * (nivel + 1)))) {
+            nivel++;
+        }
+        niveis.get(nivel).get(indice(prazo, nivel)).add(entrada);
+    }
+
+    private static int indice(long tick, int nivel) {
+        return (int) ((tick >>> (BITS_POR_NIVEL * nivel)) & MASCARA);
+    }
+
+    private static final class Entrada<T> {
+
+        private final T item;
+        private final long prazoTick;
+        private boolean cancelada;
+
+        private Entrada(T item, long prazoTick) {
+            this.item = item;
+            this.prazoTick = prazoTick;
+        }
+    }
+}
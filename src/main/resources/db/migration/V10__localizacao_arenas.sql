@@ -0,0 +1,8 @@
+-- Buscas por proximidade (ll_to_earth, earth_box, earth_distance) dependem do earthdistance;
+-- sem as extensões a migration falha em vez de a aplicação subir com as consultas quebradas.
+
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+
+-- Localização das arenas como ponto do earthdistance: atende o earth_box @> das buscas por proximidade
+CREATE INDEX IF NOT EXISTS idx_arena_localizacao ON arena USING gist (ll_to_earth(latitude, longitude));
@@ -0,0 +1,239 @@
+-- Esquema existente antes do versionamento, como gerado pelo Hibernate a partir das entidades.
+-- Bancos que já possuem estas tabelas são marcados nesta versão (baseline-on-migrate) e seguem a partir da V2.
+
+CREATE TABLE agendamento
+(
+    avaliacao_dispensada boolean,
+    data_agendamento date,
+    horario_fim_snapshot time(6),
+    horario_inicio_snapshot time(6),
+    is_fixo boolean not null,
+    is_publico boolean not null,
+    vagas_disponiveis integer,
+    valor_total_snapshot numeric(38,2),
+    agendamento_fixo_id bigint,
+    data_snapshot timestamp(6),
+    id bigint generated by default as identity,
+    quadra_id bigint not null,
+    atleta_id uuid not null,
+    asaas_payment_id varchar(255),
+    esporte varchar(255) check (esporte in ('FUTEBOL_SOCIETY','FUTEBOL_SETE','FUTEBOL_ONZE','FUTSAL','FUTEBOL_AREIA','BEACHTENNIS','VOLEI','FUTEVOLEI','BASQUETE','HANDEBOL')),
+    periodo_agendamento_fixo varchar(255) check (periodo_agendamento_fixo in ('UM_MES','TRES_MESES','SEIS_MESES')),
+    status varchar(255) check (status in ('PENDENTE','AUSENTE','CANCELADO','PAGO','FINALIZADO','AGUARDANDO_PAGAMENTO')),
+    primary key (id)
+);
+
+CREATE TABLE agendamento_participantes
+(
+    agendamento_id bigint not null,
+    atleta_id uuid not null,
+    primary key (agendamento_id, atleta_id)
+);
+
+CREATE TABLE agendamento_slot_horario
+(
+    agendamento_id bigint not null,
+    slot_horario_id bigint not null,
+    primary key (agendamento_id, slot_horario_id)
+);
+
+CREATE TABLE agendamento_fixo
+(
+    data_fim date,
+    data_inicio date,
+    data_criacao timestamp(6),
+    id bigint generated by default as identity,
+    atleta_id uuid not null,
+    periodo varchar(255) check (periodo in ('UM_MES','TRES_MESES','SEIS_MESES')),
+    status varchar(255) check (status in ('ATIVO','CANCELADO','SUSPENSO')),
+    primary key (id)
+);
+
+CREATE TABLE arena
+(
+    ativo boolean not null,
+    estado varchar(2) not null,
+    horas_cancelar_agendamento integer,
+    latitude float(53) not null,
+    longitude float(53) not null,
+    data_criacao timestamp(6),
+    cep varchar(9) not null,
+    id uuid not null,
+    numero varchar(20) not null,
+    bairro varchar(100) not null,
+    cidade varchar(100) not null,
+    complemento varchar(100),
+    rua varchar(100) not null,
+    cnpj varchar(255) unique,
+    cpf_cnpj varchar(255) unique,
+    cpf_proprietario varchar(255) not null unique,
+    descricao varchar(255),
+    email varchar(255) unique,
+    nome varchar(255) not null,
+    role varchar(255) not null check (role in ('ATLETA','ARENA')),
+    senha varchar(255),
+    status_assinatura varchar(255) check (status_assinatura in ('INATIVA','ATIVA','ATRASADA','CANCELADA')),
+    stripe_customer_id varchar(255),
+    telefone varchar(255) not null unique,
+    url_foto varchar(255),
+    primary key (id)
+);
+
+CREATE TABLE atleta
+(
+    ativo boolean not null,
+    data_criacao timestamp(6),
+    id uuid not null,
+    cpf_cnpj varchar(255) unique,
+    email varchar(255) unique,
+    nome varchar(255) not null,
+    role varchar(255) not null check (role in ('ATLETA','ARENA')),
+    senha varchar(255),
+    telefone varchar(255) not null unique,
+    tipo_conta varchar(255) not null check (tipo_conta in ('COMPLETO','EXTERNO')),
+    url_foto varchar(255),
+    primary key (id)
+);
+
+CREATE TABLE avaliacao
+(
+    nota integer not null,
+    agendamento_id bigint not null unique,
+    data_avaliacao timestamp(6) not null,
+    id bigint generated by default as identity,
+    atleta_id uuid not null,
+    comentario oid,
+    primary key (id)
+);
+
+CREATE TABLE codigo_reset_senha
+(
+    resend_count integer not null,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    last_resend_at timestamp(6),
+    code varchar(255) not null,
+    email varchar(255) not null,
+    primary key (id)
+);
+
+CREATE TABLE codigo_verificacao
+(
+    resend_count integer not null,
+    confirmed_at timestamp(6),
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    last_resend_at timestamp(6),
+    code varchar(255) not null,
+    email varchar(255) not null,
+    primary key (id)
+);
+
+CREATE TABLE codigo_verificacao_sms
+(
+    data_expiracao timestamp(6) not null,
+    id bigint generated by default as identity,
+    atleta_id uuid not null unique,
+    codigo varchar(255) not null,
+    primary key (id)
+);
+
+CREATE TABLE feedbacks
+(
+    resolvido boolean not null,
+    data_envio timestamp(6),
+    id bigint generated by default as identity,
+    email varchar(255) not null,
+    nome varchar(255) not null,
+    tipo varchar(255) not null check (tipo in ('ELOGIO','SUGESTAO_MELHORIA','RELATORIO_BUG','DUVIDA','OUTRO')),
+    mensagem TEXT not null,
+    primary key (id)
+);
+
+CREATE TABLE horario_funcionamento
+(
+    id bigint generated by default as identity,
+    quadra_id bigint not null,
+    dia_da_semana varchar(255) check (dia_da_semana in ('SEGUNDA','TERCA','QUARTA','QUINTA','SEXTA','SABADO','DOMINGO')),
+    primary key (id)
+);
+
+CREATE TABLE intervalo_horario
+(
+    fim time(6),
+    inicio time(6),
+    valor numeric(38,2),
+    horario_funcionamento_id bigint not null,
+    id bigint generated by default as identity,
+    status varchar(255) not null check (status in ('DISPONIVEL','INDISPONIVEL','MANUTENCAO')),
+    primary key (id)
+);
+
+CREATE TABLE quadra
+(
+    cobertura boolean not null,
+    iluminacao_noturna boolean,
+    id bigint generated by default as identity,
+    arena_id uuid not null,
+    descricao varchar(255),
+    duracao_reserva varchar(255) check (duracao_reserva in ('TRINTA_MINUTOS','UMA_HORA','UMA_HORA_E_MEIA','DUAS_HORAS')),
+    nome_quadra varchar(255),
+    url_foto_quadra varchar(255),
+    primary key (id)
+);
+
+CREATE TABLE quadra_materiais_fornecidos
+(
+    quadra_id bigint not null,
+    material_fornecido varchar(255) not null check (material_fornecido in ('BOLA','COLETE','LUVA','CONE','APITO','BOMBA','MARCADOR_PLACAR','BOTAO_GOL')),
+    primary key (quadra_id, material_fornecido)
+);
+
+CREATE TABLE quadra_tipo_quadra
+(
+    quadra_id bigint not null,
+    tipo_quadra varchar(255) not null check (tipo_quadra in ('FUTEBOL_SOCIETY','FUTEBOL_SETE','FUTEBOL_ONZE','FUTSAL','FUTEBOL_AREIA','BEACHTENNIS','VOLEI','FUTEVOLEI','BASQUETE','HANDEBOL')),
+    primary key (quadra_id, tipo_quadra)
+);
+
+CREATE TABLE slot_horario
+(
+    horario_fim time(6) not null,
+    horario_inicio time(6) not null,
+    valor numeric(38,2),
+    id bigint generated by default as identity,
+    intervalo_horario_id bigint not null,
+    status_disponibilidade varchar(255) not null check (status_disponibilidade in ('DISPONIVEL','MANUTENCAO','INDISPONIVEL')),
+    primary key (id)
+);
+
+CREATE TABLE solicitacao_entrada
+(
+    agendamento_id bigint not null,
+    id bigint generated by default as identity,
+    atleta_id uuid not null,
+    status varchar(255) check (status in ('PENDENTE','ACEITO','RECUSADO','CANCELADO')),
+    primary key (id)
+);
+
+ALTER TABLE agendamento ADD CONSTRAINT FKhq9wqbe78a8iu4invdix9dvfk FOREIGN KEY (agendamento_fixo_id) REFERENCES agendamento_fixo;
+ALTER TABLE agendamento ADD CONSTRAINT FK36a69rs8cmsneleso4wr4bbuo FOREIGN KEY (atleta_id) REFERENCES atleta;
+ALTER TABLE agendamento ADD CONSTRAINT FK9ne9hhgk7ens6fqapfm94p9s2 FOREIGN KEY (quadra_id) REFERENCES quadra;
+ALTER TABLE agendamento_participantes ADD CONSTRAINT FKbk095bykkar4kiqipysj6j33l FOREIGN KEY (atleta_id) REFERENCES atleta;
+ALTER TABLE agendamento_participantes ADD CONSTRAINT FK77kpi8l84sqqag1yc8i9ln4ib FOREIGN KEY (agendamento_id) REFERENCES agendamento;
+ALTER TABLE agendamento_slot_horario ADD CONSTRAINT FKgtke0016wf0gy5t90ix3cd2w2 FOREIGN KEY (slot_horario_id) REFERENCES slot_horario;
+ALTER TABLE agendamento_slot_horario ADD CONSTRAINT FKevy1d7j42h4f44dgxxv7sli3f FOREIGN KEY (agendamento_id) REFERENCES agendamento;
+ALTER TABLE agendamento_fixo ADD CONSTRAINT FKof56kr7u9wyjqp2hou5nonv6l FOREIGN KEY (atleta_id) REFERENCES atleta;
+ALTER TABLE avaliacao ADD CONSTRAINT FK93rovp50f70x62dmw4nw8aeqd FOREIGN KEY (agendamento_id) REFERENCES agendamento;
+ALTER TABLE avaliacao ADD CONSTRAINT FK7eixl4skeshxx9e2pkdqstl9t FOREIGN KEY (atleta_id) REFERENCES atleta;
+ALTER TABLE codigo_verificacao_sms ADD CONSTRAINT FKkc2md1ij0uck3v2fgay0u42nd FOREIGN KEY (atleta_id) REFERENCES atleta;
+ALTER TABLE horario_funcionamento ADD CONSTRAINT FK5qloo1ixr9m65ph2kyog7kuxf FOREIGN KEY (quadra_id) REFERENCES quadra;
+ALTER TABLE intervalo_horario ADD CONSTRAINT FKdwoxanvl1hes8v4o4j1b4eoh6 FOREIGN KEY (horario_funcionamento_id) REFERENCES horario_funcionamento;
+ALTER TABLE quadra ADD CONSTRAINT FKrncoh3las2rg3f8pgrdjyewi0 FOREIGN KEY (arena_id) REFERENCES arena;
+ALTER TABLE quadra_materiais_fornecidos ADD CONSTRAINT FKrvmirr365h2dpjjmst5var64q FOREIGN KEY (quadra_id) REFERENCES quadra;
+ALTER TABLE quadra_tipo_quadra ADD CONSTRAINT FKax61jpfrn09m0jinsk0477l6g FOREIGN KEY (quadra_id) REFERENCES quadra;
+ALTER TABLE slot_horario ADD CONSTRAINT FK4q3kgepk8vy1cn2h4fauhpbbh FOREIGN KEY (intervalo_horario_id) REFERENCES intervalo_horario;
+ALTER TABLE solicitacao_entrada ADD CONSTRAINT FKadfecfnvaw7eiojlxm6lkgyfi FOREIGN KEY (agendamento_id) REFERENCES agendamento;
+ALTER TABLE solicitacao_entrada ADD CONSTRAINT FKbk677tot3jrkb6lvfpqjrv967 FOREIGN KEY (atleta_id) REFERENCES atleta;
@@ -0,0 +1,33 @@
+-- Ids das entidades de alto volume passam de IDENTITY para sequências com incremento 50 (otimizador pooled).
+-- O pooled trata o valor lido da sequência como o fim do bloco de 50 ids, então a sequência
+-- é posicionada 50 acima do maior id existente para que o primeiro bloco não repita ids.
+
+CREATE SEQUENCE IF NOT EXISTS agendamento_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('agendamento_seq', m.maximo + 50)
+FROM (SELECT MAX(id) AS maximo FROM agendamento) m, agendamento_seq s
+WHERE m.maximo IS NOT NULL AND m.maximo + 50 > s.last_value;
+ALTER TABLE agendamento ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS slot_horario_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('slot_horario_seq', m.maximo + 50)
+FROM (SELECT MAX(id) AS maximo FROM slot_horario) m, slot_horario_seq s
+WHERE m.maximo IS NOT NULL AND m.maximo + 50 > s.last_value;
+ALTER TABLE slot_horario ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS intervalo_horario_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('intervalo_horario_seq', m.maximo + 50)
+FROM (SELECT MAX(id) AS maximo FROM intervalo_horario) m, intervalo_horario_seq s
+WHERE m.maximo IS NOT NULL AND m.maximo + 50 > s.last_value;
+ALTER TABLE intervalo_horario ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS horario_funcionamento_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('horario_funcionamento_seq', m.maximo + 50)
+FROM (SELECT MAX(id) AS maximo FROM horario_funcionamento) m, horario_funcionamento_seq s
+WHERE m.maximo IS NOT NULL AND m.maximo + 50 > s.last_value;
+ALTER TABLE horario_funcionamento ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS solicitacao_entrada_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('solicitacao_entrada_seq', m.maximo + 50)
+FROM (SELECT MAX(id) AS maximo FROM solicitacao_entrada) m, solicitacao_entrada_seq s
+WHERE m.maximo IS NOT NULL AND m.maximo + 50 > s.last_value;
+ALTER TABLE solicitacao_entrada ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,18 @@
+-- A recorrência guarda a própria regra (quadra, dia da semana e horário) e até onde suas ocorrências
+-- já existem como agendamentos; as datas em que uma ocorrência foi cancelada não são materializadas de novo.
+-- As recorrências antigas foram criadas por completo: a janela materializada delas vai até data_fim.
+
+ALTER TABLE agendamento_fixo ADD COLUMN IF NOT EXISTS materializado_ate date;
+UPDATE agendamento_fixo SET materializado_ate = data_fim WHERE materializado_ate IS NULL;
+ALTER TABLE agendamento_fixo ALTER COLUMN materializado_ate SET NOT NULL;
+ALTER TABLE agendamento_fixo ADD COLUMN IF NOT EXISTS quadra_id bigint REFERENCES quadra;
+ALTER TABLE agendamento_fixo ADD COLUMN IF NOT EXISTS dia_da_semana varchar(255)
+    CHECK (dia_da_semana IN ('SEGUNDA','TERCA','QUARTA','QUINTA','SEXTA','SABADO','DOMINGO'));
+ALTER TABLE agendamento_fixo ADD COLUMN IF NOT EXISTS horario_inicio time(6);
+ALTER TABLE agendamento_fixo ADD COLUMN IF NOT EXISTS horario_fim time(6);
+
+CREATE TABLE IF NOT EXISTS agendamento_fixo_data_ignorada
+(
+    agendamento_fixo_id bigint not null REFERENCES agendamento_fixo,
+    data date
+);
@@ -0,0 +1,20 @@
+-- Outbox dos emails de agendamentos, jogos abertos e feedback, enviados pelo EmailOutboxJob
+
+CREATE SEQUENCE IF NOT EXISTS email_pendente_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS email_pendente
+(
+    id bigint not null,
+    destinatario varchar(255) not null,
+    assunto varchar(255) not null,
+    conteudo_html TEXT not null,
+    status varchar(255) not null check (status in ('PENDENTE','ENVIADO','FALHOU')),
+    tentativas integer not null,
+    proxima_tentativa timestamp(6) not null,
+    ultimo_erro varchar(1000),
+    data_criacao timestamp(6) not null,
+    data_envio timestamp(6),
+    primary key (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_pendente_status_proxima ON email_pendente (status, proxima_tentativa);
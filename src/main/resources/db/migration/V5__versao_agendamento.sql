@@ -0,0 +1,4 @@
+-- Controle de versão otimista do agendamento (reserva de vagas em jogos abertos).
+-- O DEFAULT preenche as linhas existentes; a coluna nunca fica nula para o @Version e para "versao + 1".
+
+ALTER TABLE agendamento ADD COLUMN IF NOT EXISTS versao bigint NOT NULL DEFAULT 0;
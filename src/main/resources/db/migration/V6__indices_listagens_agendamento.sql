@@ -0,0 +1,5 @@
+-- Índices das listagens de agendamentos por atleta, por quadra e das ocorrências de cada recorrência
+
+CREATE INDEX IF NOT EXISTS idx_agendamento_atleta_data ON agendamento (atleta_id, data_agendamento);
+CREATE INDEX IF NOT EXISTS idx_agendamento_quadra_data ON agendamento (quadra_id, data_agendamento);
+CREATE INDEX IF NOT EXISTS idx_agendamento_fixo_status_data ON agendamento (agendamento_fixo_id, status, data_agendamento);
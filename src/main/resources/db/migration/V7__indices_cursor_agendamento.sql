@@ -0,0 +1,10 @@
+-- A paginação por cursor ordena por (data, horário de início, id): os índices por atleta e por quadra
+-- passam a cobrir a ordem inteira e substituem os de (dono, data)
+
+DROP INDEX IF EXISTS idx_agendamento_atleta_data;
+DROP INDEX IF EXISTS idx_agendamento_quadra_data;
+
+CREATE INDEX IF NOT EXISTS idx_agendamento_atleta_cursor
+    ON agendamento (atleta_id, data_agendamento, horario_inicio_snapshot, id);
+CREATE INDEX IF NOT EXISTS idx_agendamento_quadra_cursor
+    ON agendamento (quadra_id, data_agendamento, horario_inicio_snapshot, id);
@@ -0,0 +1,26 @@
+-- Resumo da recorrência: próxima ocorrência e contadores. As recorrências existentes são preenchidas aqui,
+-- com a mesma conta de AgendamentoFixoRepository.ATUALIZAR_RESUMO_SQL; depois o resumo é mantido pela aplicação.
+
+ALTER TABLE agendamento_fixo ADD COLUMN IF NOT EXISTS proxima_ocorrencia_id bigint REFERENCES agendamento;
+ALTER TABLE agendamento_fixo ADD COLUMN IF NOT EXISTS ocorrencias_restantes integer;
+ALTER TABLE agendamento_fixo ADD COLUMN IF NOT EXISTS ocorrencias_canceladas integer;
+
+UPDATE agendamento_fixo af SET
+    proxima_ocorrencia_id = (SELECT a.id FROM agendamento a
+        WHERE a.agendamento_fixo_id = af.id AND a.status IN ('PENDENTE', 'AGUARDANDO_PAGAMENTO', 'PAGO')
+        AND a.data_agendamento >= CAST(now() AT TIME ZONE 'America/Sao_Paulo' AS date)
+        ORDER BY a.data_agendamento, a.horario_inicio_snapshot, a.id LIMIT 1),
+    ocorrencias_restantes = (SELECT COUNT(*) FROM agendamento a
+        WHERE a.agendamento_fixo_id = af.id AND a.status IN ('PENDENTE', 'AGUARDANDO_PAGAMENTO', 'PAGO')
+        AND a.data_agendamento >= CAST(now() AT TIME ZONE 'America/Sao_Paulo' AS date))
+        -- Datas semanais da regra ainda não materializadas, exceto as ignoradas por conflito
+        + CASE WHEN af.status = 'ATIVO' AND af.materializado_ate < af.data_fim THEN (
+            SELECT COUNT(*) FROM generate_series(af.data_inicio, af.data_fim, INTERVAL '7 days') AS s(dia)
+            WHERE CAST(s.dia AS date) > af.materializado_ate
+            AND CAST(s.dia AS date) >= CAST(now() AT TIME ZONE 'America/Sao_Paulo' AS date)
+            AND CAST(s.dia AS date) NOT IN (SELECT i.data FROM agendamento_fixo_data_ignorada i
+                WHERE i.agendamento_fixo_id = af.id)
+        ) ELSE 0 END,
+    ocorrencias_canceladas = (SELECT COUNT(*) FROM agendamento a
+        WHERE a.agendamento_fixo_id = af.id AND a.status = 'CANCELADO')
+WHERE af.ocorrencias_restantes IS NULL;
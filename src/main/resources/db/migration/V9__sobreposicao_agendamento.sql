@@ -0,0 +1,65 @@
+-- Dois agendamentos não cancelados da mesma quadra não podem ter períodos sobrepostos.
+-- existeConflitoNoHorario confia nesta regra; se a constraint não puder ser criada, a migration falha.
+-- O período vai de data + início a data + fim; um fim menor ou igual ao início (ex.: 23:00 às 00:00)
+-- termina no dia seguinte.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Agendamentos antigos sem snapshot recebem o período a partir dos slots associados
+UPDATE agendamento a SET
+    horario_inicio_snapshot = s.inicio,
+    horario_fim_snapshot = s.fim
+FROM (SELECT ash.agendamento_id, MIN(sh.horario_inicio) AS inicio, MAX(sh.horario_fim) AS fim
+      FROM agendamento_slot_horario ash
+      JOIN slot_horario sh ON sh.id = ash.slot_horario_id
+      GROUP BY ash.agendamento_id) s
+WHERE a.id = s.agendamento_id
+  AND (a.horario_inicio_snapshot IS NULL OR a.horario_fim_snapshot IS NULL);
+
+-- Sobreposições já gravadas: de cada par, o agendamento mais recente (maior id) é cancelado e registrado no log
+DO $$
+DECLARE
+    par record;
+BEGIN
+    LOOP
+        SELECT a.id AS mantido, b.id AS cancelado, b.quadra_id, b.data_agendamento,
+               b.horario_inicio_snapshot AS inicio, b.horario_fim_snapshot AS fim
+        INTO par
+        FROM agendamento a
+        JOIN agendamento b ON b.quadra_id = a.quadra_id AND b.id > a.id
+            AND b.data_agendamento BETWEEN a.data_agendamento - 1 AND a.data_agendamento + 1
+        WHERE a.status <> 'CANCELADO' AND b.status <> 'CANCELADO'
+          AND a.horario_inicio_snapshot IS NOT NULL AND a.horario_fim_snapshot IS NOT NULL
+          AND b.horario_inicio_snapshot IS NOT NULL AND b.horario_fim_snapshot IS NOT NULL
+          AND tsrange(a.data_agendamento + a.horario_inicio_snapshot,
+                      CASE WHEN a.horario_fim_snapshot > a.horario_inicio_snapshot
+                           THEN a.data_agendamento + a.horario_fim_snapshot
+                           ELSE (a.data_agendamento + 1) + a.horario_fim_snapshot END, '[)')
+           && tsrange(b.data_agendamento + b.horario_inicio_snapshot,
+                      CASE WHEN b.horario_fim_snapshot > b.horario_inicio_snapshot
+                           THEN b.data_agendamento + b.horario_fim_snapshot
+                           ELSE (b.data_agendamento + 1) + b.horario_fim_snapshot END, '[)')
+        ORDER BY a.id, b.id
+        LIMIT 1;
+
+        EXIT WHEN NOT FOUND;
+
+        RAISE WARNING 'Agendamento % (quadra %, % %-%) sobreposto ao agendamento %: cancelado',
+            par.cancelado, par.quadra_id, par.data_agendamento, par.inicio, par.fim, par.mantido;
+        UPDATE agendamento SET status = 'CANCELADO' WHERE id = par.cancelado;
+    END LOOP;
+END $$;
+
+-- Bancos em que a constraint já havia sido criada fora das migrations ficam como estão
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'agendamento_sem_sobreposicao') THEN
+        ALTER TABLE agendamento ADD CONSTRAINT agendamento_sem_sobreposicao
+            EXCLUDE USING gist (quadra_id WITH =,
+                tsrange(data_agendamento + horario_inicio_snapshot,
+                        CASE WHEN horario_fim_snapshot > horario_inicio_snapshot
+                             THEN data_agendamento + horario_fim_snapshot
+                             ELSE (data_agendamento + 1) + horario_fim_snapshot END, '[)') WITH &&)
+            WHERE (status <> 'CANCELADO' AND horario_inicio_snapshot IS NOT NULL AND horario_fim_snapshot IS NOT NULL);
+    END IF;
+END $$;
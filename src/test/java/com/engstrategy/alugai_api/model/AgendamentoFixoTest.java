@@ -0,0 +1,83 @@
+package com.engstrategy.alugai_api.model;
+
+import com.engstrategy.alugai_api.model.enums.StatusAgendamentoFixo;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AgendamentoFixoTest {
+
+    // Segundas-feiras de 03/03/2025 a 28/04/2025, materializadas até 24/03
+    private static final LocalDate INICIO = LocalDate.of(2025, 3, 3);
+    private static final LocalDate FIM = LocalDate.of(2025, 4, 28);
+    private static final LocalDate MATERIALIZADO_ATE = LocalDate.of(2025, 3, 24);
+
+    @Test
+    void devolveAsOcorrenciasDepoisDaJanelaMaterializada() {
+        AgendamentoFixo regra = regra();
+
+        assertThat(regra.datasNaoMaterializadas(INICIO, FIM)).containsExactly(
+                LocalDate.of(2025, 3, 31), LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 14),
+                LocalDate.of(2025, 4, 21), LocalDate.of(2025, 4, 28));
+    }
+
+    @Test
+    void respeitaOPeriodoConsultado() {
+        AgendamentoFixo regra = regra();
+
+        // Começa em uma quarta: a primeira ocorrência é a segunda seguinte
+        assertThat(regra.datasNaoMaterializadas(LocalDate.of(2025, 4, 2), LocalDate.of(2025, 4, 20)))
+                .containsExactly(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 14));
+        assertThat(regra.datasNaoMaterializadas(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 7)))
+                .containsExactly(LocalDate.of(2025, 4, 7));
+        assertThat(regra.datasNaoMaterializadas(LocalDate.of(2025, 4, 8), LocalDate.of(2025, 4, 13))).isEmpty();
+    }
+
+    @Test
+    void naoPassaDoFimDaRegra() {
+        AgendamentoFixo regra = regra();
+
+        assertThat(regra.datasNaoMaterializadas(LocalDate.of(2025, 4, 20), LocalDate.of(2025, 6, 30)))
+                .containsExactly(LocalDate.of(2025, 4, 21), LocalDate.of(2025, 4, 28));
+    }
+
+    @Test
+    void pulaAsDatasIgnoradas() {
+        AgendamentoFixo regra = regra();
+        regra.setDatasIgnoradas(Set.of(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 21)));
+
+        assertThat(regra.datasNaoMaterializadas(INICIO, FIM))
+                .containsExactly(LocalDate.of(2025, 3, 31), LocalDate.of(2025, 4, 14), LocalDate.of(2025, 4, 28));
+    }
+
+    @Test
+    void vazioQuandoTudoJaFoiMaterializado() {
+        AgendamentoFixo regra = regra();
+        regra.setMaterializadoAte(FIM);
+
+        assertThat(regra.datasNaoMaterializadas(INICIO, FIM)).isEmpty();
+    }
+
+    @Test
+    void vazioParaRegraCanceladaOuSemJanela() {
+        AgendamentoFixo cancelada = regra();
+        cancelada.setStatus(StatusAgendamentoFixo.CANCELADO);
+        AgendamentoFixo semJanela = regra();
+        semJanela.setMaterializadoAte(null);
+
+        assertThat(cancelada.datasNaoMaterializadas(INICIO, FIM)).isEmpty();
+        assertThat(semJanela.datasNaoMaterializadas(INICIO, FIM)).isEmpty();
+    }
+
+    private static AgendamentoFixo regra() {
+        return AgendamentoFixo.builder()
+                .dataInicio(INICIO)
+                .dataFim(FIM)
+                .materializadoAte(MATERIALIZADO_ATE)
+                .status(StatusAgendamentoFixo.ATIVO)
+                .build();
+    }
+}
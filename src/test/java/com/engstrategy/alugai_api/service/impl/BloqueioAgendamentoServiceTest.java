@@ -0,0 +1,120 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.exceptions.UnavailableDateTimeException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class BloqueioAgendamentoServiceTest {
+
+    private static final LocalDate DATA = LocalDate.of(2025, 3, 10);
+
+    private EntityManager entityManager;
+    private BloqueioAgendamentoService service;
+    private ExecutorService outraTransacao;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        service = new BloqueioAgendamentoService(entityManager, false, 100);
+        outraTransacao = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        outraTransacao.shutdownNow();
+    }
+
+    @Test
+    void exigeTransacaoAtiva() {
+        assertThatThrownBy(() -> service.bloquear(1L, DATA)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void mesmaQuadraEDataEsperaOFimDaTransacao() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        service.bloquear(1L, DATA);
+
+        assertThat(outraTransacao.submit(() -> emTransacao(() -> service.bloquear(1L, DATA))).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(UnavailableDateTimeException.class);
+
+        concluirTransacao(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(outraTransacao.submit(() -> emTransacao(() -> service.bloquear(1L, DATA))).get(5, TimeUnit.SECONDS))
+                .isNull();
+    }
+
+    @Test
+    void rollbackTambemLiberaOBloqueio() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        service.bloquear(1L, DATA);
+        concluirTransacao(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(outraTransacao.submit(() -> emTransacao(() -> service.bloquear(1L, DATA))).get(5, TimeUnit.SECONDS))
+                .isNull();
+    }
+
+    @Test
+    void aMesmaTransacaoPodeBloquearDeNovo() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        service.bloquear(1L, DATA);
+        service.bloquear(1L, DATA);
+        concluirTransacao(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Cada bloqueio é desfeito na sua sincronização: nada fica preso para a próxima transação
+        Future<Throwable> proxima = outraTransacao.submit(() -> emTransacao(() -> service.bloquear(1L, DATA)));
+        assertThat(proxima.get(5, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void semLockDistribuidoNaoConsultaOBanco() {
+        TransactionSynchronizationManager.initSynchronization();
+        service.bloquear(1L, DATA);
+        concluirTransacao(TransactionSynchronization.STATUS_COMMITTED);
+
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void chaveDependeDaQuadraEDaData() {
+        assertThat(BloqueioAgendamentoService.chave(1L, DATA)).isEqualTo(BloqueioAgendamentoService.chave(1L, DATA));
+        assertThat(BloqueioAgendamentoService.chave(1L, DATA)).isNotEqualTo(BloqueioAgendamentoService.chave(2L, DATA));
+        assertThat(BloqueioAgendamentoService.chave(1L, DATA)).isNotEqualTo(BloqueioAgendamentoService.chave(1L, DATA.plusDays(1)));
+    }
+
+    // Executa o bloqueio em uma transação simulada, concluída em seguida; devolve a falha, se houver
+    private static Throwable emTransacao(Runnable bloqueio) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bloqueio.run();
+            concluirTransacao(TransactionSynchronization.STATUS_COMMITTED);
+            return null;
+        } catch (RuntimeException e) {
+            concluirTransacao(TransactionSynchronization.STATUS_ROLLED_BACK);
+            return e;
+        }
+    }
+
+    private static void concluirTransacao(int status) {
+        var sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        sincronizacoes.forEach(sincronizacao -> sincronizacao.afterCompletion(status));
+    }
+}
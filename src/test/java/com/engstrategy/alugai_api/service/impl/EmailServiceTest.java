@@ -0,0 +1,77 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.model.Agendamento;
+import com.engstrategy.alugai_api.model.Arena;
+import com.engstrategy.alugai_api.model.Atleta;
+import com.engstrategy.alugai_api.model.EmailPendente;
+import com.engstrategy.alugai_api.model.Endereco;
+import com.engstrategy.alugai_api.model.Quadra;
+import com.engstrategy.alugai_api.model.enums.Role;
+import com.engstrategy.alugai_api.model.enums.TipoContaAtleta;
+import com.engstrategy.alugai_api.model.enums.TipoEsporte;
+import com.engstrategy.alugai_api.repository.EmailPendenteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class EmailServiceTest {
+
+    private EmailPendenteRepository emailPendenteRepository;
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        emailPendenteRepository = mock(EmailPendenteRepository.class);
+        emailService = new EmailService(mock(JavaMailSender.class), emailPendenteRepository);
+    }
+
+    @Test
+    void agendamentoDeAtletaExternoSemEmailSoNotificaAArena() {
+        // Atleta externo criado pela arena só com nome e telefone
+        Atleta externo = Atleta.builder()
+                .nome("Externo")
+                .telefone("86999999999")
+                .tipoConta(TipoContaAtleta.EXTERNO)
+                .role(Role.ATLETA)
+                .build();
+        Arena arena = Arena.builder()
+                .nome("Arena")
+                .email("arena@arenahub.com")
+                .endereco(Endereco.builder().rua("Rua A").numero("10").bairro("Centro").cidade("Teresina").estado("PI").cep("64000000").build())
+                .build();
+        Agendamento agendamento = Agendamento.builder()
+                .atleta(externo)
+                .quadra(Quadra.builder().nomeQuadra("Quadra 1").arena(arena).build())
+                .dataAgendamento(LocalDate.of(2025, 3, 10))
+                .horarioInicioSnapshot(LocalTime.of(19, 0))
+                .horarioFimSnapshot(LocalTime.of(20, 0))
+                .valorTotalSnapshot(new BigDecimal("100.00"))
+                .esporte(TipoEsporte.FUTSAL)
+                .build();
+
+        emailService.enviarEmailAgendamento(externo.getEmail(), externo.getNome(), agendamento, Role.ATLETA);
+        emailService.enviarEmailAgendamento(arena.getEmail(), arena.getNome(), agendamento, Role.ARENA);
+
+        ArgumentCaptor<EmailPendente> gravado = ArgumentCaptor.forClass(EmailPendente.class);
+        verify(emailPendenteRepository).save(gravado.capture());
+        assertThat(gravado.getValue().getDestinatario()).isEqualTo("arena@arenahub.com");
+    }
+
+    @Test
+    void destinatarioEmBrancoNaoEntraNaOutbox() {
+        emailService.enfileirar(" ", "Assunto", "<p>corpo</p>");
+
+        verify(emailPendenteRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,111 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.exceptions.IdempotencyKeyInProgressException;
+import com.engstrategy.alugai_api.exceptions.IdempotencyKeyMismatchException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotenciaServiceTest {
+
+    private final IdempotenciaService service = new IdempotenciaService(new ObjectMapper(), Duration.ofHours(1), 100);
+    private final AtomicInteger execucoes = new AtomicInteger();
+
+    @Test
+    void semChaveSempreExecuta() {
+        service.executar(null, "atleta", Map.of("a", 1), this::operacao);
+        service.executar(" ", "atleta", Map.of("a", 1), this::operacao);
+
+        assertThat(execucoes).hasValue(2);
+    }
+
+    @Test
+    void repeticaoDevolveARespostaOriginal() {
+        ResponseEntity<Integer> primeira = service.executar("k1", "atleta", Map.of("a", 1), this::operacao);
+        ResponseEntity<Integer> repetida = service.executar("k1", "atleta", Map.of("a", 1), this::operacao);
+
+        assertThat(repetida).isSameAs(primeira);
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void ordemDasChavesDoCorpoNaoImporta() {
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        corpo.put("quadraId", 1);
+        corpo.put("data", "2025-03-10");
+        Map<String, Object> mesmoCorpo = new LinkedHashMap<>();
+        mesmoCorpo.put("data", "2025-03-10");
+        mesmoCorpo.put("quadraId", 1);
+
+        service.executar("k1", "atleta", corpo, this::operacao);
+        service.executar("k1", "atleta", mesmoCorpo, this::operacao);
+
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void mesmaChaveComOutroCorpoERejeitada() {
+        service.executar("k1", "atleta", Map.of("a", 1), this::operacao);
+
+        assertThatThrownBy(() -> service.executar("k1", "atleta", Map.of("a", 2), this::operacao))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+    @Test
+    void chavesDeEscoposDiferentesNaoColidem() {
+        service.executar("k1", "atleta-1", Map.of("a", 1), this::operacao);
+        service.executar("k1", "atleta-2", Map.of("a", 2), this::operacao);
+
+        assertThat(execucoes).hasValue(2);
+    }
+
+    @Test
+    void repeticaoDuranteOProcessamentoERejeitada() {
+        service.executar("k1", "atleta", Map.of("a", 1), () -> {
+            assertThatThrownBy(() -> service.executar("k1", "atleta", Map.of("a", 1), this::operacao))
+                    .isInstanceOf(IdempotencyKeyInProgressException.class);
+            return operacao();
+        });
+
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void falhaLiberaAChave() {
+        assertThatThrownBy(() -> service.executar("k1", "atleta", Map.of("a", 1), () -> {
+            throw new IllegalStateException("falhou");
+        })).isInstanceOf(IllegalStateException.class);
+
+        service.executar("k1", "atleta", Map.of("a", 1), this::operacao);
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void errorTambemLiberaAChave() {
+        assertThatThrownBy(() -> service.executar("k1", "atleta", Map.of("a", 1), () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        service.executar("k1", "atleta", Map.of("a", 1), this::operacao);
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void chaveLongaDemaisERejeitada() {
+        assertThatThrownBy(() -> service.executar("k".repeat(256), "atleta", Map.of("a", 1), this::operacao))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(execucoes).hasValue(0);
+    }
+
+    private ResponseEntity<Integer> operacao() {
+        return ResponseEntity.ok(execucoes.incrementAndGet());
+    }
+}
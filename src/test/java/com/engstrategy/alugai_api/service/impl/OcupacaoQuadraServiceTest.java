@@ -0,0 +1,141 @@
+package com.engstrategy.alugai_api.service.impl;
+
+import com.engstrategy.alugai_api.dto.agendamento.OcupacaoHorarioDTO;
+import com.engstrategy.alugai_api.event.HorariosQuadraAlteradosEvent;
+import com.engstrategy.alugai_api.event.OcupacaoQuadraAlteradaEvent;
+import com.engstrategy.alugai_api.model.AgendamentoFixo;
+import com.engstrategy.alugai_api.model.Quadra;
+import com.engstrategy.alugai_api.model.enums.StatusAgendamentoFixo;
+import com.engstrategy.alugai_api.repository.AgendamentoFixoRepository;
+import com.engstrategy.alugai_api.repository.AgendamentoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class OcupacaoQuadraServiceTest {
+
+    private static final Long QUADRA_ID = 1L;
+    private static final LocalDate DATA = LocalDate.of(2025, 3, 10);
+
+    private AgendamentoRepository agendamentoRepository;
+    private AgendamentoFixoRepository agendamentoFixoRepository;
+    private OcupacaoQuadraService service;
+
+    @BeforeEach
+    void setUp() {
+        agendamentoRepository = mock(AgendamentoRepository.class);
+        agendamentoFixoRepository = mock(AgendamentoFixoRepository.class);
+        service = new OcupacaoQuadraService(agendamentoRepository, agendamentoFixoRepository);
+    }
+
+    @Test
+    void marcaOsMinutosOcupadosEConsultaOBancoUmaVez() {
+        when(agendamentoRepository.findHorariosOcupados(QUADRA_ID, DATA))
+                .thenReturn(List.of(ocupacao(LocalTime.of(10, 0), LocalTime.of(11, 0))));
+
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(10, 30), LocalTime.of(11, 30))).isTrue();
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(9, 0), LocalTime.of(10, 0))).isFalse();
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(11, 0), LocalTime.of(12, 0))).isFalse();
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(10, 59), LocalTime.of(11, 0))).isTrue();
+
+        verify(agendamentoRepository, times(1)).findHorariosOcupados(QUADRA_ID, DATA);
+    }
+
+    @Test
+    void horarioAteMeiaNoiteOcupaOFimDoDia() {
+        when(agendamentoRepository.findHorariosOcupados(QUADRA_ID, DATA))
+                .thenReturn(List.of(ocupacao(LocalTime.of(23, 0), LocalTime.MIDNIGHT)));
+
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(23, 30), LocalTime.MIDNIGHT)).isTrue();
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(22, 0), LocalTime.of(23, 0))).isFalse();
+    }
+
+    @Test
+    void eventosAlteramODiaCarregadoSemConsultarOBanco() {
+        when(agendamentoRepository.findHorariosOcupados(QUADRA_ID, DATA))
+                .thenReturn(List.of(ocupacao(LocalTime.of(10, 0), LocalTime.of(11, 0))));
+        service.buscarOcupacao(QUADRA_ID, DATA);
+
+        service.aoAlterarOcupacao(evento(LocalTime.of(14, 0), LocalTime.of(15, 0), true));
+        service.aoAlterarOcupacao(evento(LocalTime.of(10, 0), LocalTime.of(11, 0), false));
+
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(14, 0), LocalTime.of(14, 30))).isTrue();
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(10, 0), LocalTime.of(11, 0))).isFalse();
+        verify(agendamentoRepository, times(1)).findHorariosOcupados(QUADRA_ID, DATA);
+    }
+
+    @Test
+    void ocupacaoJaPublicadaNaoMudaComEventosPosteriores() {
+        when(agendamentoRepository.findHorariosOcupados(QUADRA_ID, DATA)).thenReturn(List.of());
+        OcupacaoQuadraService.OcupacaoDia antes = service.buscarOcupacao(QUADRA_ID, DATA);
+
+        service.aoAlterarOcupacao(evento(LocalTime.of(8, 0), LocalTime.of(9, 0), true));
+
+        assertThat(antes.estaOcupado(LocalTime.of(8, 0), LocalTime.of(9, 0))).isFalse();
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(8, 0), LocalTime.of(9, 0))).isTrue();
+    }
+
+    @Test
+    void cargaQueConcorreuComUmaEscritaNaoEPublicada() {
+        // Enquanto o banco é consultado, outro agendamento é confirmado na mesma quadra e data
+        when(agendamentoRepository.findHorariosOcupados(QUADRA_ID, DATA))
+                .thenAnswer(invocacao -> {
+                    service.aoAlterarOcupacao(evento(LocalTime.of(10, 0), LocalTime.of(11, 0), true));
+                    return List.of();
+                })
+                .thenReturn(List.of(ocupacao(LocalTime.of(10, 0), LocalTime.of(11, 0))));
+
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(10, 0), LocalTime.of(11, 0))).isFalse();
+        // A carga desatualizada foi descartada: a próxima consulta volta ao banco e já vê o agendamento
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(10, 0), LocalTime.of(11, 0))).isTrue();
+        verify(agendamentoRepository, times(2)).findHorariosOcupados(QUADRA_ID, DATA);
+    }
+
+    @Test
+    void incluiOcorrenciasNaoMaterializadasDeRecorrencias() {
+        AgendamentoFixo recorrencia = AgendamentoFixo.builder()
+                .quadra(Quadra.builder().id(QUADRA_ID).build())
+                .dataInicio(DATA.minusWeeks(4))
+                .dataFim(DATA.plusWeeks(4))
+                .materializadoAte(DATA.minusWeeks(1))
+                .horarioInicio(LocalTime.of(19, 0))
+                .horarioFim(LocalTime.of(20, 0))
+                .status(StatusAgendamentoFixo.ATIVO)
+                .build();
+        when(agendamentoRepository.findHorariosOcupados(QUADRA_ID, DATA)).thenReturn(List.of());
+        when(agendamentoFixoRepository.findRecorrenciasNaoMaterializadas(anyCollection(), any(), any()))
+                .thenReturn(List.of(recorrencia));
+
+        assertThat(service.estaOcupado(QUADRA_ID, DATA, LocalTime.of(19, 30), LocalTime.of(20, 30))).isTrue();
+    }
+
+    @Test
+    void mudancaDeHorariosDescartaTodosOsDiasDaQuadra() {
+        when(agendamentoRepository.findHorariosOcupados(eq(QUADRA_ID), any())).thenReturn(List.of());
+        service.buscarOcupacao(QUADRA_ID, DATA);
+        service.buscarOcupacao(QUADRA_ID, DATA.plusDays(1));
+
+        service.aoAlterarHorarios(new HorariosQuadraAlteradosEvent(QUADRA_ID));
+        service.buscarOcupacao(QUADRA_ID, DATA);
+        service.buscarOcupacao(QUADRA_ID, DATA.plusDays(1));
+
+        verify(agendamentoRepository, times(2)).findHorariosOcupados(QUADRA_ID, DATA);
+        verify(agendamentoRepository, times(2)).findHorariosOcupados(QUADRA_ID, DATA.plusDays(1));
+    }
+
+    private static OcupacaoHorarioDTO ocupacao(LocalTime inicio, LocalTime fim) {
+        return new OcupacaoHorarioDTO(QUADRA_ID, DATA, inicio, fim);
+    }
+
+    private static OcupacaoQuadraAlteradaEvent evento(LocalTime inicio, LocalTime fim, boolean ocupado) {
+        return new OcupacaoQuadraAlteradaEvent(QUADRA_ID, DATA, inicio, fim, ocupado);
+    }
+}
@@ -0,0 +1,51 @@
+package com.engstrategy.alugai_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorAgendamentoTest {
+
+    @Test
+    void decodificaOQueFoiCodificado() {
+        CursorAgendamento cursor = new CursorAgendamento(LocalDate.of(2025, 3, 9), LocalTime.of(18, 30), 1234L);
+
+        assertThat(CursorAgendamento.decodificar(cursor.codificar())).isEqualTo(cursor);
+    }
+
+    @Test
+    void preservaHorarioNulo() {
+        CursorAgendamento cursor = new CursorAgendamento(LocalDate.of(2025, 3, 9), null, 7L);
+
+        assertThat(CursorAgendamento.decodificar(cursor.codificar())).isEqualTo(cursor);
+    }
+
+    @Test
+    void tokenSeguroParaUrl() {
+        String token = new CursorAgendamento(LocalDate.of(2025, 12, 31), LocalTime.of(23, 59, 59), Long.MAX_VALUE).codificar();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejeitaTokenInvalido() {
+        assertThatThrownBy(() -> CursorAgendamento.decodificar("não é base64"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorAgendamento.decodificar(codificar("2025-03-09|18:30")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorAgendamento.decodificar(codificar("2025-13-09|18:30|1")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorAgendamento.decodificar(codificar("2025-03-09|18:30|abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String codificar(String valor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+}
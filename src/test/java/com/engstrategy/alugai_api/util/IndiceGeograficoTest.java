@@ -0,0 +1,108 @@
+package com.engstrategy.alugai_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class IndiceGeograficoTest {
+
+    private static final double TAMANHO_CELULA = 0.1;
+
+    @Test
+    void distanciaUsaORaioDoEarthDistance() {
+        // Um grau de meridiano sobre a esfera de 6378,168 km do earthdistance
+        assertThat(IndiceGeografico.distanciaKm(-5.0, -42.8, -6.0, -42.8)).isCloseTo(111.3195, within(0.001));
+    }
+
+    @Test
+    void buscaNoRaioDevolveDoMaisProximoParaOMaisDistante() {
+        IndiceGeografico<String> indice = new IndiceGeografico<>(TAMANHO_CELULA);
+        indice.atualizar("longe", -5.05, -42.80);
+        indice.atualizar("perto", -5.01, -42.80);
+        indice.atualizar("fora", -5.50, -42.80);
+
+        List<IndiceGeografico.Proximo<String>> proximos = indice.buscarNoRaio(-5.0, -42.8, 10);
+
+        assertThat(proximos).extracting(IndiceGeografico.Proximo::chave).containsExactly("perto", "longe");
+        assertThat(proximos.get(0).distanciaKm()).isCloseTo(1.113, within(0.001));
+    }
+
+    @Test
+    void buscaNoRaioEncontraItensEmCelulasVizinhas() {
+        IndiceGeografico<String> indice = new IndiceGeografico<>(TAMANHO_CELULA);
+        // A origem fica logo acima da borda -5,1 e os itens logo abaixo e ao lado, em outras células
+        indice.atualizar("abaixo", -5.1001, -42.8999);
+        indice.atualizar("ao lado", -5.0999, -42.9001);
+        indice.atualizar("diagonal", -5.1001, -42.9001);
+        indice.atualizar("fora", -5.1001, -42.85);
+
+        List<IndiceGeografico.Proximo<String>> proximos = indice.buscarNoRaio(-5.0999, -42.8999, 1);
+
+        assertThat(proximos).extracting(IndiceGeografico.Proximo::chave)
+                .containsExactlyInAnyOrder("abaixo", "ao lado", "diagonal");
+    }
+
+    @Test
+    void buscaNoRetanguloIncluiAsBordas() {
+        IndiceGeografico<String> indice = new IndiceGeografico<>(TAMANHO_CELULA);
+        indice.atualizar("canto", -5.2, -42.9);
+        indice.atualizar("borda", -5.0, -42.85);
+        indice.atualizar("dentro", -5.15, -42.75);
+        indice.atualizar("fora", -5.0, -42.6999);
+
+        List<IndiceGeografico.Ponto<String>> pontos = indice.buscarNoRetangulo(-5.2, -42.9, -5.0, -42.7);
+
+        assertThat(pontos).extracting(IndiceGeografico.Ponto::chave)
+                .containsExactlyInAnyOrder("canto", "borda", "dentro");
+    }
+
+    @Test
+    void removerOUltimoItemEsvaziaACelula() {
+        IndiceGeografico<String> indice = new IndiceGeografico<>(TAMANHO_CELULA);
+        indice.atualizar("sozinho", -5.05, -42.85);
+        indice.atualizar("vizinho", -5.15, -42.85);
+
+        indice.remover("sozinho");
+
+        assertThat(indice.tamanho()).isEqualTo(1);
+        assertThat(indice.buscarNoRaio(-5.05, -42.85, 1)).isEmpty();
+        assertThat(indice.buscarNoRaio(-5.05, -42.85, 500)).extracting(IndiceGeografico.Proximo::chave)
+                .containsExactly("vizinho");
+        assertThat(indice.buscarNoRetangulo(-90, -180, 90, 180)).extracting(IndiceGeografico.Ponto::chave)
+                .containsExactly("vizinho");
+
+        indice.atualizar("sozinho", -5.05, -42.85);
+        assertThat(indice.buscarNoRaio(-5.05, -42.85, 1)).extracting(IndiceGeografico.Proximo::chave)
+                .containsExactly("sozinho");
+    }
+
+    @Test
+    void atualizarMoveOItemDeCelula() {
+        IndiceGeografico<String> indice = new IndiceGeografico<>(TAMANHO_CELULA);
+        indice.atualizar("arena", -5.05, -42.85);
+
+        indice.atualizar("arena", -7.05, -40.85);
+
+        assertThat(indice.tamanho()).isEqualTo(1);
+        assertThat(indice.buscarNoRaio(-5.05, -42.85, 5)).isEmpty();
+        assertThat(indice.buscarNoRetangulo(-7.1, -40.9, -7.0, -40.8)).extracting(IndiceGeografico.Ponto::chave)
+                .containsExactly("arena");
+    }
+
+    @Test
+    void substituirTrocaTodoOConteudo() {
+        IndiceGeografico<String> indice = new IndiceGeografico<>(TAMANHO_CELULA);
+        indice.atualizar("antiga", -5.05, -42.85);
+
+        indice.substituir(List.of(
+                new IndiceGeografico.Ponto<>("nova", -5.06, -42.86),
+                new IndiceGeografico.Ponto<>("outra", -8.0, -35.0)));
+
+        assertThat(indice.tamanho()).isEqualTo(2);
+        assertThat(indice.buscarNoRaio(-5.05, -42.85, 5)).extracting(IndiceGeografico.Proximo::chave)
+                .containsExactly("nova");
+    }
+}
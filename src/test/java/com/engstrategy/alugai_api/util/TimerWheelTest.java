@@ -0,0 +1,98 @@
+package com.engstrategy.alugai_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    private static final long TICK_MS = 1000;
+
+    @Test
+    void devolveOItemSomenteQuandoOPrazoVence() {
+        TimerWheel<Long> wheel = new TimerWheel<>(TICK_MS, 0);
+        wheel.agendar(1L, 5_000);
+
+        assertThat(wheel.avancar(4_999)).isEmpty();
+        assertThat(wheel.avancar(5_000)).containsExactly(1L);
+        assertThat(wheel.tamanho()).isZero();
+    }
+
+    @Test
+    void prazoNoMeioDoTickVenceNoTickSeguinte() {
+        TimerWheel<Long> wheel = new TimerWheel<>(TICK_MS, 0);
+        wheel.agendar(1L, 2_500);
+
+        assertThat(wheel.avancar(2_999)).isEmpty();
+        assertThat(wheel.avancar(3_000)).containsExactly(1L);
+    }
+
+    @Test
+    void prazoJaVencidoSaiNoProximoTick() {
+        TimerWheel<Long> wheel = new TimerWheel<>(TICK_MS, 10_000);
+        wheel.agendar(1L, 1_000);
+
+        assertThat(wheel.avancar(10_999)).isEmpty();
+        assertThat(wheel.avancar(11_000)).containsExactly(1L);
+    }
+
+    @Test
+    void itemCanceladoNaoVence() {
+        TimerWheel<Long> wheel = new TimerWheel<>(TICK_MS, 0);
+        wheel.agendar(1L, 3_000);
+        wheel.agendar(2L, 3_000);
+        wheel.cancelar(1L);
+
+        assertThat(wheel.tamanho()).isEqualTo(1);
+        assertThat(wheel.avancar(10_000)).containsExactly(2L);
+    }
+
+    @Test
+    void reagendarSubstituiOPrazoAnterior() {
+        TimerWheel<Long> wheel = new TimerWheel<>(TICK_MS, 0);
+        wheel.agendar(1L, 3_000);
+        wheel.agendar(1L, 8_000);
+
+        assertThat(wheel.tamanho()).isEqualTo(1);
+        assertThat(wheel.avancar(7_000)).isEmpty();
+        assertThat(wheel.avancar(8_000)).containsExactly(1L);
+    }
+
+    @Test
+    void prazosDosNiveisSuperioresVencemNoTickExato() {
+        TimerWheel<Long> wheel = new TimerWheel<>(TICK_MS, 0);
+        // 64 ticks = fim do primeiro nível; 4096 ticks = fim do segundo; 300000 ticks passa do último nível
+        long[] prazosTick = {63, 64, 65, 4_095, 4_096, 4_097, 100_000, 300_000};
+        for (int i = 0; i < prazosTick.length; i++) {
+            wheel.agendar((long) i, prazosTick[i] * TICK_MS);
+        }
+
+        for (int i = 0; i < prazosTick.length; i++) {
+            assertThat(wheel.avancar((prazosTick[i] - 1) * TICK_MS)).as("antes do tick %d", prazosTick[i]).isEmpty();
+            assertThat(wheel.avancar(prazosTick[i] * TICK_MS)).as("no tick %d", prazosTick[i]).containsExactly((long) i);
+        }
+        assertThat(wheel.tamanho()).isZero();
+    }
+
+    @Test
+    void avancarAosPoucosOuDeUmaVezDevolveOsMesmosItens() {
+        TimerWheel<Long> aosPoucos = new TimerWheel<>(TICK_MS, 0);
+        TimerWheel<Long> deUmaVez = new TimerWheel<>(TICK_MS, 0);
+        for (long i = 0; i < 500; i++) {
+            long prazo = (i * 37 % 5_000) * TICK_MS;
+            aosPoucos.agendar(i, prazo);
+            deUmaVez.agendar(i, prazo);
+        }
+
+        List<Long> vencidos = new ArrayList<>();
+        for (long agora = 0; agora <= 5_000 * TICK_MS; agora += 7 * TICK_MS) {
+            vencidos.addAll(aosPoucos.avancar(agora));
+        }
+        vencidos.addAll(aosPoucos.avancar(5_000 * TICK_MS));
+
+        assertThat(vencidos).hasSize(500).containsExactlyInAnyOrderElementsOf(deUmaVez.avancar(5_000 * TICK_MS));
+    }
+}